@@ -0,0 +1,256 @@
+package io.github.cnadjim.dynamic.search.processor;
+
+import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
+import io.github.cnadjim.dynamic.search.annotation.Searchable;
+import io.github.cnadjim.dynamic.search.annotation.SearchableExclude;
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadata;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor générant, pour chaque classe @EnableSearchable, une classe {@code <Entité>_SearchableFilters}
+ * implémentant FilterMetadata
+ * <p>
+ * Les règles d'extraction sont celles de FilterMetadataExtractor (champs hérités inclus, @SearchableExclude,
+ * champs static / transient et collections ignorés, auto-détection du type sans @Searchable) :
+ * le résultat est identique, mais calculé à la compilation au lieu du démarrage.
+ * <p>
+ * Le processor écrit également l'index des classes @EnableSearchable (FilterMetadata.INDEX_RESOURCE),
+ * utilisé par les starters pour découvrir les entités sans scanner le classpath.
+ * <p>
+ * Activation : ajouter dynamic-search-annotation-processor aux annotationProcessorPaths du maven-compiler-plugin.
+ */
+@SupportedAnnotationTypes("io.github.cnadjim.dynamic.search.annotation.EnableSearchable")
+public class SearchableFiltersProcessor extends AbstractProcessor {
+
+    private static final Set<String> NUMBER_TYPES = Set.of(
+            "java.lang.Integer", "java.lang.Long", "java.lang.Double", "java.lang.Float",
+            "java.lang.Short", "java.lang.Byte", "java.math.BigDecimal"
+    );
+
+    private static final Set<String> DATE_TYPES = Set.of(
+            "java.time.LocalDateTime", "java.time.LocalDate", "java.util.Date", "java.sql.Date", "java.sql.Timestamp"
+    );
+
+    /**
+     * Descripteur extrait d'un champ
+     */
+    private record GeneratedFilter(String key, FieldType fieldType, boolean nullable) {
+    }
+
+    /**
+     * Classes @EnableSearchable rencontrées sur l'ensemble des rounds, écrites dans l'index au dernier round
+     */
+    private final Set<String> indexedTypes = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(EnableSearchable.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            TypeElement entity = (TypeElement) element;
+            indexedTypes.add(processingEnv.getElementUtils().getBinaryName(entity).toString());
+
+            if (!isAccessibleFromPackage(entity)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Private @EnableSearchable class, filters will be extracted by reflection", entity);
+                continue;
+            }
+
+            try {
+                generate(entity, extractFilters(entity));
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Cannot generate searchable filters: " + e.getMessage(), entity);
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        if (indexedTypes.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", FilterMetadata.INDEX_RESOURCE);
+            try (Writer writer = index.openWriter()) {
+                for (String type : indexedTypes) {
+                    writer.write(type);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Cannot write searchable index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parcourt les champs de la classe puis ceux de ses superclasses, dans l'ordre de déclaration
+     */
+    private List<GeneratedFilter> extractFilters(TypeElement entity) {
+        List<GeneratedFilter> filters = new ArrayList<>();
+
+        TypeElement current = entity;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                GeneratedFilter filter = toFilter(field);
+                if (filter != null) {
+                    filters.add(filter);
+                }
+            }
+            current = superclass(current);
+        }
+
+        return filters;
+    }
+
+    private GeneratedFilter toFilter(VariableElement field) {
+        if (field.getAnnotation(SearchableExclude.class) != null
+                || field.getModifiers().contains(Modifier.STATIC)
+                || field.getModifiers().contains(Modifier.TRANSIENT)
+                || isCollectionOrMap(field.asType())) {
+            return null;
+        }
+
+        Searchable searchable = field.getAnnotation(Searchable.class);
+        if (searchable != null) {
+            String key = searchable.fieldName().isEmpty() ? field.getSimpleName().toString() : searchable.fieldName();
+            return new GeneratedFilter(key, searchable.type(), searchable.nullable());
+        }
+
+        FieldType detectedType = detectFieldType(field.asType());
+        return detectedType != null ? new GeneratedFilter(field.getSimpleName().toString(), detectedType, true) : null;
+    }
+
+    private FieldType detectFieldType(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind == TypeKind.BOOLEAN) {
+            return FieldType.BOOLEAN;
+        }
+        if (kind.isPrimitive()) {
+            return kind == TypeKind.CHAR ? null : FieldType.NUMBER;
+        }
+        if (kind != TypeKind.DECLARED) {
+            return null;
+        }
+
+        String typeName = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        if (NUMBER_TYPES.contains(typeName)) {
+            return FieldType.NUMBER;
+        }
+        if (DATE_TYPES.contains(typeName)) {
+            return FieldType.DATE;
+        }
+        if (typeName.equals("java.lang.Boolean")) {
+            return FieldType.BOOLEAN;
+        }
+        if (typeName.equals("java.lang.String")) {
+            return FieldType.STRING;
+        }
+        return null;
+    }
+
+    private boolean isCollectionOrMap(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        return isAssignableTo(erasure, "java.util.Collection") || isAssignableTo(erasure, "java.util.Map");
+    }
+
+    private boolean isAssignableTo(TypeMirror type, String qualifiedName) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(qualifiedName);
+        return target != null && processingEnv.getTypeUtils().isAssignable(type, processingEnv.getTypeUtils().erasure(target.asType()));
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    /**
+     * La classe générée référence l'entité depuis son package : l'entité et ses classes englobantes ne doivent pas être privées
+     */
+    private boolean isAccessibleFromPackage(TypeElement entity) {
+        Element current = entity;
+        while (current instanceof TypeElement) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement entity, List<GeneratedFilter> filters) throws IOException {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(entity).toString();
+        String generatedName = FilterMetadata.generatedClassName(binaryName);
+        String packageName = processingEnv.getElementUtils().getPackageOf(entity).getQualifiedName().toString();
+        String simpleName = generatedName.substring(generatedName.lastIndexOf('.') + 1);
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(generatedName, entity);
+        try (Writer writer = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;\n");
+            writer.write("import io.github.cnadjim.dynamic.search.model.FieldType;\n");
+            writer.write("import io.github.cnadjim.dynamic.search.model.FilterDescriptor;\n\n");
+            writer.write("import java.util.List;\n\n");
+            writer.write("/**\n * Descripteurs de filtres de " + entity.getQualifiedName() + ", générés à la compilation\n */\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n");
+            writer.write("public final class " + simpleName + " implements io.github.cnadjim.dynamic.search.metadata.FilterMetadata {\n\n");
+            writer.write("    public static final List<FilterDescriptor> FILTERS = List.of(");
+            for (int index = 0; index < filters.size(); index++) {
+                GeneratedFilter filter = filters.get(index);
+                writer.write(index == 0 ? "\n" : ",\n");
+                writer.write("            new FilterDescriptor(\"" + escape(filter.key()) + "\", FieldType." + filter.fieldType().name()
+                        + ", " + filter.nullable() + ", FilterMetadataExtractor.getOperatorsForFieldType(FieldType." + filter.fieldType().name() + "))");
+            }
+            writer.write("\n    );\n\n");
+            writer.write("    @Override\n    public Class<?> entityClass() {\n        return " + entity.getQualifiedName() + ".class;\n    }\n\n");
+            writer.write("    @Override\n    public List<FilterDescriptor> filters() {\n        return FILTERS;\n    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
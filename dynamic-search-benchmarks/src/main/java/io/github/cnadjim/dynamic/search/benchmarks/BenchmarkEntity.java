@@ -0,0 +1,32 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entité de référence des benchmarks : un champ par type filtrable
+ * Annotée JPA pour le CriteriaBuilder Hibernate, lue par réflexion par les builders MongoDB et Elasticsearch
+ */
+@Entity
+@EnableSearchable
+public class BenchmarkEntity {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String category;
+
+    private Integer quantity;
+
+    private BigDecimal price;
+
+    private LocalDateTime createdAt;
+
+    private Boolean active;
+}
@@ -0,0 +1,89 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterIndex;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.port.in.GetFieldTypeUseCase;
+import io.github.cnadjim.dynamic.search.spring.starter.mapper.SearchRequestMapper;
+import io.github.cnadjim.dynamic.search.spring.starter.request.FilterRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.PageRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.response.FilterOperatorResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Jeux de données des benchmarks : requêtes REST paramétrées par nombre de filtres et taille des listes IN
+ * Les filtres tournent sur tous les types de champs et mélangent égalités, intervalles, LIKE et listes IN
+ * (intervalles numériques uniquement : le backend Elasticsearch ne construit que des range numériques)
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * Résolution des types de champs telle que faite par le SearchService, sans contexte Spring
+     */
+    public static final GetFieldTypeUseCase FIELD_TYPES = new GetFieldTypeUseCase() {
+
+        private final FilterIndex index = FilterMetadataExtractor.index(BenchmarkEntity.class);
+
+        @Override
+        public <T> Optional<FieldType> findFieldTypeByKey(String key, Class<T> entityClass) {
+            return Optional.ofNullable(resolveFieldType(key, entityClass));
+        }
+
+        @Override
+        public <T> FieldType resolveFieldType(String key, Class<T> entityClass) {
+            return index.fieldType(key);
+        }
+    };
+
+    private static final int TEMPLATES = 8;
+
+    private BenchmarkFixtures() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    /**
+     * Construit une requête de filterCount filtres, les listes IN contenant inListSize valeurs
+     */
+    public static SearchRequest searchRequest(int filterCount, int inListSize) {
+        List<FilterRequest> filters = IntStream.range(0, filterCount)
+                .mapToObj(index -> filter(index, inListSize))
+                .toList();
+
+        return new SearchRequest(filters, List.of(), null, new PageRequest(0, 20));
+    }
+
+    /**
+     * Critères du domaine correspondant à searchRequest, tels que reçus par les adapters
+     */
+    public static SearchCriteria searchCriteria(int filterCount, int inListSize) {
+        return SearchRequestMapper.toDomain(searchRequest(filterCount, inListSize), BenchmarkEntity.class, FIELD_TYPES);
+    }
+
+    private static FilterRequest filter(int index, int inListSize) {
+        return switch (index % TEMPLATES) {
+            case 0 -> in("name", inListSize, value -> "name-" + value);
+            case 1 -> in("quantity", inListSize, value -> value);
+            case 2 -> new FilterRequest("createdAt", FilterOperatorResponse.EQUALS, "31/12/2024 23:59:59", null, null);
+            case 3 -> new FilterRequest("category", FilterOperatorResponse.CONTAINS, "cat-" + index, null, null);
+            case 4 -> new FilterRequest("price", FilterOperatorResponse.GREATER_THAN, "19.99", null, null);
+            case 5 -> new FilterRequest("active", FilterOperatorResponse.EQUALS, "true", null, null);
+            case 6 -> new FilterRequest("quantity", FilterOperatorResponse.BETWEEN, "10", "500", null);
+            default -> in("category", inListSize, value -> "cat-" + value);
+        };
+    }
+
+    private static FilterRequest in(String key, int size, IntFunction<Object> value) {
+        List<Object> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(value.apply(i));
+        }
+        return new FilterRequest(key, FilterOperatorResponse.IN, null, null, values);
+    }
+}
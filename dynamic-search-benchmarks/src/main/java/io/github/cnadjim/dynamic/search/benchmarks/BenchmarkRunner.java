@@ -0,0 +1,29 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée du jar de benchmarks : options JMH en ligne de commande, profiler GC toujours actif
+ * (gc.alloc.rate.norm = octets alloués par opération)
+ * <p>
+ * Exemple : java -jar target/benchmarks.jar GenericSpecification -p filterCount=20
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
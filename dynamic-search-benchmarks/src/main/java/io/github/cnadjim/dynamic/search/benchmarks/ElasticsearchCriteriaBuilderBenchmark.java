@@ -0,0 +1,38 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.spring.elasticsearch.criteria.ElasticsearchCriteriaBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traduction des critères du domaine en NativeQuery Elasticsearch (arbre bool du client Java)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElasticsearchCriteriaBuilderBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int filterCount;
+
+    @Param({"1", "10", "100"})
+    private int inListSize;
+
+    private SearchCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        criteria = BenchmarkFixtures.searchCriteria(filterCount, inListSize);
+    }
+
+    @Benchmark
+    public NativeQuery buildQuery() {
+        return ElasticsearchCriteriaBuilder.buildQuery(criteria, BenchmarkEntity.class);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.spring.starter.util.FieldTypeParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing des valeurs de filtres : chaque format de date supporté (détecté en une passe)
+ * et les nombres entiers / décimaux
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldTypeParserBenchmark {
+
+    @Param({
+            "2024-12-03T10:00:00",
+            "2024-12-03 10:00:00",
+            "03-12-2024 10:00:00",
+            "03/12/2024 10:00:00",
+            "2024-12-03"
+    })
+    private String date;
+
+    @Param({"42", "9999999999", "19.99"})
+    private String number;
+
+    @Benchmark
+    public Object parseDate() {
+        return FieldTypeParser.parse(FieldType.DATE, date);
+    }
+
+    @Benchmark
+    public Object parseNumber() {
+        return FieldTypeParser.parse(FieldType.NUMBER, number);
+    }
+}
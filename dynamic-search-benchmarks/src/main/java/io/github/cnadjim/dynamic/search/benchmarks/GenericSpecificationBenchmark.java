@@ -0,0 +1,59 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.spring.jpa.specification.GenericSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction du prédicat JPA par GenericSpecification sur le CriteriaBuilder Hibernate d'une base H2 en mémoire
+ * Aucune requête n'est exécutée : seul l'arbre de critères est mesuré
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericSpecificationBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int filterCount;
+
+    @Param({"1", "10", "100"})
+    private int inListSize;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private GenericSpecification<BenchmarkEntity> specification;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(BenchmarkEntity.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "create-drop")
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+        specification = new GenericSpecification<>(BenchmarkFixtures.searchCriteria(filterCount, inListSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate toPredicate() {
+        CriteriaQuery<BenchmarkEntity> query = cb.createQuery(BenchmarkEntity.class);
+        Root<BenchmarkEntity> root = query.from(BenchmarkEntity.class);
+        return specification.toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.spring.mongo.criteria.MongoCriteriaBuilder;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traduction des critères du domaine en requête MongoDB, jusqu'au document BSON envoyé au driver
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MongoCriteriaBuilderBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int filterCount;
+
+    @Param({"1", "10", "100"})
+    private int inListSize;
+
+    private SearchCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        criteria = BenchmarkFixtures.searchCriteria(filterCount, inListSize);
+    }
+
+    @Benchmark
+    public Document buildQuery() {
+        return MongoCriteriaBuilder.buildQuery(criteria, BenchmarkEntity.class).getQueryObject();
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.cnadjim.dynamic.search.benchmarks;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.spring.starter.mapper.SearchRequestMapper;
+import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion d'une SearchRequest REST en SearchCriteria du domaine (résolution des types de champs incluse)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchRequestMapperBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int filterCount;
+
+    @Param({"1", "10", "100"})
+    private int inListSize;
+
+    private SearchRequest request;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkFixtures.searchRequest(filterCount, inListSize);
+    }
+
+    @Benchmark
+    public SearchCriteria toDomain() {
+        return SearchRequestMapper.toDomain(request, BenchmarkEntity.class, BenchmarkFixtures.FIELD_TYPES);
+    }
+}
@@ -29,4 +29,28 @@ public @interface EnableSearchable {
      */
     String beanName() default "";
 
+    /**
+     * Durée de vie en secondes des résultats de recherche en cache pour cette entité (optionnel)
+     * -1 : durée par défaut du cache, 0 : aucun cache pour cette entité
+     * Une durée configurée dans dynamic-search.cache.entities prime sur cette valeur
+     */
+    long cacheTtlSeconds() default -1;
+
+    /**
+     * Colonne tsvector de la table utilisée par la recherche full-text sur PostgreSQL (optionnel)
+     * Colonne générée sur les champs STRING searchable, indexée en GIN ; elle n'est pas mappée par l'entité.
+     * Vide : la recherche full-text est un CONTAINS insensible à la casse sur chaque champ STRING
+     */
+    String fullTextColumn() default "";
+
+    /**
+     * Configuration de recherche textuelle PostgreSQL de la colonne fullTextColumn (simple, english, french...)
+     */
+    String fullTextConfiguration() default "simple";
+
+    /**
+     * Trie les résultats d'une recherche full-text par pertinence (ts_rank) lorsqu'aucun tri n'est demandé
+     */
+    boolean fullTextRanking() default false;
+
 }
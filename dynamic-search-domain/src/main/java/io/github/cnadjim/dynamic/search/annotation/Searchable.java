@@ -39,4 +39,14 @@ public @interface Searchable {
      */
     String fieldName() default "";
 
+    /**
+     * Champ String de la même classe recevant la valeur normalisée de ce champ (optionnel)
+     * La valeur normalisée est en minuscules et sans accents ; elle est recopiée à chaque écriture de l'entité
+     * (listener JPA, callbacks MongoDB et Elasticsearch). Les filtres textuels (EQUALS, NOT_EQUALS, IN, NOT_IN,
+     * CONTAINS, NOT_CONTAINS, STARTS_WITH, ENDS_WITH) comparent alors la saisie normalisée à ce champ, sans fonction
+     * appliquée à la colonne : ils deviennent insensibles à la casse et aux accents, et utilisent son index.
+     * Par défaut: aucun champ normalisé
+     */
+    String normalizedField() default "";
+
 }
@@ -0,0 +1,102 @@
+package io.github.cnadjim.dynamic.search.metadata;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lecteur de champs d'entités par réflexion
+ * Les champs résolus sont mis en cache par classe afin de ne parcourir la hiérarchie qu'une seule fois
+ * Utilitaire partagé entre les différentes implémentations (JPA, MongoDB, Elasticsearch)
+ */
+public final class EntityFieldReader {
+
+    private static final ClassValue<Map<String, Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private EntityFieldReader() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    /**
+     * Lit la valeur d'un champ (déclaré ou hérité) sur une instance d'entité
+     *
+     * @param entity    Instance de l'entité
+     * @param fieldName Nom du champ Java
+     * @return Valeur du champ (peut être null)
+     * @throws IllegalArgumentException si le champ n'existe pas
+     */
+    public static Object read(Object entity, String fieldName) {
+        Field field = FIELDS.get(entity.getClass()).computeIfAbsent(fieldName, name -> resolve(entity.getClass(), name));
+        try {
+            return field.get(entity);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read field " + fieldName + " on " + entity.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Type Java d'un champ (déclaré ou hérité)
+     *
+     * @param type      Classe de l'entité (peut être null)
+     * @param fieldName Nom du champ Java
+     * @return Type du champ, ou null si la classe est inconnue ou ne déclare pas ce champ
+     */
+    public static Class<?> fieldType(Class<?> type, String fieldName) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            return FIELDS.get(type).computeIfAbsent(fieldName, name -> resolve(type, name)).getType();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lit une valeur de tri sur une ligne, qu'il s'agisse d'une entité ou d'une ligne projetée (map)
+     *
+     * @param row       Entité ou map nom du champ -> valeur
+     * @param fieldName Nom du champ
+     * @return Valeur du champ (peut être null)
+     */
+    public static Object readValue(Object row, String fieldName) {
+        return row instanceof Map<?, ?> map ? map.get(fieldName) : read(row, fieldName);
+    }
+
+    /**
+     * Construit une ligne projetée à partir d'une entité
+     *
+     * @param entity     Instance de l'entité (éventuellement partiellement chargée)
+     * @param fieldNames Champs à reporter, dans l'ordre souhaité
+     * @return Map ordonnée nom du champ -> valeur
+     */
+    public static Map<String, Object> toMap(Object entity, Collection<String> fieldNames) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            row.put(fieldName, read(entity, fieldName));
+        }
+        return row;
+    }
+
+    private static Field resolve(Class<?> type, String fieldName) {
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            try {
+                Field field = current.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException e) {
+                current = current.getSuperclass();
+            }
+        }
+        throw new IllegalArgumentException("Unknown field " + fieldName + " on " + type.getName());
+    }
+
+}
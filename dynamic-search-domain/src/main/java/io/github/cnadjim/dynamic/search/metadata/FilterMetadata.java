@@ -0,0 +1,48 @@
+package io.github.cnadjim.dynamic.search.metadata;
+
+import io.github.cnadjim.dynamic.search.model.FilterDescriptor;
+
+import java.util.List;
+
+/**
+ * Métadonnées de filtres d'une entité générées à la compilation par le module dynamic-search-annotation-processor
+ * <p>
+ * La classe générée se nomme {@code <Entité>_SearchableFilters} et se trouve dans le package de l'entité.
+ * Lorsqu'elle est présente, FilterMetadataExtractor l'utilise à la place de la réflexion.
+ */
+public interface FilterMetadata {
+
+    /**
+     * Suffixe du nom des classes générées
+     */
+    String GENERATED_SUFFIX = "_SearchableFilters";
+
+    /**
+     * Index des classes @EnableSearchable écrit à la compilation (un nom binaire par ligne)
+     * Lorsqu'il est présent sur le classpath, la découverte des entités se fait sans scan
+     */
+    String INDEX_RESOURCE = "META-INF/dynamic-search/searchable.index";
+
+    /**
+     * Classe de l'entité décrite
+     */
+    Class<?> entityClass();
+
+    /**
+     * Descripteurs de filtres de l'entité, dans l'ordre de déclaration des champs
+     */
+    List<FilterDescriptor> filters();
+
+    /**
+     * Nom qualifié de la classe générée pour une entité
+     * Les classes imbriquées sont aplaties : {@code pkg.Outer$Inner} donne {@code pkg.Outer_Inner_SearchableFilters}
+     *
+     * @param entityBinaryName Nom binaire de l'entité (Class.getName())
+     * @return Nom qualifié de la classe générée
+     */
+    static String generatedClassName(String entityBinaryName) {
+        int lastDot = entityBinaryName.lastIndexOf('.');
+        String packagePrefix = entityBinaryName.substring(0, lastDot + 1);
+        return packagePrefix + entityBinaryName.substring(lastDot + 1).replace('$', '_') + GENERATED_SUFFIX;
+    }
+}
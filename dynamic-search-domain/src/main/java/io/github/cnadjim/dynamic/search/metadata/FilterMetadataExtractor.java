@@ -4,6 +4,7 @@ import io.github.cnadjim.dynamic.search.annotation.Searchable;
 import io.github.cnadjim.dynamic.search.annotation.SearchableExclude;
 import io.github.cnadjim.dynamic.search.model.FieldType;
 import io.github.cnadjim.dynamic.search.model.FilterDescriptor;
+import io.github.cnadjim.dynamic.search.model.FilterIndex;
 import io.github.cnadjim.dynamic.search.model.FilterOperator;
 
 import java.lang.reflect.Field;
@@ -26,7 +27,103 @@ import java.util.*;
 public class FilterMetadataExtractor {
 
     /**
-     * Extrait les descripteurs de filtres d'une classe annotée @EnableSearchable
+     * Index compilés par classe : la réflexion n'est effectuée qu'une fois par entité
+     */
+    private static final ClassValue<FilterIndex> INDEXES = new ClassValue<>() {
+        @Override
+        protected FilterIndex computeValue(Class<?> type) {
+            return FilterIndex.of(resolveFilters(type));
+        }
+    };
+
+    private static final Set<FilterOperator> STRING_OPERATORS = Collections.unmodifiableSet(EnumSet.of(
+            FilterOperator.EQUALS,
+            FilterOperator.NOT_EQUALS,
+            FilterOperator.CONTAINS,
+            FilterOperator.NOT_CONTAINS,
+            FilterOperator.STARTS_WITH,
+            FilterOperator.ENDS_WITH,
+            FilterOperator.IN,
+            FilterOperator.NOT_IN,
+            FilterOperator.BLANK,
+            FilterOperator.NOT_BLANK
+    ));
+
+    private static final Set<FilterOperator> BOOLEAN_OPERATORS = Collections.unmodifiableSet(EnumSet.of(
+            FilterOperator.EQUALS,
+            FilterOperator.NOT_EQUALS,
+            FilterOperator.BLANK,
+            FilterOperator.NOT_BLANK
+    ));
+
+    private static final Set<FilterOperator> NUMBER_OPERATORS = Collections.unmodifiableSet(EnumSet.of(
+            FilterOperator.CONTAINS,
+            FilterOperator.NOT_CONTAINS,
+            FilterOperator.EQUALS,
+            FilterOperator.NOT_EQUALS,
+            FilterOperator.GREATER_THAN,
+            FilterOperator.LESS_THAN,
+            FilterOperator.IN,
+            FilterOperator.NOT_IN,
+            FilterOperator.BETWEEN,
+            FilterOperator.BLANK,
+            FilterOperator.NOT_BLANK
+    ));
+
+    private static final Set<FilterOperator> DATE_OPERATORS = Collections.unmodifiableSet(EnumSet.of(
+            FilterOperator.EQUALS,
+            FilterOperator.NOT_EQUALS,
+            FilterOperator.GREATER_THAN,
+            FilterOperator.LESS_THAN,
+            FilterOperator.IN,
+            FilterOperator.NOT_IN,
+            FilterOperator.BETWEEN,
+            FilterOperator.BLANK,
+            FilterOperator.NOT_BLANK
+    ));
+
+    /**
+     * Retourne l'index compilé des filtres d'une classe, calculé au premier appel puis mis en cache
+     * À privilégier sur extractFilters pour les accès effectués à chaque requête
+     *
+     * @param entityClass Classe à analyser
+     * @return Index des filtres disponibles
+     */
+    public static FilterIndex index(Class<?> entityClass) {
+        return INDEXES.get(entityClass);
+    }
+
+    /**
+     * Retourne les descripteurs de filtres d'une classe annotée @EnableSearchable
+     * Utilise la classe générée à la compilation (FilterMetadata) si elle existe, la réflexion sinon
+     *
+     * @param entityClass Classe à analyser
+     * @return Liste des descripteurs de filtres disponibles
+     */
+    public static List<FilterDescriptor> resolveFilters(Class<?> entityClass) {
+        FilterMetadata generated = loadGenerated(entityClass);
+        return generated != null ? generated.filters() : extractFilters(entityClass);
+    }
+
+    /**
+     * Charge la classe générée par l'annotation processor pour l'entité (null si absente ou obsolète)
+     */
+    private static FilterMetadata loadGenerated(Class<?> entityClass) {
+        try {
+            Class<?> generatedClass = Class.forName(FilterMetadata.generatedClassName(entityClass.getName()), true, entityClass.getClassLoader());
+            if (!FilterMetadata.class.isAssignableFrom(generatedClass)) {
+                return null;
+            }
+
+            FilterMetadata metadata = (FilterMetadata) generatedClass.getDeclaredConstructor().newInstance();
+            return metadata.entityClass() == entityClass ? metadata : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Extrait par réflexion les descripteurs de filtres d'une classe annotée @EnableSearchable
      * <p>
      * Par défaut, tous les champs sont searchable sauf:
      * - Les champs annotés @SearchableExclude
@@ -151,51 +248,14 @@ public class FilterMetadataExtractor {
 
     /**
      * Détermine les opérateurs disponibles selon le type de champ
+     * Public pour être référencé par les classes générées à la compilation
      */
-    private static Set<FilterOperator> getOperatorsForFieldType(FieldType fieldType) {
+    public static Set<FilterOperator> getOperatorsForFieldType(FieldType fieldType) {
         return switch (fieldType) {
-            case STRING -> Set.of(
-                    FilterOperator.EQUALS,
-                    FilterOperator.NOT_EQUALS,
-                    FilterOperator.CONTAINS,
-                    FilterOperator.NOT_CONTAINS,
-                    FilterOperator.STARTS_WITH,
-                    FilterOperator.ENDS_WITH,
-                    FilterOperator.IN,
-                    FilterOperator.NOT_IN,
-                    FilterOperator.BLANK,
-                    FilterOperator.NOT_BLANK
-            );
-            case BOOLEAN -> Set.of(
-                    FilterOperator.EQUALS,
-                    FilterOperator.NOT_EQUALS,
-                    FilterOperator.BLANK,
-                    FilterOperator.NOT_BLANK
-            );
-            case NUMBER -> Set.of(
-                    FilterOperator.CONTAINS,
-                    FilterOperator.NOT_CONTAINS,
-                    FilterOperator.EQUALS,
-                    FilterOperator.NOT_EQUALS,
-                    FilterOperator.GREATER_THAN,
-                    FilterOperator.LESS_THAN,
-                    FilterOperator.IN,
-                    FilterOperator.NOT_IN,
-                    FilterOperator.BETWEEN,
-                    FilterOperator.BLANK,
-                    FilterOperator.NOT_BLANK
-            );
-            case DATE -> Set.of(
-                    FilterOperator.EQUALS,
-                    FilterOperator.NOT_EQUALS,
-                    FilterOperator.GREATER_THAN,
-                    FilterOperator.LESS_THAN,
-                    FilterOperator.IN,
-                    FilterOperator.NOT_IN,
-                    FilterOperator.BETWEEN,
-                    FilterOperator.BLANK,
-                    FilterOperator.NOT_BLANK
-            );
+            case STRING -> STRING_OPERATORS;
+            case BOOLEAN -> BOOLEAN_OPERATORS;
+            case NUMBER -> NUMBER_OPERATORS;
+            case DATE -> DATE_OPERATORS;
         };
     }
 
@@ -0,0 +1,184 @@
+package io.github.cnadjim.dynamic.search.metadata;
+
+import io.github.cnadjim.dynamic.search.annotation.Searchable;
+import io.github.cnadjim.dynamic.search.model.FilterOperator;
+
+import java.lang.reflect.Field;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Champs normalisés d'une entité, déclarés par @Searchable(normalizedField)
+ * <p>
+ * Chaque champ STRING concerné est doublé d'un champ portant sa valeur en minuscules et sans accents :
+ * - À l'écriture : apply recopie la valeur normalisée (listener JPA, callbacks MongoDB / Elasticsearch)
+ * - À la recherche : les filtres textuels comparent la saisie normalisée au champ normalisé, tel quel,
+ *   ce qui permet à la base d'utiliser son index (égalité, IN et préfixe)
+ */
+public final class NormalizedFields {
+
+    /**
+     * Opérateurs comparant la saisie au champ normalisé ; les autres (BLANK, NOT_BLANK) portent sur le champ d'origine
+     */
+    private static final Set<FilterOperator> NORMALIZED_OPERATORS = Collections.unmodifiableSet(EnumSet.of(
+            FilterOperator.EQUALS,
+            FilterOperator.NOT_EQUALS,
+            FilterOperator.IN,
+            FilterOperator.NOT_IN,
+            FilterOperator.CONTAINS,
+            FilterOperator.NOT_CONTAINS,
+            FilterOperator.STARTS_WITH,
+            FilterOperator.ENDS_WITH
+    ));
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final NormalizedFields NONE = new NormalizedFields(Map.of(), List.of());
+
+    /**
+     * Champs normalisés par classe : la réflexion n'est effectuée qu'une fois par entité
+     */
+    private static final ClassValue<NormalizedFields> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected NormalizedFields computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Clé du champ normalisé indexée par clé de filtre
+     */
+    private final Map<String, String> shadowKeys;
+
+    private final List<Binding> bindings;
+
+    private NormalizedFields(Map<String, String> shadowKeys, List<Binding> bindings) {
+        this.shadowKeys = Map.copyOf(shadowKeys);
+        this.bindings = List.copyOf(bindings);
+    }
+
+    /**
+     * Champs normalisés d'une classe, résolus au premier appel puis mis en cache
+     *
+     * @param entityClass Classe de l'entité
+     * @return Les champs normalisés (vide si la classe n'en déclare pas)
+     * @throws IllegalArgumentException si un champ normalisé déclaré n'existe pas ou n'est pas un String
+     */
+    public static NormalizedFields of(Class<?> entityClass) {
+        return BY_CLASS.get(entityClass);
+    }
+
+    /**
+     * Normalise une valeur : décomposition Unicode, suppression des accents, minuscules
+     * Le même calcul est appliqué aux valeurs enregistrées et aux valeurs recherchées
+     *
+     * @param value Valeur à normaliser (peut être null)
+     * @return La valeur normalisée, null si la valeur est null
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (isLowerAscii(value)) {
+            return value;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public boolean isEmpty() {
+        return bindings.isEmpty();
+    }
+
+    /**
+     * Champ normalisé interrogé par un filtre
+     *
+     * @param key      Clé du filtre
+     * @param operator Opérateur du filtre
+     * @return La clé du champ normalisé, ou null si le filtre porte sur le champ d'origine
+     */
+    public String shadowKey(String key, FilterOperator operator) {
+        return NORMALIZED_OPERATORS.contains(operator) ? shadowKeys.get(key) : null;
+    }
+
+    /**
+     * Recopie dans chaque champ normalisé la valeur normalisée de son champ d'origine
+     *
+     * @param entity Entité sur le point d'être écrite
+     */
+    public void apply(Object entity) {
+        for (Binding binding : bindings) {
+            try {
+                binding.shadow().set(entity, normalize((String) binding.source().get(entity)));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot write normalized field: " + binding.shadow().getName(), e);
+            }
+        }
+    }
+
+    private static NormalizedFields resolve(Class<?> entityClass) {
+        Map<String, String> shadowKeys = new HashMap<>();
+        List<Binding> bindings = new ArrayList<>();
+
+        for (Class<?> current = entityClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field source : current.getDeclaredFields()) {
+                Searchable searchable = source.getAnnotation(Searchable.class);
+                if (searchable == null || searchable.normalizedField().isEmpty()) {
+                    continue;
+                }
+
+                Field shadow = findField(entityClass, searchable.normalizedField());
+                if (source.getType() != String.class || shadow == null || shadow.getType() != String.class) {
+                    throw new IllegalArgumentException("Invalid normalized field " + searchable.normalizedField()
+                            + " for " + entityClass.getSimpleName() + "." + source.getName() + ": both fields must be String");
+                }
+
+                source.setAccessible(true);
+                shadow.setAccessible(true);
+                String key = searchable.fieldName().isEmpty() ? source.getName() : searchable.fieldName();
+                shadowKeys.putIfAbsent(key, shadow.getName());
+                bindings.add(new Binding(source, shadow));
+            }
+        }
+
+        return bindings.isEmpty() ? NONE : new NormalizedFields(shadowKeys, bindings);
+    }
+
+    private static Field findField(Class<?> entityClass, String name) {
+        for (Class<?> current = entityClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Cas courant sans conversion : uniquement des caractères ASCII non majuscules
+     */
+    private static boolean isLowerAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > 0x7F || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Champ d'origine et champ normalisé
+     */
+    private record Binding(Field source, Field shadow) {
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.cnadjim.dynamic.search.model;
+
+/**
+ * Stratégies de comptage du nombre total d'éléments d'une recherche
+ */
+public enum CountMode {
+    /**
+     * Comptage exact (COUNT(*) complet) - Précis mais coûteux sur de gros volumes
+     */
+    EXACT,
+
+    /**
+     * Comptage plafonné - Le comptage s'arrête à la limite, le total vaut alors "au moins" la limite
+     */
+    CAPPED,
+
+    /**
+     * Estimation à partir des statistiques du moteur (planificateur, métadonnées de collection)
+     * Repli sur un comptage plafonné lorsque aucune estimation n'est disponible
+     */
+    ESTIMATED,
+
+    /**
+     * Aucun comptage - Seule la présence d'une page suivante est déterminée
+     */
+    NONE
+}
@@ -0,0 +1,39 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+
+/**
+ * Résultat d'un comptage - Objet de valeur du domaine
+ * Associe le nombre obtenu à la stratégie qui l'a réellement produit
+ *
+ * @param totalElements Nombre d'éléments (-1 si aucun comptage n'a été effectué)
+ * @param mode          Stratégie ayant produit le nombre
+ */
+public record CountResult(
+        long totalElements,
+        CountMode mode
+) implements Serializable {
+
+    public static CountResult exact(long totalElements) {
+        return new CountResult(totalElements, CountMode.EXACT);
+    }
+
+    public static CountResult capped(long totalElements) {
+        return new CountResult(totalElements, CountMode.CAPPED);
+    }
+
+    public static CountResult estimated(long totalElements) {
+        return new CountResult(totalElements, CountMode.ESTIMATED);
+    }
+
+    public static CountResult none() {
+        return new CountResult(-1, CountMode.NONE);
+    }
+
+    /**
+     * Vérifie si un nombre a été calculé
+     */
+    public boolean isCounted() {
+        return mode != CountMode.NONE;
+    }
+}
@@ -4,9 +4,22 @@ import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
 
 import java.util.List;
 
+/**
+ * Descripteur d'une entité enregistrée
+ *
+ * @param entityClass      Classe de l'entité
+ * @param filters          Filtres disponibles, dans l'ordre de déclaration
+ * @param entityRepository Adaptateur du backend de l'entité
+ * @param filterIndex      Index des filtres compilé à l'enregistrement
+ */
 public record EntityDescriptor<T>(
         Class<T> entityClass,
         List<FilterDescriptor> filters,
-        EntityRepository<T> entityRepository
+        EntityRepository<T> entityRepository,
+        FilterIndex filterIndex
 ) {
+
+    public EntityDescriptor(Class<T> entityClass, List<FilterDescriptor> filters, EntityRepository<T> entityRepository) {
+        this(entityClass, filters, entityRepository, FilterIndex.of(filters));
+    }
 }
@@ -0,0 +1,15 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+
+/**
+ * Valeur d'une facette et nombre d'éléments correspondants - Objet de valeur du domaine
+ *
+ * @param value Valeur du champ (peut être null)
+ * @param count Nombre d'éléments ayant cette valeur sous les filtres courants
+ */
+public record FacetBucket(
+        Object value,
+        long count
+) implements Serializable {
+}
@@ -0,0 +1,54 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+
+/**
+ * Critère de facette - Objet de valeur du domaine
+ * Demande le décompte des valeurs distinctes d'un champ sous les filtres courants
+ *
+ * @param key  Nom du champ à agréger
+ * @param size Nombre maximum de valeurs retournées, les plus fréquentes en premier (DEFAULT_SIZE si null)
+ */
+public record FacetCriteria(
+        String key,
+        Integer size
+) implements Serializable {
+
+    /**
+     * Nombre de valeurs retournées lorsqu'aucune taille n'est précisée
+     */
+    public static final int DEFAULT_SIZE = 10;
+
+    /**
+     * Taille effective de la facette
+     */
+    public int effectiveSize() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+
+    /**
+     * Builder pour FacetCriteria
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String key;
+        private Integer size;
+
+        public Builder key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        public Builder size(Integer size) {
+            this.size = size;
+            return this;
+        }
+
+        public FacetCriteria build() {
+            return new FacetCriteria(key, size);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Résultat d'une facette - Objet de valeur du domaine
+ *
+ * @param key     Nom du champ agrégé
+ * @param buckets Valeurs triées par nombre d'éléments décroissant
+ */
+public record FacetResult(
+        String key,
+        List<FacetBucket> buckets
+) implements Serializable {
+}
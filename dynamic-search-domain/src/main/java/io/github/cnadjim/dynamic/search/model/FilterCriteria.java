@@ -1,6 +1,8 @@
 package io.github.cnadjim.dynamic.search.model;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -9,17 +11,17 @@ import java.util.List;
  * @param key Nom du champ à filtrer
  * @param operator Opérateur de filtrage (EQUAL, LIKE, IN, etc.)
  * @param fieldType Type du champ (STRING, INTEGER, DATE, etc.)
- * @param value Valeur pour les opérateurs simples (EQUAL, LIKE, etc.)
- * @param valueTo Valeur de fin pour l'opérateur BETWEEN
- * @param values Liste de valeurs pour l'opérateur IN
+ * @param value Valeur typée pour les opérateurs simples (EQUAL, LIKE, etc.)
+ * @param valueTo Valeur typée de fin pour l'opérateur BETWEEN
+ * @param values Liste de valeurs typées pour l'opérateur IN (LongValueList pour une liste d'entiers)
  */
 public record FilterCriteria(
         String key,
         FilterOperator operator,
         FieldType fieldType,
-        Object value,
-        Object valueTo,
-        List<Object> values
+        FilterValue value,
+        FilterValue valueTo,
+        List<FilterValue> values
 ) implements Serializable {
 
     /**
@@ -35,7 +37,7 @@ public record FilterCriteria(
         private FieldType fieldType;
         private Object value;
         private Object valueTo;
-        private List<Object> values;
+        private List<?> values;
 
         public Builder key(String key) {
             this.key = key;
@@ -62,13 +64,54 @@ public record FilterCriteria(
             return this;
         }
 
-        public Builder values(List<Object> values) {
+        public Builder values(List<?> values) {
             this.values = values;
             return this;
         }
 
+        /**
+         * Type les valeurs brutes selon le type du champ et l'opérateur : c'est la seule lecture des valeurs du filtre
+         */
         public FilterCriteria build() {
-            return new FilterCriteria(key, operator, fieldType, value, valueTo, values);
+            return new FilterCriteria(key, operator, fieldType,
+                    FilterValue.of(fieldType, operator, value),
+                    FilterValue.of(fieldType, operator, valueTo),
+                    typedValues());
+        }
+
+        /**
+         * Une liste NUMBER entièrement entière est portée par un long[] (LongValueList), les autres par une liste de FilterValue
+         */
+        @SuppressWarnings("unchecked")
+        private List<FilterValue> typedValues() {
+            if (values == null || values instanceof LongValueList) {
+                return (List<FilterValue>) values;
+            }
+            if (fieldType != FieldType.NUMBER) {
+                return values.stream()
+                        .map(raw -> FilterValue.of(fieldType, operator, raw))
+                        .toList();
+            }
+
+            long[] longs = new long[values.size()];
+            List<FilterValue> typed = null;
+            int index = 0;
+            for (Object raw : values) {
+                FilterValue value = FilterValue.of(fieldType, operator, raw);
+                if (typed == null && value instanceof FilterValue.LongValue(long number)) {
+                    longs[index++] = number;
+                } else {
+                    if (typed == null) {
+                        // Première valeur non entière : les entiers déjà lus rejoignent une liste générique
+                        typed = new ArrayList<>(longs.length);
+                        for (int i = 0; i < index; i++) {
+                            typed.add(new FilterValue.LongValue(longs[i]));
+                        }
+                    }
+                    typed.add(value);
+                }
+            }
+            return typed == null ? new LongValueList(longs) : Collections.unmodifiableList(typed);
         }
     }
 
@@ -1,6 +1,8 @@
 package io.github.cnadjim.dynamic.search.model;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
 
 /**
@@ -31,5 +33,8 @@ public record FilterDescriptor(
         if (availableOperators == null || availableOperators.isEmpty()) {
             throw new IllegalArgumentException("Available operators cannot be null or empty");
         }
+
+        // EnumSet : appartenance testée par un simple masque de bits
+        availableOperators = Collections.unmodifiableSet(EnumSet.copyOf(availableOperators));
     }
 }
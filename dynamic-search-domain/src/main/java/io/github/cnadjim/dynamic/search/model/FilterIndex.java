@@ -0,0 +1,87 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index compilé des filtres d'une entité, construit une seule fois à l'enregistrement
+ * Remplace les parcours linéaires de la liste des descripteurs par des accès directs par clé
+ *
+ * @param filters         Descripteurs dans l'ordre de déclaration
+ * @param filtersByKey    Descripteurs indexés par clé
+ * @param stringFieldKeys Clés des champs STRING (champs interrogés par la recherche full-text)
+ */
+public record FilterIndex(
+        List<FilterDescriptor> filters,
+        Map<String, FilterDescriptor> filtersByKey,
+        List<String> stringFieldKeys
+) {
+
+    public FilterIndex {
+        filters = List.copyOf(filters);
+        filtersByKey = Map.copyOf(filtersByKey);
+        stringFieldKeys = List.copyOf(stringFieldKeys);
+    }
+
+    /**
+     * Compile l'index à partir des descripteurs extraits de l'entité
+     * En cas de clé dupliquée, le premier descripteur déclaré est conservé
+     */
+    public static FilterIndex of(List<FilterDescriptor> filters) {
+        Map<String, FilterDescriptor> filtersByKey = new HashMap<>();
+        List<String> stringFieldKeys = new ArrayList<>();
+
+        for (FilterDescriptor filter : filters) {
+            if (filtersByKey.putIfAbsent(filter.key(), filter) == null && filter.fieldType() == FieldType.STRING) {
+                stringFieldKeys.add(filter.key());
+            }
+        }
+
+        return new FilterIndex(filters, filtersByKey, stringFieldKeys);
+    }
+
+    /**
+     * @return Le descripteur du champ, ou null si le champ n'est pas filtrable
+     */
+    public FilterDescriptor filter(String key) {
+        return filtersByKey.get(key);
+    }
+
+    /**
+     * @return Le type du champ, ou null si le champ n'est pas filtrable
+     */
+    public FieldType fieldType(String key) {
+        FilterDescriptor filter = filtersByKey.get(key);
+        return filter != null ? filter.fieldType() : null;
+    }
+
+    public boolean contains(String key) {
+        return filtersByKey.containsKey(key);
+    }
+
+    /**
+     * @return true si le champ est filtrable et déclaré nullable (false pour un champ inconnu, l'identifiant par exemple)
+     */
+    public boolean isNullable(String key) {
+        FilterDescriptor filter = filtersByKey.get(key);
+        return filter != null && filter.nullable();
+    }
+
+    public boolean isString(String key) {
+        return fieldType(key) == FieldType.STRING;
+    }
+
+    public boolean hasStringFields() {
+        return !stringFieldKeys.isEmpty();
+    }
+
+    /**
+     * Indique si l'opérateur est disponible pour le champ (faux si le champ n'est pas filtrable)
+     */
+    public boolean supports(String key, FilterOperator operator) {
+        FilterDescriptor filter = filtersByKey.get(key);
+        return filter != null && filter.availableOperators().contains(operator);
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Valeur d'un filtre, typée une seule fois lors de la conversion de la requête - Objet de valeur du domaine
+ * Les adaptateurs consomment directement la valeur typée, sans relire la chaîne d'origine
+ * <p>
+ * - NUMBER : LongValue pour un entier, DoubleValue pour un décimal, DecimalValue pour les écritures hors double
+ * - DATE : DateTimeValue, qui indique si la date a été fournie sans heure (yyyy-MM-dd)
+ * - BOOLEAN : BooleanValue
+ * - STRING, opérateurs textuels et dates non reconnues : TextValue
+ */
+public sealed interface FilterValue extends Serializable {
+
+    /**
+     * Valeur à lier à la requête native (Integer, Long, Double, BigDecimal, LocalDateTime, Boolean ou String)
+     */
+    Object object();
+
+    /**
+     * Représentation textuelle, utilisée par les opérateurs textuels et les moteurs interrogés par chaîne
+     */
+    String text();
+
+    /**
+     * Type la valeur brute d'un filtre
+     * Les opérateurs textuels (CONTAINS, STARTS_WITH...) conservent toujours le texte, quel que soit le type du champ ;
+     * les nombres JSON entiers ou décimaux sont repris sans repasser par leur écriture
+     *
+     * @param fieldType Type du champ (STRING si inconnu)
+     * @param operator  Opérateur du filtre
+     * @param raw       Valeur brute (String, nombre ou booléen JSON, ou valeur déjà typée)
+     * @return La valeur typée, ou null si la valeur brute est absente
+     */
+    static FilterValue of(FieldType fieldType, FilterOperator operator, Object raw) {
+        if (raw == null || raw instanceof FilterValue) {
+            return (FilterValue) raw;
+        }
+        if (fieldType == null || isTextual(operator)) {
+            return new TextValue(raw.toString());
+        }
+        return switch (raw) {
+            case Integer number when fieldType == FieldType.NUMBER -> new LongValue(number);
+            case Long number when fieldType == FieldType.NUMBER -> new LongValue(number);
+            case Double number when fieldType == FieldType.NUMBER -> new DoubleValue(number);
+            case Boolean bool when fieldType == FieldType.BOOLEAN -> new BooleanValue(bool);
+            default -> parse(fieldType, raw.toString());
+        };
+    }
+
+    /**
+     * Lit une valeur textuelle selon le type du champ, en une seule passe et sans exception pour les formats supportés
+     * Une date non reconnue reste du texte ; un nombre invalide vaut 0
+     *
+     * @param fieldType Type du champ
+     * @param value     Valeur textuelle
+     * @return La valeur typée, ou null si la valeur est absente
+     */
+    static FilterValue parse(FieldType fieldType, String value) {
+        return FilterValueParser.parse(fieldType, value);
+    }
+
+    private static boolean isTextual(FilterOperator operator) {
+        return operator == FilterOperator.CONTAINS || operator == FilterOperator.NOT_CONTAINS
+                || operator == FilterOperator.STARTS_WITH || operator == FilterOperator.ENDS_WITH;
+    }
+
+    /**
+     * Texte, comparé tel quel
+     */
+    record TextValue(String value) implements FilterValue {
+
+        @Override
+        public Object object() {
+            return value;
+        }
+
+        @Override
+        public String text() {
+            return value;
+        }
+    }
+
+    /**
+     * Booléen
+     */
+    record BooleanValue(boolean value) implements FilterValue {
+
+        @Override
+        public Object object() {
+            return value;
+        }
+
+        @Override
+        public String text() {
+            return Boolean.toString(value);
+        }
+    }
+
+    /**
+     * Nombre entier
+     */
+    record LongValue(long value) implements FilterValue {
+
+        /**
+         * Integer si la valeur tient sur 32 bits, Long sinon : le type lié est celui qu'attend un champ int ou long
+         */
+        @Override
+        public Object object() {
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+        }
+
+        @Override
+        public String text() {
+            return Long.toString(value);
+        }
+
+        /**
+         * Explicite pour rester identique au hashCode calculé par LongValueList sur son tableau
+         */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+    }
+
+    /**
+     * Nombre décimal
+     */
+    record DoubleValue(double value) implements FilterValue {
+
+        @Override
+        public Object object() {
+            return value;
+        }
+
+        @Override
+        public String text() {
+            return Double.toString(value);
+        }
+    }
+
+    /**
+     * Nombre décimal dont l'écriture n'est pas lisible en double
+     */
+    record DecimalValue(BigDecimal value) implements FilterValue {
+
+        @Override
+        public Object object() {
+            return value;
+        }
+
+        @Override
+        public String text() {
+            return value.toString();
+        }
+    }
+
+    /**
+     * Date et heure, sans fuseau
+     *
+     * @param value   Instant (minuit pour une date seule)
+     * @param wholeDay true si la date a été fournie sans heure : une égalité couvre alors toute la journée
+     */
+    record DateTimeValue(LocalDateTime value, boolean wholeDay) implements FilterValue {
+
+        @Override
+        public Object object() {
+            return value;
+        }
+
+        @Override
+        public String text() {
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Parseur des valeurs de filtre - Convertit les valeurs String en FilterValue du type du champ
+ * <p>
+ * Les dates et les nombres sont lus en une seule passe : le format est détecté à partir de la longueur
+ * et des séparateurs, puis les chiffres sont lus directement, sans exception pour les formats supportés
+ * ni pour les valeurs invalides (une liste IN de dates européennes ne produit plus aucune stack trace).
+ */
+final class FilterValueParser {
+
+    private static final Logger log = Logger.getLogger(FilterValueParser.class.getName());
+
+    /**
+     * Nombre maximal de chiffres d'un entier lu sans risque de dépassement d'un long
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private FilterValueParser() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    static FilterValue parse(FieldType fieldType, String value) {
+        if (value == null) {
+            return null;
+        }
+        if (fieldType == null) {
+            return new FilterValue.TextValue(value);
+        }
+
+        try {
+            return switch (fieldType) {
+                case BOOLEAN -> new FilterValue.BooleanValue(Boolean.parseBoolean(value));
+                case DATE -> parseDateTime(value);
+                case NUMBER -> parseNumber(value);
+                case STRING -> new FilterValue.TextValue(value);
+            };
+        } catch (Exception e) {
+            log.log(Level.SEVERE, "Failed to parse field type " + fieldType + " with value " + value + ": " + e.getMessage());
+            return new FilterValue.TextValue(value);
+        }
+    }
+
+    /**
+     * Parse une date en détectant son format parmi les formats supportés :
+     * <pre>
+     * 2024-12-03T10:00[:00[.123456789]]  ISO 8601 (strict)
+     * 2024-12-03 10:00:00                 ISO avec espace
+     * 03-12-2024 10:00:00                 européen avec tirets
+     * 03/12/2024 10:00:00                 européen avec barres obliques
+     * 2024-12-03                          ISO date seule (convertie en LocalDateTime à minuit)
+     * </pre>
+     * Comme les DateTimeFormatter utilisés auparavant, les formats ISO rejettent un jour inexistant
+     * alors que les formats avec espace le ramènent au dernier jour du mois et acceptent 24:00:00.
+     *
+     * @return La date (journée entière pour le format date seule), ou le texte d'origine s'il ne correspond à aucun format
+     */
+    private static FilterValue parseDateTime(String value) {
+        boolean iso = value.length() > 10 && (value.charAt(10) == 'T' || value.charAt(10) == 't');
+        LocalDateTime dateTime = switch (value.length()) {
+            case 10 -> parseIsoDate(value);
+            case 19 -> iso ? parseIsoDateTime(value) : parseSpacedDateTime(value);
+            default -> iso ? parseIsoDateTime(value) : null;
+        };
+
+        if (dateTime == null) {
+            log.log(Level.SEVERE, "Failed to parse date value: " + value + ". Supported formats: ISO (yyyy-MM-dd, yyyy-MM-ddTHH:mm:ss), " +
+                    "European (dd-MM-yyyy HH:mm:ss, dd/MM/yyyy HH:mm:ss)");
+            return new FilterValue.TextValue(value);
+        }
+        return new FilterValue.DateTimeValue(dateTime, value.length() == 10);
+    }
+
+    /**
+     * yyyy-MM-dd, minuit du jour
+     */
+    private static LocalDateTime parseIsoDate(String value) {
+        if (value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return null;
+        }
+        LocalDate date = strictDate(digits(value, 0, 4), digits(value, 5, 2), digits(value, 8, 2));
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    /**
+     * yyyy-MM-ddTHH:mm[:ss[.fraction]]
+     */
+    private static LocalDateTime parseIsoDateTime(String value) {
+        int length = value.length();
+        if (length < 16 || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(13) != ':') {
+            return null;
+        }
+
+        LocalDate date = strictDate(digits(value, 0, 4), digits(value, 5, 2), digits(value, 8, 2));
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = 0;
+        int nano = 0;
+
+        if (length > 16) {
+            if (length < 19 || value.charAt(16) != ':') {
+                return null;
+            }
+            second = digits(value, 17, 2);
+            if (length > 19) {
+                int fractionDigits = length - 20;
+                // Comme ISO_LOCAL_TIME, le point peut être suivi de 0 à 9 chiffres
+                if (value.charAt(19) != '.' || fractionDigits > 9) {
+                    return null;
+                }
+                nano = digits(value, 20, fractionDigits);
+                for (int i = fractionDigits; i < 9 && nano >= 0; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || nano < 0) {
+            return null;
+        }
+        return date.atTime(hour, minute, second, nano);
+    }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss, dd-MM-yyyy HH:mm:ss ou dd/MM/yyyy HH:mm:ss
+     */
+    private static LocalDateTime parseSpacedDateTime(String value) {
+        if (value.charAt(10) != ' ' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return null;
+        }
+
+        int year;
+        int month;
+        int day;
+        if (value.charAt(4) == '-' && value.charAt(7) == '-') {
+            year = digits(value, 0, 4);
+            month = digits(value, 5, 2);
+            day = digits(value, 8, 2);
+        } else if ((value.charAt(2) == '-' && value.charAt(5) == '-') || (value.charAt(2) == '/' && value.charAt(5) == '/')) {
+            day = digits(value, 0, 2);
+            month = digits(value, 3, 2);
+            year = digits(value, 6, 4);
+        } else {
+            return null;
+        }
+
+        LocalDate date = smartDate(year, month, day);
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+
+        if (date == null || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        if (hour == 24 && minute == 0 && second == 0) {
+            // Fin de journée : minuit du lendemain
+            return date.plusDays(1).atStartOfDay();
+        }
+        if (hour < 0 || hour > 23) {
+            return null;
+        }
+        return date.atTime(hour, minute, second);
+    }
+
+    /**
+     * Date ISO : un jour inexistant dans le mois est rejeté
+     */
+    private static LocalDate strictDate(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        return day <= YearMonth.of(year, month).lengthOfMonth() ? LocalDate.of(year, month, day) : null;
+    }
+
+    /**
+     * Date des formats avec espace : année de l'ère (à partir de 1), jour ramené au dernier jour du mois
+     */
+    private static LocalDate smartDate(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        return LocalDate.of(year, month, Math.min(day, YearMonth.of(year, month).lengthOfMonth()));
+    }
+
+    /**
+     * Lit count chiffres ASCII à partir de start
+     *
+     * @return La valeur lue, ou -1 si un caractère n'est pas un chiffre
+     */
+    private static int digits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Parse un nombre de façon intelligente
+     * Entier : LongValue ; décimal : DoubleValue, puis DecimalValue ; valeur invalide : 0
+     * Les entiers et décimaux simples ([+-]chiffres[.chiffres]) sont lus sans exception ;
+     * les autres écritures (exposant, chiffres non ASCII...) passent par les parseurs du JDK.
+     */
+    private static FilterValue parseNumber(String value) {
+        int length = value.length();
+        int start = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        int dot = -1;
+        boolean simple = true;
+        boolean ascii = true;
+
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.' && dot < 0) {
+                dot = i;
+            } else if (c < '0' || c > '9') {
+                simple = false;
+                ascii &= c < 128;
+            }
+        }
+
+        int integerDigits = (dot < 0 ? length : dot) - start;
+        if (!simple) {
+            // Sans point, Integer / Long ne liraient que des chiffres : une chaîne ASCII est forcément invalide
+            if (ascii && value.indexOf('.') < 0) {
+                log.log(Level.WARNING, "Failed to parse number value: " + value);
+                return new FilterValue.LongValue(0);
+            }
+            return parseNumberFallback(value);
+        }
+        if (dot < 0 && integerDigits > 0 && integerDigits <= MAX_LONG_DIGITS) {
+            long result = 0;
+            for (int i = start; i < length; i++) {
+                result = result * 10 + (value.charAt(i) - '0');
+            }
+            if (value.charAt(0) == '-') {
+                result = -result;
+            }
+            return new FilterValue.LongValue(result);
+        }
+        if (dot >= 0 && integerDigits + (length - dot - 1) > 0) {
+            return new FilterValue.DoubleValue(Double.parseDouble(value));
+        }
+        if (dot >= 0 || integerDigits == 0) {
+            // Signe seul, point seul ou chaîne vide
+            log.log(Level.WARNING, "Failed to parse number value: " + value);
+            return new FilterValue.LongValue(0);
+        }
+        // Entier de plus de 18 chiffres : Long.parseLong détecte le dépassement
+        return parseNumberFallback(value);
+    }
+
+    /**
+     * Écritures hors du format simple : entiers de 19 chiffres et plus, exposants, espaces, chiffres non ASCII...
+     */
+    private static FilterValue parseNumberFallback(String value) {
+        try {
+            // Si pas de point décimal, lire un long
+            if (!value.contains(".")) {
+                return new FilterValue.LongValue(Long.parseLong(value));
+            }
+            // Sinon essayer Double puis BigDecimal
+            try {
+                return new FilterValue.DoubleValue(Double.parseDouble(value));
+            } catch (NumberFormatException e) {
+                return new FilterValue.DecimalValue(new BigDecimal(value));
+            }
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Failed to parse number value: " + value);
+            return new FilterValue.LongValue(0);
+        }
+    }
+
+}
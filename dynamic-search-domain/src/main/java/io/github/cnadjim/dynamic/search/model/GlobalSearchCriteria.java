@@ -0,0 +1,75 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Critères d'une recherche globale - Objet de valeur du domaine
+ * Une recherche full-text envoyée à toutes les entités enregistrées, dont les meilleurs résultats sont fusionnés
+ *
+ * @param fullText Texte recherché
+ * @param size     Nombre de résultats retournés au total, et lus au plus par entité (défaut DEFAULT_SIZE)
+ * @param timeout  Délai accordé à chaque entité, au-delà ses résultats sont ignorés (défaut DEFAULT_TIMEOUT)
+ */
+public record GlobalSearchCriteria(
+        FullTextCriteria fullText,
+        Integer size,
+        Duration timeout
+) implements Serializable {
+
+    public static final int DEFAULT_SIZE = 20;
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(2);
+
+    public GlobalSearchCriteria {
+        if (fullText == null || fullText.query() == null || fullText.query().isBlank()) {
+            throw new IllegalArgumentException("Global search requires a full-text query");
+        }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Global search size must be greater than or equal to 1");
+        }
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("Global search timeout must be positive");
+        }
+    }
+
+    public int effectiveSize() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+
+    public Duration effectiveTimeout() {
+        return timeout != null ? timeout : DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Builder pour GlobalSearchCriteria
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private FullTextCriteria fullText;
+        private Integer size;
+        private Duration timeout;
+
+        public Builder fullText(FullTextCriteria fullText) {
+            this.fullText = fullText;
+            return this;
+        }
+
+        public Builder size(Integer size) {
+            this.size = size;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public GlobalSearchCriteria build() {
+            return new GlobalSearchCriteria(fullText, size, timeout);
+        }
+    }
+}
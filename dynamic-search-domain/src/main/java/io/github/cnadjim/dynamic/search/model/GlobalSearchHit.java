@@ -0,0 +1,27 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Résultat d'une recherche globale - Objet de valeur du domaine
+ *
+ * @param entityClass Classe de l'entité trouvée
+ * @param entity      Entité trouvée
+ * @param rank        Rang de l'entité dans les résultats de sa propre classe (à partir de 1)
+ * @param score       Score de fusion (reciprocal rank fusion), comparable entre classes
+ */
+public record GlobalSearchHit(
+        Class<?> entityClass,
+        Object entity,
+        int rank,
+        double score
+) implements Serializable {
+
+    /**
+     * Retourne l'entité typée si elle est de la classe demandée
+     */
+    public <T> Optional<T> as(Class<T> type) {
+        return type.isInstance(entity) ? Optional.of(type.cast(entity)) : Optional.empty();
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Résultat d'une recherche globale - Objet de valeur du domaine
+ *
+ * @param hits             Résultats fusionnés, du plus pertinent au moins pertinent
+ * @param searchedEntities Entités interrogées
+ * @param timedOutEntities Entités n'ayant pas répondu dans le délai
+ * @param failedEntities   Entités dont la recherche a échoué
+ */
+public record GlobalSearchResult(
+        List<GlobalSearchHit> hits,
+        List<Class<?>> searchedEntities,
+        List<Class<?>> timedOutEntities,
+        List<Class<?>> failedEntities
+) implements Serializable {
+
+    public GlobalSearchResult {
+        hits = hits != null ? List.copyOf(hits) : List.of();
+        searchedEntities = searchedEntities != null ? List.copyOf(searchedEntities) : List.of();
+        timedOutEntities = timedOutEntities != null ? List.copyOf(timedOutEntities) : List.of();
+        failedEntities = failedEntities != null ? List.copyOf(failedEntities) : List.of();
+    }
+
+    /**
+     * Indique que des entités manquent au résultat (délai dépassé ou échec)
+     */
+    public boolean partial() {
+        return !timedOutEntities.isEmpty() || !failedEntities.isEmpty();
+    }
+}
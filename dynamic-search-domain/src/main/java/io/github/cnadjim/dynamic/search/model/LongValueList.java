@@ -0,0 +1,94 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Liste de valeurs entières d'un filtre IN / NOT_IN sur un champ NUMBER, portée par un long[]
+ * Une liste de plusieurs milliers d'identifiants n'est ni boxée ni copiée : les adaptateurs lisent directement
+ * le tableau (longs) pour le lier en un seul paramètre, les éléments ne sont matérialisés en LongValue qu'à la demande
+ */
+public final class LongValueList extends AbstractList<FilterValue> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long[] values;
+
+    LongValueList(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Crée une liste à partir d'une copie des valeurs
+     */
+    public static LongValueList of(long... values) {
+        return new LongValueList(values.clone());
+    }
+
+    /**
+     * Valeurs de la liste, dans l'ordre de la requête
+     * Tableau partagé, à ne pas modifier
+     */
+    public long[] longs() {
+        return values;
+    }
+
+    /**
+     * Vue boxée des valeurs, pour les API qui n'acceptent qu'une collection d'objets (aucune copie)
+     */
+    public List<Long> boxed() {
+        return new LongView(values);
+    }
+
+    @Override
+    public FilterValue get(int index) {
+        return new FilterValue.LongValue(values[index]);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof LongValueList list) {
+            return Arrays.equals(values, list.values);
+        }
+        return super.equals(other);
+    }
+
+    /**
+     * Identique au hashCode d'une liste de LongValue, sans matérialiser les éléments
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (long value : values) {
+            hash = 31 * hash + Long.hashCode(value);
+        }
+        return hash;
+    }
+
+    private static final class LongView extends AbstractList<Long> implements RandomAccess {
+
+        private final long[] values;
+
+        private LongView(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
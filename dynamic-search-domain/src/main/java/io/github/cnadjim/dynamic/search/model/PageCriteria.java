@@ -1,4 +1,75 @@
 package io.github.cnadjim.dynamic.search.model;
 
-public record PageCriteria(Integer number, Integer size) {
+import java.io.Serializable;
+
+/**
+ * Critères de pagination - Objet de valeur du domaine
+ *
+ * @param number Numéro de la page (commence à 0), ignoré pour le déplacement en mode KEYSET
+ * @param size   Nombre d'éléments par page
+ * @param mode   Mode de pagination (OFFSET par défaut)
+ * @param cursor Curseur opaque retourné par la page précédente (mode KEYSET uniquement, null pour la première page)
+ * @param countMode  Stratégie de comptage du total (EXACT par défaut)
+ * @param countLimit Limite du comptage en mode CAPPED / ESTIMATED (DEFAULT_COUNT_LIMIT si null)
+ */
+public record PageCriteria(
+        Integer number,
+        Integer size,
+        PageMode mode,
+        String cursor,
+        CountMode countMode,
+        Integer countLimit
+) implements Serializable {
+
+    /**
+     * Limite de comptage appliquée lorsqu'aucune limite n'est précisée
+     */
+    public static final int DEFAULT_COUNT_LIMIT = 10_000;
+
+    public PageCriteria {
+        if (mode == null) {
+            mode = PageMode.OFFSET;
+        }
+        if (countMode == null) {
+            countMode = CountMode.EXACT;
+        }
+        if (countLimit != null && countLimit < 1) {
+            throw new IllegalArgumentException("countLimit must be greater than or equal to 1");
+        }
+    }
+
+    /**
+     * Constructeur de compatibilité avec comptage exact
+     */
+    public PageCriteria(Integer number, Integer size, PageMode mode, String cursor) {
+        this(number, size, mode, cursor, CountMode.EXACT, null);
+    }
+
+    /**
+     * Constructeur de compatibilité pour la pagination par décalage
+     */
+    public PageCriteria(Integer number, Integer size) {
+        this(number, size, PageMode.OFFSET, null, CountMode.EXACT, null);
+    }
+
+    /**
+     * Vérifie si la pagination par curseur est demandée
+     */
+    public boolean isKeyset() {
+        return mode == PageMode.KEYSET;
+    }
+
+    /**
+     * Vérifie si un curseur de continuation est présent
+     */
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    /**
+     * Limite de comptage effective pour les modes CAPPED et ESTIMATED
+     */
+    public int effectiveCountLimit() {
+        return countLimit != null ? countLimit : DEFAULT_COUNT_LIMIT;
+    }
 }
@@ -0,0 +1,16 @@
+package io.github.cnadjim.dynamic.search.model;
+
+/**
+ * Modes de pagination disponibles
+ */
+public enum PageMode {
+    /**
+     * Pagination par décalage (OFFSET / LIMIT) - Accès direct à n'importe quelle page
+     */
+    OFFSET,
+
+    /**
+     * Pagination par curseur (keyset / seek) - Coût constant quelle que soit la profondeur de la page
+     */
+    KEYSET
+}
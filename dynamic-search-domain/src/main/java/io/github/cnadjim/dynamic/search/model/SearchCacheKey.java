@@ -0,0 +1,63 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Clé de cache d'une recherche - Objet de valeur du domaine
+ * Forme canonique des critères : l'ordre des filtres (combinés en ET) est sans effet sur la clé,
+ * la pagination est normalisée avec ses valeurs par défaut
+ *
+ * @param entityClass Classe de l'entité recherchée
+ * @param operation   Type d'opération (recherche d'entités, projection...)
+ * @param filters     Filtres, sans ordre
+ * @param sorts       Tris, dans l'ordre
+ * @param fullText    Critère full-text (peut être null)
+ * @param page        Pagination normalisée
+ * @param fields      Champs projetés, dans l'ordre
+ * @param facets      Facettes demandées, dans l'ordre
+ */
+public record SearchCacheKey(
+        Class<?> entityClass,
+        String operation,
+        Set<FilterCriteria> filters,
+        List<SortCriteria> sorts,
+        FullTextCriteria fullText,
+        PageCriteria page,
+        List<String> fields,
+        List<FacetCriteria> facets
+) implements Serializable {
+
+    /**
+     * Construit la clé canonique d'une recherche
+     *
+     * @param operation   Type d'opération
+     * @param entityClass Classe de l'entité recherchée
+     * @param criteria    Critères de recherche
+     * @return Clé de cache
+     */
+    public static SearchCacheKey of(String operation, Class<?> entityClass, SearchCriteria criteria) {
+        PageCriteria page = criteria.page();
+        PageCriteria normalizedPage = new PageCriteria(
+                Objects.requireNonNullElse(page.number(), 0),
+                Objects.requireNonNullElse(page.size(), 100),
+                page.mode(),
+                page.hasCursor() ? page.cursor() : null,
+                page.countMode(),
+                page.countLimit()
+        );
+
+        return new SearchCacheKey(
+                entityClass,
+                operation,
+                Set.copyOf(criteria.filters()),
+                List.copyOf(criteria.sorts()),
+                criteria.hasFullTextSearch() ? criteria.fullText() : null,
+                normalizedPage,
+                List.copyOf(criteria.fields()),
+                List.copyOf(criteria.facets())
+        );
+    }
+}
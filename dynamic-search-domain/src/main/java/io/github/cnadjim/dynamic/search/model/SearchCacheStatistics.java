@@ -0,0 +1,27 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.io.Serializable;
+
+/**
+ * Statistiques du cache de résultats - Objet de valeur du domaine
+ *
+ * @param hitCount      Nombre de recherches servies par le cache
+ * @param missCount     Nombre de recherches exécutées sur le backend
+ * @param evictionCount Nombre d'entrées évincées (taille ou expiration)
+ * @param size          Nombre d'entrées actuellement en cache
+ */
+public record SearchCacheStatistics(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        long size
+) implements Serializable {
+
+    /**
+     * Taux de succès du cache (1.0 si aucune requête)
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -13,14 +13,25 @@ import java.util.Objects;
  * @param sorts Liste des tris (peut être null, retournée comme liste vide)
  * @param fullText Critère de recherche full-text (peut être null)
  * @param page Critères de pagination (number et taille)
+ * @param fields Champs à projeter (peut être null, retournée comme liste vide = entité complète)
+ * @param facets Facettes à calculer sous les filtres courants (peut être null, retournée comme liste vide)
  */
 public record SearchCriteria(
         List<FilterCriteria> filters,
         List<SortCriteria> sorts,
         FullTextCriteria fullText,
-        PageCriteria page
+        PageCriteria page,
+        List<String> fields,
+        List<FacetCriteria> facets
 ) implements Serializable {
 
+    /**
+     * Constructeur de compatibilité sans projection ni facette
+     */
+    public SearchCriteria(List<FilterCriteria> filters, List<SortCriteria> sorts, FullTextCriteria fullText, PageCriteria page) {
+        this(filters, sorts, fullText, page, null, null);
+    }
+
     /**
      * Retourne la liste des filtres, jamais null
      */
@@ -49,6 +60,34 @@ public record SearchCriteria(
         return fullText;
     }
 
+    /**
+     * Retourne la liste des champs projetés, jamais null
+     */
+    public List<String> fields() {
+        return Objects.isNull(fields) ? new ArrayList<>() : fields;
+    }
+
+    /**
+     * Vérifie si une projection de champs est demandée
+     */
+    public boolean hasProjection() {
+        return fields != null && !fields.isEmpty();
+    }
+
+    /**
+     * Retourne la liste des facettes demandées, jamais null
+     */
+    public List<FacetCriteria> facets() {
+        return Objects.isNull(facets) ? new ArrayList<>() : facets;
+    }
+
+    /**
+     * Vérifie si des facettes sont demandées
+     */
+    public boolean hasFacets() {
+        return facets != null && !facets.isEmpty();
+    }
+
     /**
      * Vérifie si une recherche full-text est active
      */
@@ -68,6 +107,8 @@ public record SearchCriteria(
         private List<SortCriteria> sorts;
         private FullTextCriteria fullTextCriteria;
         private PageCriteria pageCriteria;
+        private List<String> fields;
+        private List<FacetCriteria> facets;
 
         public Builder filters(List<FilterCriteria> filters) {
             this.filters = filters;
@@ -89,8 +130,18 @@ public record SearchCriteria(
             return this;
         }
 
+        public Builder fields(List<String> fields) {
+            this.fields = fields;
+            return this;
+        }
+
+        public Builder facets(List<FacetCriteria> facets) {
+            this.facets = facets;
+            return this;
+        }
+
         public SearchCriteria build() {
-            return new SearchCriteria(filters, sorts, fullTextCriteria, pageCriteria);
+            return new SearchCriteria(filters, sorts, fullTextCriteria, pageCriteria, fields, facets);
         }
     }
 
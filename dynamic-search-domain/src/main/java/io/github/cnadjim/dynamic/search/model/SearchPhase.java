@@ -0,0 +1,31 @@
+package io.github.cnadjim.dynamic.search.model;
+
+/**
+ * Phases mesurées d'une recherche, de la requête REST jusqu'aux requêtes du backend
+ */
+public enum SearchPhase {
+    /**
+     * Conversion de la requête REST en critères du domaine (résolution des types de champs incluse)
+     */
+    MAPPING,
+
+    /**
+     * Traduction des critères en requête native du backend (Criteria JPA, Query MongoDB, NativeQuery Elasticsearch...)
+     */
+    QUERY,
+
+    /**
+     * Lecture de la page de résultats
+     */
+    FETCH,
+
+    /**
+     * Requête de comptage du total, lorsqu'elle est distincte de la lecture de la page
+     */
+    COUNT,
+
+    /**
+     * Calcul des facettes, lorsqu'il est distinct de la lecture de la page
+     */
+    FACETS
+}
@@ -12,12 +12,15 @@ import java.util.Objects;
  * @param content       Liste des éléments de la number courante
  * @param pageNumber    Numéro de la number (commence à 0)
  * @param pageSize      Taille de la number
- * @param totalElements Nombre total d'éléments
- * @param totalPages    Nombre total de pages
+ * @param totalElements Nombre total d'éléments (-1 si non compté, borne inférieure en mode CAPPED)
+ * @param totalPages    Nombre total de pages (-1 si non compté)
  * @param sorts         Liste des critères de tri appliqués
  * @param first         Indique si c'est la première number
  * @param last          Indique si c'est la dernière number
  * @param empty         Indique si la number est vide
+ * @param nextCursor    Curseur opaque de la page suivante (mode KEYSET uniquement, null s'il n'y a plus de page)
+ * @param countMode     Stratégie de comptage ayant réellement produit totalElements
+ * @param facets        Décomptes par valeur des facettes demandées (liste vide si aucune)
  */
 public record SearchResult<T>(
         List<T> content,
@@ -28,9 +31,26 @@ public record SearchResult<T>(
         List<SortCriteria> sorts,
         boolean first,
         boolean last,
-        boolean empty
+        boolean empty,
+        String nextCursor,
+        CountMode countMode,
+        List<FacetResult> facets
 ) implements Serializable {
 
+    /**
+     * Retourne une copie de ce résultat portant les facettes calculées
+     */
+    public SearchResult<T> withFacets(List<FacetResult> facets) {
+        return new SearchResult<>(content, pageNumber, pageSize, totalElements, totalPages, sorts, first, last, empty, nextCursor, countMode, facets);
+    }
+
+    /**
+     * Retourne une copie de ce résultat portant un autre contenu (lignes projetées par exemple), pagination inchangée
+     */
+    public <R> SearchResult<R> withContent(List<R> content) {
+        return new SearchResult<>(content, pageNumber, pageSize, totalElements, totalPages, sorts, first, last, empty, nextCursor, countMode, facets);
+    }
+
     /**
      * Crée un builder pour construire un SearchResult
      */
@@ -51,6 +71,9 @@ public record SearchResult<T>(
         private boolean first;
         private boolean last;
         private boolean empty;
+        private String nextCursor;
+        private CountMode countMode = CountMode.EXACT;
+        private List<FacetResult> facets = List.of();
 
         public Builder<T> content(List<T> content) {
             this.content = content;
@@ -97,8 +120,23 @@ public record SearchResult<T>(
             return this;
         }
 
+        public Builder<T> nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
+        public Builder<T> countMode(CountMode countMode) {
+            this.countMode = countMode;
+            return this;
+        }
+
+        public Builder<T> facets(List<FacetResult> facets) {
+            this.facets = facets;
+            return this;
+        }
+
         public SearchResult<T> build() {
-            return new SearchResult<>(content, pageNumber, pageSize, totalElements, totalPages, sorts, first, last, empty);
+            return new SearchResult<>(content, pageNumber, pageSize, totalElements, totalPages, sorts, first, last, empty, nextCursor, countMode, facets);
         }
     }
 
@@ -0,0 +1,91 @@
+package io.github.cnadjim.dynamic.search.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Forme normalisée d'une recherche - Objet de valeur du domaine
+ * Ne retient que la structure de la requête (champs, opérateurs, tris, mode de pagination...), jamais les valeurs :
+ * deux recherches de même forme partagent la même empreinte, quelles que soient les valeurs filtrées.
+ *
+ * @param entityClass Classe de l'entité recherchée
+ * @param operation   Type d'opération (search, projection, multiSearch...)
+ * @param criteria    Forme de chaque critère de la recherche (plusieurs pour une recherche groupée)
+ */
+public record SearchShape(
+        Class<?> entityClass,
+        String operation,
+        List<String> criteria
+) {
+
+    public SearchShape {
+        criteria = List.copyOf(criteria);
+    }
+
+    /**
+     * Calcule la forme d'une recherche
+     * Les filtres sont triés (l'ordre des filtres ne change pas la requête), les tris conservent leur ordre
+     *
+     * @param operation   Type d'opération
+     * @param entityClass Classe de l'entité recherchée
+     * @param criteria    Critères de la recherche
+     * @return Forme de la recherche
+     */
+    public static SearchShape of(String operation, Class<?> entityClass, List<SearchCriteria> criteria) {
+        return new SearchShape(entityClass, operation, criteria.stream()
+                .map(SearchShape::shapeOf)
+                .toList());
+    }
+
+    /**
+     * Empreinte de la forme : 8 caractères hexadécimaux, stable d'un démarrage à l'autre
+     */
+    public String fingerprint() {
+        int hash = entityClass.getName().hashCode();
+        hash = 31 * hash + operation.hashCode();
+        hash = 31 * hash + criteria.hashCode();
+        return String.format("%08x", hash);
+    }
+
+    @Override
+    public String toString() {
+        return entityClass.getSimpleName() + "." + operation + " " + String.join(" | ", criteria);
+    }
+
+    private static String shapeOf(SearchCriteria criteria) {
+        List<String> filters = new ArrayList<>(criteria.filters().size());
+        for (FilterCriteria filter : criteria.filters()) {
+            filters.add(filter.key() + ":" + filter.operator());
+        }
+        filters.sort(null);
+
+        StringBuilder shape = new StringBuilder("filters=").append(filters);
+
+        if (!criteria.sorts().isEmpty()) {
+            shape.append(" sorts=").append(criteria.sorts().stream()
+                    .map(sort -> sort.key() + ":" + sort.direction())
+                    .toList());
+        }
+        if (criteria.hasFullTextSearch()) {
+            shape.append(" fullText");
+        }
+
+        PageCriteria page = criteria.page();
+        shape.append(" page=").append(page.mode().name().toLowerCase(Locale.ROOT));
+        if (page.hasCursor()) {
+            shape.append("+cursor");
+        }
+        shape.append(" count=").append(page.countMode().name().toLowerCase(Locale.ROOT));
+
+        if (!criteria.fields().isEmpty()) {
+            shape.append(" fields=").append(criteria.fields());
+        }
+        if (criteria.hasFacets()) {
+            shape.append(" facets=").append(criteria.facets().stream()
+                    .map(FacetCriteria::key)
+                    .toList());
+        }
+        return shape.toString();
+    }
+}
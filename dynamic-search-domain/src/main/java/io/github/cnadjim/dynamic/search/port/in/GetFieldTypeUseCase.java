@@ -15,7 +15,16 @@ public interface GetFieldTypeUseCase {
 
     <T> Optional<FieldType> findFieldTypeByKey(String key, Class<T> entityClass);
 
+    /**
+     * Variante sans Optional de findFieldTypeByKey, appelée pour chaque filtre de chaque requête
+     *
+     * @return Le type du champ, ou null si le champ n'est pas filtrable
+     */
+    default <T> FieldType resolveFieldType(String key, Class<T> entityClass) {
+        return findFieldTypeByKey(key, entityClass).orElse(null);
+    }
+
     default  <T> boolean isFieldTypeString(String key, Class<T> entityClass) {
-        return findFieldTypeByKey(key, entityClass).map(FieldType.STRING::equals).orElse(false);
+        return resolveFieldType(key, entityClass) == FieldType.STRING;
     }
 }
@@ -1,10 +1,51 @@
 package io.github.cnadjim.dynamic.search.port.in;
 
+import io.github.cnadjim.dynamic.search.model.GlobalSearchCriteria;
+import io.github.cnadjim.dynamic.search.model.GlobalSearchResult;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 
 public interface SearchUseCase {
 
     <T> SearchResult<T> search(SearchCriteria criteria, Class<T> entityClass);
+
+    /**
+     * Recherche non bloquante exécutée sur l'exécuteur de recherche (un thread virtuel par recherche par défaut)
+     * Les erreurs de la recherche (entité inconnue, facette invalide...) sont portées par le future
+     */
+    <T> CompletableFuture<SearchResult<T>> searchAsync(SearchCriteria criteria, Class<T> entityClass);
+
+    /**
+     * Exécute un lot de recherches sur une même entité, regroupées par l'adaptateur en un minimum d'allers-retours
+     * Le cache de résultats n'est pas consulté pour un lot
+     *
+     * @return Un résultat par critère, dans le même ordre
+     */
+    <T> List<SearchResult<T>> multiSearch(List<SearchCriteria> criteriaList, Class<T> entityClass);
+
+    /**
+     * Recherche full-text sur toutes les entités enregistrées disposant de champs STRING
+     * Les entités sont interrogées en parallèle ; celles qui dépassent le délai ou échouent sont signalées
+     * dans le résultat (résultat partiel) sans faire échouer la recherche
+     */
+    GlobalSearchResult globalSearch(GlobalSearchCriteria criteria);
+
+    /**
+     * Recherche avec projection : seuls les champs de criteria.fields() sont lus et retournés
+     *
+     * @throws IllegalArgumentException si aucun champ n'est demandé ou si un champ n'est pas un filtre déclaré de l'entité
+     */
+    <T> SearchResult<Map<String, Object>> searchProjection(SearchCriteria criteria, Class<T> entityClass);
+
+    /**
+     * Parcourt tous les résultats sans pagination via le curseur natif de l'adaptateur
+     * Le flux retourné doit être fermé par l'appelant
+     */
+    <T> Stream<T> stream(SearchCriteria criteria, Class<T> entityClass);
 }
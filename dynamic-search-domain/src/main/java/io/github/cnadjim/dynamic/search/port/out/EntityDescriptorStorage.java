@@ -3,8 +3,21 @@ package io.github.cnadjim.dynamic.search.port.out;
 import io.github.cnadjim.dynamic.search.model.EntityDescriptor;
 import io.github.cnadjim.dynamic.search.model.Storage;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface EntityDescriptorStorage extends Storage<EntityDescriptor<?>, Class<?>> {
     <T> Optional<EntityDescriptor<T>> findByIdAndCast(Class<T> id);
+
+    /**
+     * Recherche directe sur le chemin de chaque requête, sans allocation d'Optional
+     *
+     * @return Le descripteur de l'entité, ou null si elle n'est pas enregistrée
+     */
+    <T> EntityDescriptor<T> findByIdOrNull(Class<T> id);
+
+    /**
+     * Retourne les descripteurs de toutes les entités enregistrées, tous backends confondus
+     */
+    List<EntityDescriptor<?>> findAll();
 }
@@ -1,9 +1,101 @@
 package io.github.cnadjim.dynamic.search.port.out;
 
-
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.PageCriteria;
+import io.github.cnadjim.dynamic.search.model.PageMode;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface EntityRepository<T> {
     SearchResult<T> findByCriteria(SearchCriteria criteria);
+
+    /**
+     * Nom du backend servant l'entité (jpa, mongo, elasticsearch...), utilisé pour étiqueter les mesures
+     */
+    default String backend() {
+        return "custom";
+    }
+
+    /**
+     * Exécute un lot de recherches sur l'entité
+     * L'implémentation par défaut les enchaîne ; les adaptateurs la remplacent pour regrouper
+     * les requêtes dans un seul aller-retour vers leur moteur
+     *
+     * @param criteriaList Critères des recherches
+     * @return Un résultat par critère, dans le même ordre
+     */
+    default List<SearchResult<T>> findAllByCriteria(List<SearchCriteria> criteriaList) {
+        return criteriaList.stream()
+                .map(this::findByCriteria)
+                .toList();
+    }
+
+    /**
+     * Recherche en ne lisant que les champs demandés (SearchCriteria.fields)
+     * Chaque ligne est une map ordonnée nom du champ -> valeur
+     * <p>
+     * L'implémentation par défaut exécute la recherche complète puis lit les champs demandés sur chaque entité ;
+     * les adaptateurs la remplacent pour ne lire que les colonnes projetées, sans hydrater l'entité
+     *
+     * @param criteria Critères de recherche, projection incluse
+     * @return Résultat paginé de lignes projetées
+     */
+    default SearchResult<Map<String, Object>> findProjectionByCriteria(SearchCriteria criteria) {
+        SearchResult<T> result = findByCriteria(criteria);
+        return result.withContent(result.content().stream()
+                .map(entity -> EntityFieldReader.toMap(entity, criteria.fields()))
+                .toList());
+    }
+
+    /**
+     * Parcourt l'ensemble des résultats correspondant aux critères, sans limite de taille
+     * La pagination est ignorée : la taille de page sert de taille de lot (fetch size / batch size)
+     * <p>
+     * L'implémentation par défaut enchaîne des pages sans comptage ; les adaptateurs la remplacent
+     * par le curseur natif de leur moteur. Le flux doit être fermé (try-with-resources) pour libérer le curseur.
+     *
+     * @param criteria Critères de recherche
+     * @return Flux paresseux des éléments, mémoire constante quel que soit le nombre de résultats
+     */
+    default Stream<T> streamByCriteria(SearchCriteria criteria) {
+        int batchSize = criteria.page().size() != null ? criteria.page().size() : 100;
+
+        Iterator<List<T>> batches = new Iterator<>() {
+            private int number = 0;
+            private boolean last = false;
+
+            @Override
+            public boolean hasNext() {
+                return !last;
+            }
+
+            @Override
+            public List<T> next() {
+                if (last) {
+                    throw new NoSuchElementException();
+                }
+                SearchResult<T> result = findByCriteria(SearchCriteria.builder()
+                        .filters(criteria.filters())
+                        .sorts(criteria.sorts())
+                        .fullTextCriteria(criteria.fullText())
+                        .pageCriteria(new PageCriteria(number++, batchSize, PageMode.OFFSET, null, CountMode.NONE, null))
+                        .build());
+                last = result.last() || result.empty();
+                return result.content();
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+                .flatMap(List::stream);
+    }
 }
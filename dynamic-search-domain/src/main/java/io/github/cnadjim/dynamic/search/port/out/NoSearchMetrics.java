@@ -0,0 +1,28 @@
+package io.github.cnadjim.dynamic.search.port.out;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Mesures désactivées (SearchMetrics.none())
+ */
+final class NoSearchMetrics implements SearchMetrics {
+
+    static final NoSearchMetrics INSTANCE = new NoSearchMetrics();
+
+    private NoSearchMetrics() {
+    }
+
+    @Override
+    public <R> R timeSearch(String operation, Class<?> entityClass, List<SearchCriteria> criteria, Supplier<R> search) {
+        return search.get();
+    }
+
+    @Override
+    public <R> R timePhase(SearchPhase phase, Class<?> entityClass, Supplier<R> action) {
+        return action.get();
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.cnadjim.dynamic.search.port.out;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Port OUT - Mesures des recherches : durée de chaque recherche et de chacune de ses phases, usage des opérateurs
+ * Étape optionnelle du SearchService et des adaptateurs, indépendante de la bibliothèque de métriques
+ */
+public interface SearchMetrics {
+
+    /**
+     * Délimite le traitement complet d'une requête reçue par le point d'entrée (conversion et recherche)
+     * Sert de racine aux traces ; aucune mesure par défaut, la durée de la recherche étant mesurée par timeSearch
+     *
+     * @param operation   Type d'opération (search, projection, multiSearch...)
+     * @param entityClass Classe de l'entité recherchée
+     * @param request     Traitement de la requête
+     * @param <R>         Type du résultat
+     * @return Résultat du traitement
+     */
+    default <R> R observeRequest(String operation, Class<?> entityClass, Supplier<R> request) {
+        return request.get();
+    }
+
+    /**
+     * Mesure une recherche complète et comptabilise les opérateurs de ses filtres
+     *
+     * @param operation   Type d'opération (search, projection, multiSearch...)
+     * @param entityClass Classe de l'entité recherchée
+     * @param criteria    Critères de la recherche (plusieurs pour une recherche groupée)
+     * @param search      Exécution de la recherche
+     * @param <R>         Type du résultat
+     * @return Résultat de la recherche
+     */
+    <R> R timeSearch(String operation, Class<?> entityClass, List<SearchCriteria> criteria, Supplier<R> search);
+
+    /**
+     * Mesure une phase d'une recherche
+     *
+     * @param phase       Phase exécutée
+     * @param entityClass Classe de l'entité recherchée
+     * @param action      Exécution de la phase
+     * @param <R>         Type du résultat
+     * @return Résultat de la phase
+     */
+    <R> R timePhase(SearchPhase phase, Class<?> entityClass, Supplier<R> action);
+
+    /**
+     * Signale la requête native construite par l'adaptateur pour la recherche en cours
+     * La description n'est évaluée que si elle est réellement exploitée (recherche lente journalisée par exemple)
+     *
+     * @param description Rendu paresseux de la requête native (HQL, Query MongoDB, NativeQuery Elasticsearch...)
+     */
+    default void nativeQuery(Supplier<String> description) {
+    }
+
+    /**
+     * Mesures désactivées : les recherches sont exécutées sans surcoût
+     */
+    static SearchMetrics none() {
+        return NoSearchMetrics.INSTANCE;
+    }
+
+    /**
+     * Retourne les mesures fournies, ou les mesures désactivées si elles sont absentes
+     */
+    static SearchMetrics orNone(SearchMetrics searchMetrics) {
+        return searchMetrics != null ? searchMetrics : none();
+    }
+}
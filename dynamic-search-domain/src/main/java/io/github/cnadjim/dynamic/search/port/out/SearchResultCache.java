@@ -0,0 +1,60 @@
+package io.github.cnadjim.dynamic.search.port.out;
+
+import io.github.cnadjim.dynamic.search.model.SearchCacheKey;
+import io.github.cnadjim.dynamic.search.model.SearchCacheStatistics;
+
+import java.util.function.Supplier;
+
+/**
+ * Port OUT - Cache des résultats de recherche
+ * Étape optionnelle du SearchService, indépendante des adaptateurs de stockage
+ */
+public interface SearchResultCache {
+
+    /**
+     * Retourne le résultat en cache pour la clé, ou l'obtient via le loader et le met en cache
+     * Les appels concurrents sur une même clé ne déclenchent qu'un seul chargement
+     *
+     * @param key    Clé canonique de la recherche
+     * @param loader Exécution de la recherche sur le backend
+     * @param <R>    Type du résultat
+     * @return Résultat de la recherche
+     */
+    <R> R get(SearchCacheKey key, Supplier<R> loader);
+
+    /**
+     * Retourne le résultat en cache pour la clé, sans le charger
+     * Utilisé par les recherches groupées, qui chargent ensuite les absents en un seul appel au backend
+     *
+     * @param key Clé canonique de la recherche
+     * @param <R> Type du résultat
+     * @return Résultat en cache, ou null s'il est absent
+     */
+    default <R> R getIfPresent(SearchCacheKey key) {
+        return null;
+    }
+
+    /**
+     * Met en cache le résultat d'une recherche chargée hors de get
+     *
+     * @param key    Clé canonique de la recherche
+     * @param result Résultat de la recherche
+     */
+    default void put(SearchCacheKey key, Object result) {
+    }
+
+    /**
+     * Supprime toutes les entrées d'une entité (à appeler après une écriture)
+     */
+    void invalidate(Class<?> entityClass);
+
+    /**
+     * Supprime toutes les entrées
+     */
+    void invalidateAll();
+
+    /**
+     * Statistiques de succès / échec et d'éviction
+     */
+    SearchCacheStatistics statistics();
+}
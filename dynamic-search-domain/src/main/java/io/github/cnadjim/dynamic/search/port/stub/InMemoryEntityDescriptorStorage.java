@@ -3,6 +3,7 @@ package io.github.cnadjim.dynamic.search.port.stub;
 import io.github.cnadjim.dynamic.search.model.EntityDescriptor;
 import io.github.cnadjim.dynamic.search.port.out.EntityDescriptorStorage;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -28,11 +29,22 @@ public class InMemoryEntityDescriptorStorage implements EntityDescriptorStorage
         return findById(id).map(this::castEntityDescriptor);
     }
 
+    @Override
+    public <T> EntityDescriptor<T> findByIdOrNull(Class<T> id) {
+        EntityDescriptor<?> descriptor = entityDescriptorConcurrentMap.get(id);
+        return descriptor != null ? castEntityDescriptor(descriptor) : null;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> EntityDescriptor<T> castEntityDescriptor(EntityDescriptor<?> descriptor) {
         return (EntityDescriptor<T>) descriptor;
     }
 
+    @Override
+    public List<EntityDescriptor<?>> findAll() {
+        return List.copyOf(entityDescriptorConcurrentMap.values());
+    }
+
     @Override
     public void deleteById(Class<?> id) {
         entityDescriptorConcurrentMap.remove(id);
@@ -9,48 +9,367 @@ import io.github.cnadjim.dynamic.search.port.in.RegisterEntityUseCase;
 import io.github.cnadjim.dynamic.search.port.in.SearchUseCase;
 import io.github.cnadjim.dynamic.search.port.out.EntityDescriptorStorage;
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.port.out.SearchResultCache;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+/**
+ * Service de recherche : valide les critères puis délègue à l'adaptateur de l'entité
+ * <p>
+ * Sans exécuteur fourni, le service crée le sien (un thread virtuel par recherche) et le ferme dans close() ;
+ * un exécuteur fourni reste à la charge de l'appelant.
+ */
+public class SearchService implements SearchUseCase, GetAvailableFiltersUseCase, GetFieldTypeUseCase, RegisterEntityUseCase, AutoCloseable {
+
+    /**
+     * Constante k de la reciprocal rank fusion : score = 1 / (k + rang)
+     * Les moteurs n'exposant pas de scores comparables, seul le rang dans chaque entité est fusionné
+     */
+    private static final int RANK_FUSION_K = 60;
+
+    private static final Comparator<GlobalSearchHit> BY_RELEVANCE = Comparator
+            .comparingDouble(GlobalSearchHit::score)
+            .thenComparing(hit -> hit.entityClass().getName(), Comparator.reverseOrder());
 
-public class SearchService implements SearchUseCase, GetAvailableFiltersUseCase, GetFieldTypeUseCase, RegisterEntityUseCase {
     final EntityDescriptorStorage entityDescriptorStorage;
 
+    /**
+     * Cache des résultats (null : pas de cache)
+     */
+    final SearchResultCache searchResultCache;
+
+    /**
+     * Exécuteur des recherches asynchrones
+     */
+    final Executor searchExecutor;
+
+    /**
+     * Exécuteur créé par le service faute d'exécuteur fourni, fermé par close() (null si l'exécuteur est fourni)
+     */
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Mesures des recherches (SearchMetrics.none() : pas de mesure)
+     */
+    final SearchMetrics searchMetrics;
+
     public SearchService(EntityDescriptorStorage entityDescriptorStorage) {
+        this(entityDescriptorStorage, null, null, null);
+    }
+
+    /**
+     * Constructeur complet ; seul entityDescriptorStorage est obligatoire, les autres collaborateurs peuvent être null
+     * Voir {@link #builder(EntityDescriptorStorage)} pour ne renseigner que les collaborateurs disponibles
+     *
+     * @param searchResultCache Cache des résultats (null : pas de cache)
+     * @param searchExecutor    Exécuteur des recherches asynchrones, fermé par l'appelant
+     *                          (null : le service crée le sien, un thread virtuel par recherche, et le ferme dans close())
+     * @param searchMetrics     Mesures des recherches (null : pas de mesure)
+     */
+    public SearchService(EntityDescriptorStorage entityDescriptorStorage, SearchResultCache searchResultCache, Executor searchExecutor,
+                         SearchMetrics searchMetrics) {
         this.entityDescriptorStorage = entityDescriptorStorage;
+        this.searchResultCache = searchResultCache;
+        this.ownedExecutor = searchExecutor == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.searchExecutor = searchExecutor != null ? searchExecutor : ownedExecutor;
+        this.searchMetrics = SearchMetrics.orNone(searchMetrics);
+    }
+
+    /**
+     * Builder pour SearchService
+     *
+     * @param entityDescriptorStorage Stockage des descripteurs d'entités
+     */
+    public static Builder builder(EntityDescriptorStorage entityDescriptorStorage) {
+        return new Builder(entityDescriptorStorage);
+    }
+
+    public static class Builder {
+        private final EntityDescriptorStorage entityDescriptorStorage;
+        private SearchResultCache searchResultCache;
+        private Executor searchExecutor;
+        private SearchMetrics searchMetrics;
+
+        private Builder(EntityDescriptorStorage entityDescriptorStorage) {
+            this.entityDescriptorStorage = Objects.requireNonNull(entityDescriptorStorage, "entityDescriptorStorage");
+        }
+
+        public Builder searchResultCache(SearchResultCache searchResultCache) {
+            this.searchResultCache = searchResultCache;
+            return this;
+        }
+
+        /**
+         * @param searchExecutor Exécuteur des recherches asynchrones, non fermé par le service (non renseigné :
+         *                       le service crée le sien et le ferme dans close())
+         */
+        public Builder searchExecutor(Executor searchExecutor) {
+            this.searchExecutor = searchExecutor;
+            return this;
+        }
+
+        public Builder searchMetrics(SearchMetrics searchMetrics) {
+            this.searchMetrics = searchMetrics;
+            return this;
+        }
+
+        public SearchService build() {
+            return new SearchService(entityDescriptorStorage, searchResultCache, searchExecutor, searchMetrics);
+        }
     }
 
     @Override
     public <T> List<FilterDescriptor> getAvailableFilters(Class<T> entityClass) {
-        return entityDescriptorStorage.findById(entityClass)
-                .map(EntityDescriptor::filters)
-                .orElse(Collections.emptyList());
+        EntityDescriptor<T> entityDescriptor = entityDescriptorStorage.findByIdOrNull(entityClass);
+        return entityDescriptor != null ? entityDescriptor.filters() : Collections.emptyList();
     }
 
     @Override
     public <T> SearchResult<T> search(SearchCriteria criteria, Class<T> entityClass) {
-        return entityDescriptorStorage.findByIdAndCast(entityClass)
-                .map(entityDescriptor -> entityDescriptor.entityRepository().findByCriteria(criteria))
-                .orElseThrow(() -> new ResourceNotFoundException("EntityDescriptor", entityClass.getName()));
+        EntityDescriptor<T> entityDescriptor = descriptor(entityClass);
+
+        validateCriteria(criteria, entityDescriptor);
+
+        EntityRepository<T> entityRepository = entityDescriptor.entityRepository();
+        return searchMetrics.timeSearch("search", entityClass, List.of(criteria),
+                () -> cached("search", entityClass, criteria, () -> entityRepository.findByCriteria(criteria)));
+    }
+
+    @Override
+    public <T> List<SearchResult<T>> multiSearch(List<SearchCriteria> criteriaList, Class<T> entityClass) {
+        EntityDescriptor<T> entityDescriptor = descriptor(entityClass);
+
+        criteriaList.forEach(criteria -> validateCriteria(criteria, entityDescriptor));
+
+        EntityRepository<T> entityRepository = entityDescriptor.entityRepository();
+        return searchMetrics.timeSearch("multiSearch", entityClass, criteriaList,
+                () -> cachedAll(entityClass, criteriaList, entityRepository));
+    }
+
+    @Override
+    public <T> CompletableFuture<SearchResult<T>> searchAsync(SearchCriteria criteria, Class<T> entityClass) {
+        return CompletableFuture.supplyAsync(() -> search(criteria, entityClass), searchExecutor);
+    }
+
+    /**
+     * Scatter-gather : une recherche asynchrone par entité sur l'exécuteur de recherche, attendue au plus
+     * jusqu'à l'échéance commune, puis fusion des résultats reçus dans un tas borné à size éléments
+     * <p>
+     * Chaque recherche est une FutureTask : à l'échéance, cancel(true) interrompt son thread, ce qui libère
+     * la connexion ou le curseur du backend au lieu de laisser la requête se poursuivre sans lecteur
+     */
+    @Override
+    public GlobalSearchResult globalSearch(GlobalSearchCriteria criteria) {
+        int size = criteria.effectiveSize();
+        SearchCriteria entityCriteria = SearchCriteria.builder()
+                .fullTextCriteria(criteria.fullText())
+                .pageCriteria(new PageCriteria(0, size, PageMode.OFFSET, null, CountMode.NONE, null))
+                .build();
+
+        Map<Class<?>, FutureTask<? extends SearchResult<?>>> searches = new LinkedHashMap<>();
+        entityDescriptorStorage.findAll().stream()
+                .filter(descriptor -> descriptor.filterIndex().hasStringFields())
+                .forEach(descriptor -> {
+                    FutureTask<? extends SearchResult<?>> search = new FutureTask<>(
+                            () -> searchMetrics.timeSearch("globalSearch", descriptor.entityClass(), List.of(entityCriteria),
+                                    () -> descriptor.entityRepository().findByCriteria(entityCriteria)));
+                    searches.put(descriptor.entityClass(), search);
+                    searchExecutor.execute(search);
+                });
+
+        long deadline = System.nanoTime() + criteria.effectiveTimeout().toNanos();
+        PriorityQueue<GlobalSearchHit> best = new PriorityQueue<>(size + 1, BY_RELEVANCE);
+        List<Class<?>> timedOut = new ArrayList<>();
+        List<Class<?>> failed = new ArrayList<>();
+
+        searches.forEach((entityClass, search) -> {
+            try {
+                List<?> content = search.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS).content();
+                for (int index = 0; index < content.size(); index++) {
+                    best.offer(new GlobalSearchHit(entityClass, content.get(index), index + 1, 1.0 / (RANK_FUSION_K + index + 1)));
+                    if (best.size() > size) {
+                        best.poll();
+                    }
+                }
+            } catch (TimeoutException exception) {
+                search.cancel(true);
+                timedOut.add(entityClass);
+            } catch (ExecutionException | CancellationException exception) {
+                failed.add(entityClass);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                search.cancel(true);
+                timedOut.add(entityClass);
+            }
+        });
+
+        List<GlobalSearchHit> hits = new ArrayList<>(best);
+        hits.sort(BY_RELEVANCE.reversed());
+
+        return new GlobalSearchResult(hits, List.copyOf(searches.keySet()), timedOut, failed);
+    }
+
+    @Override
+    public <T> SearchResult<Map<String, Object>> searchProjection(SearchCriteria criteria, Class<T> entityClass) {
+        EntityDescriptor<T> entityDescriptor = descriptor(entityClass);
+
+        validateProjection(criteria, entityDescriptor);
+        validateCriteria(criteria, entityDescriptor);
+
+        EntityRepository<T> entityRepository = entityDescriptor.entityRepository();
+        return searchMetrics.timeSearch("projection", entityClass, List.of(criteria),
+                () -> cached("projection", entityClass, criteria, () -> entityRepository.findProjectionByCriteria(criteria)));
+    }
+
+    /**
+     * Passe par le cache de résultats lorsqu'il est configuré
+     */
+    private <R> R cached(String operation, Class<?> entityClass, SearchCriteria criteria, Supplier<R> loader) {
+        if (searchResultCache == null) {
+            return loader.get();
+        }
+        return searchResultCache.get(SearchCacheKey.of(operation, entityClass, criteria), loader);
+    }
+
+    /**
+     * Recherches d'un lot passant par le cache de résultats lorsqu'il est configuré
+     * Chaque critère est cherché sous la même clé que search ; seuls les absents (sans doublon) sont envoyés
+     * au backend, en un seul appel, puis mis en cache. Les résultats suivent l'ordre des critères.
+     */
+    private <T> List<SearchResult<T>> cachedAll(Class<T> entityClass, List<SearchCriteria> criteriaList, EntityRepository<T> entityRepository) {
+        if (searchResultCache == null) {
+            return entityRepository.findAllByCriteria(criteriaList);
+        }
+
+        List<SearchResult<T>> results = new ArrayList<>(Collections.nCopies(criteriaList.size(), null));
+        Map<SearchCacheKey, List<Integer>> missingIndexes = new LinkedHashMap<>();
+        List<SearchCriteria> missingCriteria = new ArrayList<>();
+
+        for (int index = 0; index < criteriaList.size(); index++) {
+            SearchCriteria criteria = criteriaList.get(index);
+            SearchCacheKey key = SearchCacheKey.of("search", entityClass, criteria);
+            SearchResult<T> cachedResult = missingIndexes.containsKey(key) ? null : searchResultCache.getIfPresent(key);
+            if (cachedResult != null) {
+                results.set(index, cachedResult);
+            } else {
+                missingIndexes.computeIfAbsent(key, ignored -> {
+                    missingCriteria.add(criteria);
+                    return new ArrayList<>();
+                }).add(index);
+            }
+        }
+
+        if (!missingCriteria.isEmpty()) {
+            List<SearchResult<T>> loaded = entityRepository.findAllByCriteria(missingCriteria);
+            int position = 0;
+            for (Map.Entry<SearchCacheKey, List<Integer>> missing : missingIndexes.entrySet()) {
+                SearchResult<T> result = loaded.get(position++);
+                searchResultCache.put(missing.getKey(), result);
+                missing.getValue().forEach(index -> results.set(index, result));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Vérifie que chaque champ projeté correspond à un filtre déclaré de l'entité
+     */
+    private void validateProjection(SearchCriteria criteria, EntityDescriptor<?> entityDescriptor) {
+        if (!criteria.hasProjection()) {
+            throw new IllegalArgumentException("At least one projection field is required");
+        }
+
+        validateKeys("projection fields", criteria.fields(), entityDescriptor);
+    }
+
+    /**
+     * Vérifie que chaque filtre, tri et facette porte sur un filtre déclaré de l'entité
+     * Les clés sont ensuite utilisées telles quelles par les adaptateurs (chemins HQL, champs MongoDB / Elasticsearch,
+     * clés des requêtes compilées) : une clé inconnue est rejetée avant d'atteindre la base
+     */
+    private void validateCriteria(SearchCriteria criteria, EntityDescriptor<?> entityDescriptor) {
+        validateKeys("filter keys", criteria.filters().stream().map(FilterCriteria::key).toList(), entityDescriptor);
+        validateKeys("sort keys", criteria.sorts().stream().map(SortCriteria::key).toList(), entityDescriptor);
+        if (criteria.hasFacets()) {
+            validateKeys("facet keys", criteria.facets().stream().map(FacetCriteria::key).toList(), entityDescriptor);
+        }
+    }
+
+    private void validateKeys(String label, List<String> keys, EntityDescriptor<?> entityDescriptor) {
+        FilterIndex filterIndex = entityDescriptor.filterIndex();
+        List<String> unknownKeys = keys.stream()
+                .filter(key -> !filterIndex.contains(key))
+                .toList();
+
+        if (!unknownKeys.isEmpty()) {
+            throw new IllegalArgumentException("Unknown " + label + " " + unknownKeys + " for " + entityDescriptor.entityClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public <T> Stream<T> stream(SearchCriteria criteria, Class<T> entityClass) {
+        EntityDescriptor<T> entityDescriptor = descriptor(entityClass);
+
+        validateCriteria(criteria, entityDescriptor);
+
+        return entityDescriptor.entityRepository().streamByCriteria(criteria);
     }
 
     @Override
     public <T> void registerEntity(Class<T> entityClass, EntityRepository<T> entityRepository) {
-        List<FilterDescriptor> filterDescriptors = FilterMetadataExtractor.extractFilters(entityClass);
-        EntityDescriptor<T> entityDescriptor = new EntityDescriptor<>(entityClass, filterDescriptors, entityRepository);
+        FilterIndex filterIndex = FilterMetadataExtractor.index(entityClass);
+        EntityDescriptor<T> entityDescriptor = new EntityDescriptor<>(entityClass, filterIndex.filters(), entityRepository, filterIndex);
         entityDescriptorStorage.save(entityDescriptor);
     }
 
     @Override
     public <T> Optional<FieldType> findFieldTypeByKey(String key, Class<T> entityClass) {
-        return entityDescriptorStorage.findById(entityClass)
-                .map(EntityDescriptor::filters)
-                .orElse(Collections.emptyList())
-                .stream()
-                .filter(filterDescriptor -> filterDescriptor.key().equals(key))
-                .findFirst()
-                .map(FilterDescriptor::fieldType);
+        return Optional.ofNullable(resolveFieldType(key, entityClass));
+    }
+
+    @Override
+    public <T> FieldType resolveFieldType(String key, Class<T> entityClass) {
+        EntityDescriptor<T> entityDescriptor = entityDescriptorStorage.findByIdOrNull(entityClass);
+        return entityDescriptor != null ? entityDescriptor.filterIndex().fieldType(key) : null;
+    }
+
+    /**
+     * Ferme l'exécuteur créé par le service, en attendant la fin des recherches asynchrones en cours
+     * Sans effet si l'exécuteur a été fourni au constructeur
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.close();
+        }
+    }
+
+    private <T> EntityDescriptor<T> descriptor(Class<T> entityClass) {
+        EntityDescriptor<T> entityDescriptor = entityDescriptorStorage.findByIdOrNull(entityClass);
+        if (entityDescriptor == null) {
+            throw new ResourceNotFoundException("EntityDescriptor", entityClass.getName());
+        }
+        return entityDescriptor;
     }
 }
@@ -1,26 +1,47 @@
 package io.github.cnadjim.dynamic.search.spring.elasticsearch.adapter;
 
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.CountResult;
+import io.github.cnadjim.dynamic.search.model.FacetBucket;
+import io.github.cnadjim.dynamic.search.model.FacetCriteria;
+import io.github.cnadjim.dynamic.search.model.FacetResult;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 import io.github.cnadjim.dynamic.search.port.in.GetFieldTypeUseCase;
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
 import io.github.cnadjim.dynamic.search.spring.elasticsearch.criteria.ElasticsearchCriteriaBuilder;
 import io.github.cnadjim.dynamic.search.spring.starter.mapper.PageToSearchResultMapper;
-import org.springframework.data.domain.Page;
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Adaptateur de Repository générique pour Elasticsearch
@@ -36,44 +57,219 @@ public class ElasticsearchEntityRepositoryAdapter<T> implements EntityRepository
     private final GetFieldTypeUseCase getFieldTypeUseCase;
     private final ElasticsearchOperations elasticsearchOperations;
 
+    /**
+     * Mesures des phases de recherche (SearchMetrics.none() : pas de mesure)
+     * Le total et les facettes étant calculés par la requête de recherche, seules les phases QUERY et FETCH sont mesurées
+     */
+    private final SearchMetrics searchMetrics;
+
     public ElasticsearchEntityRepositoryAdapter(Class<T> entityClass, GetFieldTypeUseCase getFieldTypeUseCase, ElasticsearchOperations elasticsearchOperations) {
+        this(entityClass, getFieldTypeUseCase, elasticsearchOperations, null);
+    }
+
+    public ElasticsearchEntityRepositoryAdapter(Class<T> entityClass, GetFieldTypeUseCase getFieldTypeUseCase, ElasticsearchOperations elasticsearchOperations,
+                                                SearchMetrics searchMetrics) {
         this.entityClass = entityClass;
         this.getFieldTypeUseCase = getFieldTypeUseCase;
         this.elasticsearchOperations = elasticsearchOperations;
+        this.searchMetrics = SearchMetrics.orNone(searchMetrics);
+    }
+
+    @Override
+    public String backend() {
+        return "elasticsearch";
     }
 
     @Override
     public SearchResult<T> findByCriteria(SearchCriteria criteria) {
+        return search(criteria, null, Function.identity());
+    }
+
+    /**
+     * Projection : seules les propriétés demandées sont lues dans _source (source filtering)
+     */
+    @Override
+    public SearchResult<Map<String, Object>> findProjectionByCriteria(SearchCriteria criteria) {
+        List<String> fields = criteria.fields();
+        return search(criteria, fields, document -> EntityFieldReader.toMap(document, fields));
+    }
+
+    /**
+     * Recherche groupée : toutes les requêtes partent dans un seul aller-retour _msearch,
+     * les réponses sont converties dans l'ordre des critères
+     */
+    @Override
+    public List<SearchResult<T>> findAllByCriteria(List<SearchCriteria> criteriaList) {
+        if (criteriaList.isEmpty()) {
+            return List.of();
+        }
+
+        List<NativeQuery> queries = criteriaList.stream()
+                .map(criteria -> buildSearchQuery(criteria, null))
+                .toList();
+
+        List<SearchHits<T>> responses = searchMetrics.timePhase(SearchPhase.FETCH, entityClass,
+                () -> elasticsearchOperations.multiSearch(queries, entityClass));
+
+        List<SearchResult<T>> results = new ArrayList<>(criteriaList.size());
+        for (int index = 0; index < criteriaList.size(); index++) {
+            results.add(toSearchResult(criteriaList.get(index), responses.get(index), Function.identity()));
+        }
+        return results;
+    }
+
+    /**
+     * Exécute la recherche paginée et convertit chaque document avec rowMapper
+     *
+     * @param includes Propriétés de _source à lire (null pour le document complet)
+     */
+    private <R> SearchResult<R> search(SearchCriteria criteria, List<String> includes, Function<T, R> rowMapper) {
+        NativeQuery query = buildSearchQuery(criteria, includes);
+
+        // Exécution de la requête Elasticsearch
+        SearchHits<T> searchHits = searchMetrics.timePhase(SearchPhase.FETCH, entityClass, () -> elasticsearchOperations.search(query, entityClass));
+
+        return toSearchResult(criteria, searchHits, rowMapper);
+    }
+
+    /**
+     * Construit la requête de recherche paginée : filtres, tri, suivi du total, source filtering et facettes
+     *
+     * La requête est signalée aux mesures et rendue uniquement si elle est exploitée (recherche lente).
+     *
+     * @param includes Propriétés de _source à lire (null pour le document complet)
+     * @throws IllegalArgumentException en pagination keyset, non supportée par cet adaptateur
+     */
+    private NativeQuery buildSearchQuery(SearchCriteria criteria, List<String> includes) {
+        // Pagination par offset uniquement : une page keyset renverrait la première page sans curseur suivant
+        if (criteria.page().isKeyset()) {
+            throw new IllegalArgumentException("Keyset pagination is not supported by the Elasticsearch backend for " + entityClass.getSimpleName());
+        }
+
+        NativeQuery query = searchMetrics.timePhase(SearchPhase.QUERY, entityClass, () -> createSearchQuery(criteria, includes));
+        searchMetrics.nativeQuery(() -> query.getQuery() + " " + query.getPageable());
+        return query;
+    }
+
+    private NativeQuery createSearchQuery(SearchCriteria criteria, List<String> includes) {
         // Création de la Query Elasticsearch à partir des critères du domaine
         NativeQuery baseQuery = ElasticsearchCriteriaBuilder.buildQuery(criteria, entityClass);
 
-        // Création du tri Spring Data depuis les critères de tri du domaine
-        Sort sort = createSort(criteria.sorts());
-
-        // Création de la pagination depuis les critères de number
-        Pageable pageable = createPageable(criteria.page().number(), criteria.page().size(), sort);
+        // Création de la pagination et du tri depuis les critères du domaine
+        Pageable pageable = createPageable(criteria);
 
         NativeQueryBuilder nativeQueryBuilder = NativeQuery.builder().withPageable(pageable);
 
+        // Suivi du nombre de hits selon la stratégie de comptage : toujours au-delà de la page courante
+        // pour savoir s'il existe une page suivante, sans compter au-delà du nécessaire
+        int nextPageThreshold = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize() + 1);
+        switch (criteria.page().countMode()) {
+            case EXACT -> nativeQueryBuilder.withTrackTotalHits(true);
+            case CAPPED, ESTIMATED -> nativeQueryBuilder.withTrackTotalHitsUpTo(Math.max(criteria.page().effectiveCountLimit(), nextPageThreshold));
+            case NONE -> nativeQueryBuilder.withTrackTotalHitsUpTo(nextPageThreshold);
+        }
+
         if (baseQuery.getQuery() != null) {
             nativeQueryBuilder.withQuery(baseQuery.getQuery());
         }
 
-        NativeQuery nativeQuery = nativeQueryBuilder.build();
+        if (includes != null) {
+            nativeQueryBuilder.withSourceFilter(new FetchSourceFilter(true, includes.toArray(String[]::new), null));
+        }
 
-        // Exécution de la requête Elasticsearch
-        SearchHits<T> searchHits = elasticsearchOperations.search(nativeQuery, entityClass);
+        // Facettes calculées dans la même requête que la page (agrégations terms)
+        List<FacetCriteria> facets = criteria.facets();
+        for (int index = 0; index < facets.size(); index++) {
+            nativeQueryBuilder.withAggregation(facetName(index), toTermsAggregation(facets.get(index)));
+        }
+
+        return nativeQueryBuilder.build();
+    }
+
+    /**
+     * Convertit la réponse Elasticsearch en résultat du domaine
+     */
+    private <R> SearchResult<R> toSearchResult(SearchCriteria criteria, SearchHits<T> searchHits, Function<T, R> rowMapper) {
+        Pageable pageable = createPageable(criteria);
 
         // Extraction du contenu
-        List<T> content = searchHits.getSearchHits().stream()
-                .map(org.springframework.data.elasticsearch.core.SearchHit::getContent)
+        List<R> content = searchHits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(rowMapper)
                 .collect(Collectors.toList());
 
-        // Création de la Page
-        Page<T> page = PageableExecutionUtils.getPage(content, pageable, searchHits::getTotalHits);
+        boolean hasNext = pageable.getOffset() + content.size() < searchHits.getTotalHits();
 
         // Conversion du résultat vers le domaine via le mapper statique du starter
-        return PageToSearchResultMapper.toSearchResult(page);
+        SearchResult<R> result = PageToSearchResultMapper.toSearchResult(new SliceImpl<>(content, pageable, hasNext), toCountResult(searchHits, criteria.page().countMode()));
+
+        return criteria.hasFacets() ? result.withFacets(toFacetResults(criteria.facets(), searchHits)) : result;
+    }
+
+    /**
+     * Agrégation terms sur le champ de la facette (sous-champ .keyword pour les chaînes, comme pour le tri)
+     */
+    private Aggregation toTermsAggregation(FacetCriteria facet) {
+        String field = getFieldTypeUseCase.isFieldTypeString(facet.key(), entityClass) ? facet.key() + ".keyword" : facet.key();
+        return Aggregation.of(aggregation -> aggregation.terms(terms -> terms.field(field).size(facet.effectiveSize())));
+    }
+
+    private List<FacetResult> toFacetResults(List<FacetCriteria> facets, SearchHits<T> searchHits) {
+        List<FacetResult> results = new ArrayList<>();
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) searchHits.getAggregations();
+
+        for (int index = 0; index < facets.size(); index++) {
+            List<FacetBucket> buckets = new ArrayList<>();
+            if (aggregations != null && aggregations.get(facetName(index)) != null) {
+                Aggregate aggregate = aggregations.get(facetName(index)).aggregation().getAggregate();
+                if (aggregate.isSterms()) {
+                    aggregate.sterms().buckets().array().forEach(bucket -> buckets.add(new FacetBucket(bucket.key().stringValue(), bucket.docCount())));
+                } else if (aggregate.isLterms()) {
+                    aggregate.lterms().buckets().array().forEach(bucket -> buckets.add(new FacetBucket(bucket.key(), bucket.docCount())));
+                } else if (aggregate.isDterms()) {
+                    aggregate.dterms().buckets().array().forEach(bucket -> buckets.add(new FacetBucket(bucket.key(), bucket.docCount())));
+                }
+            }
+            results.add(new FacetResult(facets.get(index).key(), buckets));
+        }
+        return results;
+    }
+
+    private static String facetName(int index) {
+        return "facet_" + index;
+    }
+
+    /**
+     * Traduit le total retourné par Elasticsearch : une relation "gte" signifie que le comptage a été plafonné
+     * Elasticsearch ne fournissant pas d'estimation plus économique que le plafonnement, ESTIMATED est servi comme CAPPED
+     */
+    private CountResult toCountResult(SearchHits<T> searchHits, CountMode countMode) {
+        if (searchHits.getTotalHitsRelation() != TotalHitsRelation.GREATER_THAN_OR_EQUAL_TO) {
+            return CountResult.exact(searchHits.getTotalHits());
+        }
+        return countMode == CountMode.NONE ? CountResult.none() : CountResult.capped(searchHits.getTotalHits());
+    }
+
+    /**
+     * Parcours via l'API scroll d'Elasticsearch : chaque aller-retour ramène un lot de la taille de page,
+     * le contexte de scroll est libéré à la fermeture du flux
+     */
+    @Override
+    public Stream<T> streamByCriteria(SearchCriteria criteria) {
+        NativeQuery baseQuery = searchMetrics.timePhase(SearchPhase.QUERY, entityClass, () -> ElasticsearchCriteriaBuilder.buildQuery(criteria, entityClass));
+        Pageable batch = createPageable(0, criteria.page().size(), createSort(criteria.sorts()));
+
+        NativeQueryBuilder nativeQueryBuilder = NativeQuery.builder().withPageable(batch);
+
+        if (baseQuery.getQuery() != null) {
+            nativeQueryBuilder.withQuery(baseQuery.getQuery());
+        }
+
+        SearchHitsIterator<T> iterator = elasticsearchOperations.searchForStream(nativeQueryBuilder.build(), entityClass);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .map(SearchHit::getContent)
+                .onClose(iterator::close);
     }
 
     private Sort createSort(List<io.github.cnadjim.dynamic.search.model.SortCriteria> sortCriteria) {
@@ -94,6 +290,10 @@ public class ElasticsearchEntityRepositoryAdapter<T> implements EntityRepository
         return Sort.by(orders);
     }
 
+    private Pageable createPageable(SearchCriteria criteria) {
+        return createPageable(criteria.page().number(), criteria.page().size(), createSort(criteria.sorts()));
+    }
+
     private Pageable createPageable(Integer page, Integer size, Sort sort) {
         int pageNumber = Objects.requireNonNullElse(page, 0);
         int pageSize = Objects.requireNonNullElse(size, 100);
@@ -1,9 +1,12 @@
 package io.github.cnadjim.dynamic.search.spring.elasticsearch.autoconfigure;
 
+import io.github.cnadjim.dynamic.search.spring.elasticsearch.callback.NormalizedFieldsElasticsearchCallback;
 import io.github.cnadjim.dynamic.search.spring.elasticsearch.config.SearchableElasticsearchBeanRegistrar;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
@@ -18,6 +21,8 @@ import org.springframework.data.elasticsearch.repository.ElasticsearchRepository
  * 1. Annoter votre document avec @EnableSearchable
  * 2. Annoter les champs filtrables avec @Searchable
  * 3. Les beans SearchUseCase<T> et GetAvailableFiltersUseCase<T> sont créés automatiquement
+ *
+ * Les champs normalisés (@Searchable(normalizedField)) sont recopiés à chaque indexation par NormalizedFieldsElasticsearchCallback
  */
 @Slf4j
 @AutoConfiguration
@@ -29,4 +34,15 @@ public class DynamicSearchElasticsearchAutoConfiguration {
         log.info("✅ DynamicSearchElasticsearchAutoConfiguration activated - Ready to scan @EnableSearchable documents");
     }
 
+    /**
+     * Crée le callback maintenant les champs normalisés des documents
+     *
+     * @return Callback d'indexation Elasticsearch
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public NormalizedFieldsElasticsearchCallback normalizedFieldsElasticsearchCallback() {
+        return new NormalizedFieldsElasticsearchCallback();
+    }
+
 }
@@ -0,0 +1,26 @@
+package io.github.cnadjim.dynamic.search.spring.elasticsearch.callback;
+
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
+import org.springframework.core.Ordered;
+import org.springframework.data.elasticsearch.core.event.BeforeConvertCallback;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * Callback Elasticsearch maintenant les champs normalisés déclarés par @Searchable(normalizedField)
+ * Appelé avant la conversion de chaque document indexé par ElasticsearchOperations (save, bulk) : le document
+ * indexé porte toujours la valeur normalisée de son champ d'origine
+ */
+public class NormalizedFieldsElasticsearchCallback implements BeforeConvertCallback<Object>, Ordered {
+
+    @Override
+    public Object onBeforeConvert(Object entity, IndexCoordinates index) {
+        NormalizedFields.of(entity.getClass()).apply(entity);
+        return entity;
+    }
+
+    @Override
+    public int getOrder() {
+        // Après les callbacks de l'application, qui peuvent encore modifier le champ d'origine
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
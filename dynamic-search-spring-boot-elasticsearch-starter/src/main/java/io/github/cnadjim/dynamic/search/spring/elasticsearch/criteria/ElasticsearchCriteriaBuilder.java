@@ -4,16 +4,17 @@ import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
-import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
 import io.github.cnadjim.dynamic.search.model.FilterCriteria;
-import io.github.cnadjim.dynamic.search.model.FilterDescriptor;
+import io.github.cnadjim.dynamic.search.model.FilterValue;
+import io.github.cnadjim.dynamic.search.model.LongValueList;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
-import io.github.cnadjim.dynamic.search.spring.starter.util.FieldTypeParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,6 +27,11 @@ import static java.util.Objects.isNull;
 @Slf4j
 public final class ElasticsearchCriteriaBuilder {
 
+    /**
+     * Format des bornes date des requêtes range (ISO 8601, heure optionnelle)
+     */
+    private static final String DATE_FORMAT = "strict_date_optional_time";
+
     private ElasticsearchCriteriaBuilder() {
         // Classe utilitaire - constructeur privé
     }
@@ -51,11 +57,12 @@ public final class ElasticsearchCriteriaBuilder {
         }
 
         BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+        NormalizedFields normalizedFields = NormalizedFields.of(entityClass);
 
-        // Application des filtres standards
+        // Application des filtres standards (filtres textuels des champs normalisés sur leur champ normalisé)
         for (FilterCriteria filter : filters) {
-            log.info("Filter: {} {} {}", filter.key(), filter.operator(), filter.value());
-            Query query = buildCriteria(filter);
+            String shadowKey = normalizedFields.shadowKey(filter.key(), filter.operator());
+            Query query = shadowKey != null ? buildNormalizedCriteria(filter, shadowKey) : buildCriteria(filter);
             if (query != null) {
                 boolQueryBuilder.must(query);
             }
@@ -63,7 +70,6 @@ public final class ElasticsearchCriteriaBuilder {
 
         // Application de la recherche full-text si présente
         if (hasFullText) {
-            log.info("Full-text search: {}", searchCriteria.fullText().query());
             Query fullTextQuery = buildFullTextCriteria(searchCriteria.fullText().query(), entityClass);
             if (fullTextQuery != null) {
                 boolQueryBuilder.must(fullTextQuery);
@@ -80,14 +86,8 @@ public final class ElasticsearchCriteriaBuilder {
      * Utilise une multi_match query pour rechercher dans plusieurs champs avec une recherche fuzzy
      */
     private static Query buildFullTextCriteria(String searchQuery, Class<?> entityClass) {
-        // Extraire les métadonnées des champs searchable
-        List<FilterDescriptor> searchableFields = FilterMetadataExtractor.extractFilters(entityClass);
-
-        // Filtrer uniquement les champs de type STRING (les seuls où on peut faire du full-text)
-        List<String> stringFields = searchableFields.stream()
-                .filter(field -> field.fieldType() == FieldType.STRING)
-                .map(FilterDescriptor::key)
-                .toList();
+        // Champs STRING searchable (les seuls où on peut faire du full-text), issus de l'index compilé
+        List<String> stringFields = FilterMetadataExtractor.index(entityClass).stringFieldKeys();
 
         if (stringFields.isEmpty()) {
             log.warn("No searchable STRING fields found for full-text search on entity: {}", entityClass.getSimpleName());
@@ -99,7 +99,7 @@ public final class ElasticsearchCriteriaBuilder {
         // Construire une multi_match query pour rechercher dans tous les champs STRING
         // Utilisation de wildcard pour une recherche case-insensitive et partielle
         List<Query> fieldQueries = new ArrayList<>();
-        String wildcardValue = "*" + searchQuery.toLowerCase() + "*";
+        String wildcardValue = "*" + escapeWildcard(searchQuery.toLowerCase()) + "*";
 
         for (String fieldName : stringFields) {
             fieldQueries.add(Query.of(q -> q.wildcard(w -> w
@@ -137,96 +137,118 @@ public final class ElasticsearchCriteriaBuilder {
         };
     }
 
+    /**
+     * Filtre textuel sur le champ normalisé (@Searchable(normalizedField), champ keyword) : la saisie normalisée
+     * est comparée sans caseInsensitive ; STARTS_WITH devient une requête prefix, servie par le dictionnaire de termes
+     */
+    private static Query buildNormalizedCriteria(FilterCriteria filter, String shadowKey) {
+        return switch (filter.operator()) {
+            case EQUALS -> Query.of(q -> q.term(t -> t.field(shadowKey).value(normalized(filter))));
+            case NOT_EQUALS -> Query.of(q -> q.bool(b -> b.mustNot(
+                    Query.of(qq -> qq.term(t -> t.field(shadowKey).value(normalized(filter))))
+            )));
+            case IN -> Query.of(q -> q.terms(t -> t.field(shadowKey).terms(tf -> tf.value(normalizedValues(filter)))));
+            case NOT_IN -> Query.of(q -> q.bool(b -> b.mustNot(
+                    Query.of(qq -> qq.terms(t -> t.field(shadowKey).terms(tf -> tf.value(normalizedValues(filter)))))
+            )));
+            case CONTAINS -> Query.of(q -> q.wildcard(w -> w.field(shadowKey).value("*" + escapeWildcard(normalized(filter)) + "*")));
+            case NOT_CONTAINS -> Query.of(q -> q.bool(b -> b.mustNot(
+                    Query.of(qq -> qq.wildcard(w -> w.field(shadowKey).value("*" + escapeWildcard(normalized(filter)) + "*")))
+            )));
+            case STARTS_WITH -> Query.of(q -> q.prefix(p -> p.field(shadowKey).value(normalized(filter))));
+            case ENDS_WITH -> Query.of(q -> q.wildcard(w -> w.field(shadowKey).value("*" + escapeWildcard(normalized(filter)))));
+            default -> throw new IllegalStateException("Operator not supported on normalized field: " + filter.operator());
+        };
+    }
+
+    private static String normalized(FilterCriteria filter) {
+        return NormalizedFields.normalize(filter.value().text());
+    }
+
+    private static List<FieldValue> normalizedValues(FilterCriteria filter) {
+        return filter.values().stream()
+                .map(value -> FieldValue.of(NormalizedFields.normalize(value.text())))
+                .toList();
+    }
+
+    /**
+     * Échappe les jokers d'une requête wildcard (*, ? et \) : la saisie est cherchée telle quelle
+     */
+    private static String escapeWildcard(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
     private static Query buildEquals(FilterCriteria filter) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-        return Query.of(q -> q.term(t -> t.field(filter.key()).value(toFieldValue(value))));
+        // Une date sans heure couvre toute la journée : [minuit, minuit du lendemain[
+        if (filter.value() instanceof FilterValue.DateTimeValue date && date.wholeDay()) {
+            FilterValue nextDay = new FilterValue.DateTimeValue(date.value().plusDays(1), false);
+            return range(filter.key(), date, true, nextDay, false);
+        }
+
+        FieldValue value = toFieldValue(filter.value());
+        return Query.of(q -> q.term(t -> t.field(filter.key()).value(value)));
     }
 
     private static Query buildNotEquals(FilterCriteria filter) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
+        FieldValue value = toFieldValue(filter.value());
         return Query.of(q -> q.bool(b -> b.mustNot(
-                Query.of(qq -> qq.term(t -> t.field(filter.key()).value(toFieldValue(value))))
+                Query.of(qq -> qq.term(t -> t.field(filter.key()).value(value)))
         )));
     }
 
     private static Query buildLessThan(FilterCriteria filter) {
-        String value = filter.value().toString();
-        return Query.of(q -> q.range(r -> {
-            var builder = co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery.of(nr -> nr
-                    .field(filter.key())
-                    .lt(Double.parseDouble(value))
-            );
-            return r.number(builder);
-        }));
+        return range(filter.key(), null, false, filter.value(), false);
     }
 
     private static Query buildGreaterThan(FilterCriteria filter) {
-        String value = filter.value().toString();
-        return Query.of(q -> q.range(r -> {
-            var builder = co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery.of(nr -> nr
-                    .field(filter.key())
-                    .gt(Double.parseDouble(value))
-            );
-            return r.number(builder);
-        }));
+        return range(filter.key(), filter.value(), false, null, false);
     }
 
     private static Query buildContains(FilterCriteria filter) {
-        // Elasticsearch wildcard query pour recherche case insensitive
-        String wildcardValue = "*" + filter.value().toString().toLowerCase() + "*";
+        // Elasticsearch wildcard query pour recherche case insensitive, jokers de la saisie échappés
+        String wildcardValue = "*" + escapeWildcard(filter.value().text().toLowerCase()) + "*";
         return Query.of(q -> q.wildcard(w -> w.field(filter.key()).value(wildcardValue).caseInsensitive(true)));
     }
 
     private static Query buildNotContains(FilterCriteria filter) {
-        String wildcardValue = "*" + filter.value().toString().toLowerCase() + "*";
+        String wildcardValue = "*" + escapeWildcard(filter.value().text().toLowerCase()) + "*";
         return Query.of(q -> q.bool(b -> b.mustNot(
                 Query.of(qq -> qq.wildcard(w -> w.field(filter.key()).value(wildcardValue).caseInsensitive(true)))
         )));
     }
 
     private static Query buildStartsWith(FilterCriteria filter) {
-        String wildcardValue = filter.value().toString().toLowerCase() + "*";
+        String wildcardValue = escapeWildcard(filter.value().text().toLowerCase()) + "*";
         return Query.of(q -> q.wildcard(w -> w.field(filter.key()).value(wildcardValue).caseInsensitive(true)));
     }
 
     private static Query buildEndsWith(FilterCriteria filter) {
-        String wildcardValue = "*" + filter.value().toString().toLowerCase();
+        String wildcardValue = "*" + escapeWildcard(filter.value().text().toLowerCase());
         return Query.of(q -> q.wildcard(w -> w.field(filter.key()).value(wildcardValue).caseInsensitive(true)));
     }
 
     private static Query buildIn(FilterCriteria filter) {
-        List<FieldValue> values = filter.values().stream()
-                .map(value -> {
-                    Object parsed = FieldTypeParser.parse(filter.fieldType(), value.toString());
-                    return toFieldValue(parsed);
-                })
-                .toList();
+        List<FieldValue> values = termValues(filter);
         return Query.of(q -> q.terms(t -> t.field(filter.key()).terms(tf -> tf.value(values))));
     }
 
     private static Query buildNotIn(FilterCriteria filter) {
-        List<FieldValue> values = filter.values().stream()
-                .map(value -> {
-                    Object parsed = FieldTypeParser.parse(filter.fieldType(), value.toString());
-                    return toFieldValue(parsed);
-                })
-                .toList();
+        List<FieldValue> values = termValues(filter);
         return Query.of(q -> q.bool(b -> b.mustNot(
                 Query.of(qq -> qq.terms(t -> t.field(filter.key()).terms(tf -> tf.value(values))))
         )));
     }
 
     private static Query buildBetween(FilterCriteria filter) {
-        String start = filter.value().toString();
-        String end = filter.valueTo().toString();
-        return Query.of(q -> q.range(r -> {
-            var builder = co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery.of(nr -> nr
-                    .field(filter.key())
-                    .gte(Double.parseDouble(start))
-                    .lte(Double.parseDouble(end))
-            );
-            return r.number(builder);
-        }));
+        return range(filter.key(), filter.value(), true, filter.valueTo(), true);
     }
 
     private static Query buildBlank(FilterCriteria filter) {
@@ -247,32 +269,100 @@ public final class ElasticsearchCriteriaBuilder {
     }
 
     /**
-     * Convertit un Object en FieldValue pour Elasticsearch
+     * Valeurs d'une requête terms : une liste d'entiers est lue directement depuis son long[]
+     * (le client impose une liste de FieldValue, construite en une passe à la taille exacte)
      */
-    private static FieldValue toFieldValue(Object value) {
-        if (value == null) {
-            return FieldValue.NULL;
-        }
-        if (value instanceof String) {
-            return FieldValue.of((String) value);
-        }
-        if (value instanceof Long) {
-            return FieldValue.of((Long) value);
-        }
-        if (value instanceof Integer) {
-            return FieldValue.of(((Integer) value).longValue());
-        }
-        if (value instanceof Double) {
-            return FieldValue.of((Double) value);
+    private static List<FieldValue> termValues(FilterCriteria filter) {
+        if (filter.values() instanceof LongValueList longs) {
+            List<FieldValue> values = new ArrayList<>(longs.size());
+            for (long value : longs.longs()) {
+                values.add(FieldValue.of(value));
+            }
+            return values;
         }
-        if (value instanceof Float) {
-            return FieldValue.of(((Float) value).doubleValue());
+        return filter.values().stream()
+                .map(ElasticsearchCriteriaBuilder::toFieldValue)
+                .toList();
+    }
+
+    /**
+     * Convertit une valeur typée en FieldValue pour Elasticsearch
+     */
+    private static FieldValue toFieldValue(FilterValue value) {
+        return switch (value) {
+            case null -> FieldValue.NULL;
+            case FilterValue.LongValue number -> FieldValue.of(number.value());
+            case FilterValue.DoubleValue number -> FieldValue.of(number.value());
+            case FilterValue.BooleanValue bool -> FieldValue.of(bool.value());
+            case FilterValue.TextValue text -> FieldValue.of(text.value());
+            // Dates et grands décimaux : écriture ISO ou décimale, interprétée selon le mapping du champ
+            case FilterValue.DecimalValue decimal -> FieldValue.of(decimal.text());
+            case FilterValue.DateTimeValue dateTime -> FieldValue.of(dateTime.text());
+        };
+    }
+
+    /**
+     * Requête range typée selon ses bornes : DateRangeQuery pour une date, NumberRangeQuery sinon
+     *
+     * @param field       Champ interrogé
+     * @param from        Borne inférieure (null : aucune)
+     * @param includeFrom true pour une borne inférieure incluse
+     * @param to          Borne supérieure (null : aucune)
+     * @param includeTo   true pour une borne supérieure incluse
+     */
+    private static Query range(String field, FilterValue from, boolean includeFrom, FilterValue to, boolean includeTo) {
+        if ((from != null ? from : to) instanceof FilterValue.DateTimeValue) {
+            return Query.of(q -> q.range(r -> r.date(d -> {
+                // Format explicite : les bornes sont lues en ISO quel que soit le format du mapping du champ
+                d.field(field).format(DATE_FORMAT);
+                if (from != null) {
+                    String date = toDate(from);
+                    d = includeFrom ? d.gte(date) : d.gt(date);
+                }
+                if (to != null) {
+                    String date = toDate(to);
+                    d = includeTo ? d.lte(date) : d.lt(date);
+                }
+                return d;
+            })));
         }
-        if (value instanceof Boolean) {
-            return FieldValue.of((Boolean) value);
+
+        return Query.of(q -> q.range(r -> r.number(n -> {
+            n.field(field);
+            if (from != null) {
+                double number = toDouble(from);
+                n = includeFrom ? n.gte(number) : n.gt(number);
+            }
+            if (to != null) {
+                double number = toDouble(to);
+                n = includeTo ? n.lte(number) : n.lt(number);
+            }
+            return n;
+        })));
+    }
+
+    /**
+     * Borne numérique d'une requête range
+     */
+    private static double toDouble(FilterValue value) {
+        return switch (value) {
+            case FilterValue.LongValue number -> number.value();
+            case FilterValue.DoubleValue number -> number.value();
+            case FilterValue.DecimalValue number -> number.value().doubleValue();
+            case FilterValue.TextValue ignored -> throw new IllegalArgumentException("Range bound must be a number or a date: " + value.text());
+            case FilterValue.BooleanValue ignored -> throw new IllegalArgumentException("Range bound must be a number or a date: " + value.text());
+            case FilterValue.DateTimeValue ignored -> throw new IllegalArgumentException("Range bounds must have the same type: " + value.text());
+        };
+    }
+
+    /**
+     * Borne date d'une requête range, écrite en ISO (DATE_FORMAT)
+     */
+    private static String toDate(FilterValue value) {
+        if (value instanceof FilterValue.DateTimeValue date) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(date.value());
         }
-        // Par défaut, convertir en String
-        return FieldValue.of(value.toString());
+        throw new IllegalArgumentException("Range bounds must have the same type: " + value.text());
     }
 
 }
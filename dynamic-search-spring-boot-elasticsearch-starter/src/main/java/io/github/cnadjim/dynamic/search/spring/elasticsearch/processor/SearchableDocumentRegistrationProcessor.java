@@ -1,26 +1,30 @@
 package io.github.cnadjim.dynamic.search.spring.elasticsearch.processor;
 
-import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
 import io.github.cnadjim.dynamic.search.port.in.GetFieldTypeUseCase;
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
 import io.github.cnadjim.dynamic.search.port.in.RegisterEntityUseCase;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
 import io.github.cnadjim.dynamic.search.spring.elasticsearch.adapter.ElasticsearchEntityRepositoryAdapter;
+import io.github.cnadjim.dynamic.search.spring.starter.discovery.SearchableTypeDiscovery;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationListener;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.event.ContextRefreshedEvent;
-import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
 
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Processor responsable de scanner les documents Elasticsearch annotés @EnableSearchable
+ * Processor responsable de découvrir les documents Elasticsearch annotés @EnableSearchable
  * et de les enregistrer auprès du SearchService unique.
  * <p>
+ * Les documents sont lus dans le MappingContext Elasticsearch (entités initiales détectées par Spring Boot,
+ * aucun scan du classpath), complété par la découverte partagée SearchableTypeDiscovery
+ * (index de compilation ou packages de l'application).
+ * <p>
  * Utilise ApplicationListener<ContextRefreshedEvent> pour enregistrer les documents
  * après que tous les beans soient créés et disponibles.
  * <p>
@@ -32,12 +36,17 @@ public class SearchableDocumentRegistrationProcessor implements ApplicationListe
     private final GetFieldTypeUseCase getFieldTypeUseCase;
     private final RegisterEntityUseCase registerEntityUseCase;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final SearchableTypeDiscovery searchableTypeDiscovery;
+    private final SearchMetrics searchMetrics;
     private final AtomicBoolean registered = new AtomicBoolean(false);
 
-    public SearchableDocumentRegistrationProcessor(GetFieldTypeUseCase getFieldTypeUseCase, RegisterEntityUseCase registerEntityUseCase, ElasticsearchOperations elasticsearchOperations) {
+    public SearchableDocumentRegistrationProcessor(GetFieldTypeUseCase getFieldTypeUseCase, RegisterEntityUseCase registerEntityUseCase, ElasticsearchOperations elasticsearchOperations, SearchableTypeDiscovery searchableTypeDiscovery,
+                                                   ObjectProvider<SearchMetrics> searchMetrics) {
         this.getFieldTypeUseCase = getFieldTypeUseCase;
         this.registerEntityUseCase = registerEntityUseCase;
         this.elasticsearchOperations = elasticsearchOperations;
+        this.searchableTypeDiscovery = searchableTypeDiscovery;
+        this.searchMetrics = searchMetrics.getIfAvailable();
     }
 
     @Override
@@ -47,59 +56,35 @@ public class SearchableDocumentRegistrationProcessor implements ApplicationListe
             return;
         }
 
-        log.info("🔍 Scanning for @EnableSearchable Elasticsearch documents...");
-
-        // Scanner le classpath complet pour trouver les classes annotées @Document et @EnableSearchable
-        ClassPathScanningCandidateComponentProvider scanner = createScanner();
+        log.info("🔍 Discovering @EnableSearchable Elasticsearch documents...");
 
-        // Scanner en partant de la racine (tous les packages)
-        Set<BeanDefinition> candidates = scanner.findCandidateComponents("");
+        // Documents connus du MappingContext, puis ceux de la découverte partagée
+        Set<Class<?>> documentClasses = SearchableTypeDiscovery.searchable(elasticsearchOperations.getElasticsearchConverter().getMappingContext().getPersistentEntities().stream()
+                .<Class<?>>map(ElasticsearchPersistentEntity::getType)
+                .toList());
+        documentClasses.addAll(searchableTypeDiscovery.searchableTypes(Document.class));
 
         int registeredCount = 0;
-
-        for (BeanDefinition candidate : candidates) {
+        for (Class<?> documentClass : documentClasses) {
             try {
-                Class<?> documentClass = Class.forName(candidate.getBeanClassName());
-
-                // Vérifier que la classe a bien les deux annotations
-                if (documentClass.isAnnotationPresent(Document.class) &&
-                        documentClass.isAnnotationPresent(EnableSearchable.class)) {
-
-                    log.info("✅ Registering @EnableSearchable Elasticsearch document: {}", documentClass.getSimpleName());
-                    registerDocument(documentClass);
-                    registeredCount++;
-                }
-            } catch (ClassNotFoundException e) {
-                log.warn("Failed to load class: {}", candidate.getBeanClassName(), e);
+                log.info("✅ Registering @EnableSearchable Elasticsearch document: {}", documentClass.getSimpleName());
+                registerDocument(documentClass);
+                registeredCount++;
             } catch (Exception e) {
-                log.error("Failed to register document: {}", candidate.getBeanClassName(), e);
+                log.error("Failed to register document: {}", documentClass.getName(), e);
             }
         }
 
         log.info("📊 Successfully registered {} @EnableSearchable Elasticsearch documents", registeredCount);
     }
 
-    /**
-     * Crée un scanner configuré pour trouver les classes annotées @Document et @EnableSearchable
-     */
-    private ClassPathScanningCandidateComponentProvider createScanner() {
-        ClassPathScanningCandidateComponentProvider scanner =
-                new ClassPathScanningCandidateComponentProvider(false);
-
-        // Scanner les classes avec @Document ET @EnableSearchable
-        scanner.addIncludeFilter(new AnnotationTypeFilter(Document.class));
-        scanner.addIncludeFilter(new AnnotationTypeFilter(EnableSearchable.class));
-
-        return scanner;
-    }
-
     /**
      * Enregistre un document Elasticsearch auprès du SearchService
      * Crée un adaptateur Elasticsearch spécifique pour ce document
      */
     private <T> void registerDocument(Class<T> documentClass) {
         // Créer l'adaptateur
-        EntityRepository<T> repositoryAdapter = new ElasticsearchEntityRepositoryAdapter<>(documentClass, getFieldTypeUseCase, elasticsearchOperations);
+        EntityRepository<T> repositoryAdapter = new ElasticsearchEntityRepositoryAdapter<>(documentClass, getFieldTypeUseCase, elasticsearchOperations, searchMetrics);
 
         // Enregistrer le document auprès du SearchService
         registerEntityUseCase.registerEntity(documentClass, repositoryAdapter);
@@ -3,8 +3,10 @@ package io.github.cnadjim.dynamic.search.example.controller;
 import io.github.cnadjim.dynamic.search.example.entity.elastic.OperatingSystemElasticDocument;
 import io.github.cnadjim.dynamic.search.example.entity.jpa.OperatingSystemJpaEntity;
 import io.github.cnadjim.dynamic.search.example.entity.mongo.OperatingSystemMongoDocument;
+import io.github.cnadjim.dynamic.search.model.GlobalSearchResult;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 import io.github.cnadjim.dynamic.search.spring.starter.gateway.SearchGateway;
+import io.github.cnadjim.dynamic.search.spring.starter.request.GlobalSearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.response.FilterDescriptorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -89,4 +91,13 @@ public class OperatingSystemController {
         return searchGateway.search(request, OperatingSystemElasticDocument.class);
     }
 
+    // ==================== Global (toutes technologies) ====================
+
+    @Operation(summary = "Recherche full-text simultanée sur JPA, MongoDB et Elasticsearch")
+    @PostMapping(value = "/global/search", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public GlobalSearchResult searchGlobal(@Valid @RequestBody GlobalSearchRequest request) {
+        log.info("Global search: fullText: {}", request.fullText().query());
+        return searchGateway.globalSearch(request);
+    }
+
 }
@@ -0,0 +1,193 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.adapter;
+
+import io.github.cnadjim.dynamic.search.model.CountResult;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+import io.github.cnadjim.dynamic.search.model.SearchResult;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.spring.inmemory.table.ColumnarTable;
+import io.github.cnadjim.dynamic.search.spring.starter.mapper.PageToSearchResultMapper;
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
+import io.github.cnadjim.dynamic.search.spring.starter.util.KeysetCursorCodec;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Adaptateur EntityRepository servant une entité depuis une table colonnaire en mémoire
+ * <p>
+ * Aucune requête n'est émise : filtres, full-text, tri partiel (top-k) et facettes sont évalués
+ * sur les colonnes primitives. Le total est toujours exact, quel que soit le mode de comptage demandé,
+ * puisque la sélection complète est connue.
+ * <p>
+ * La table est remplacée atomiquement par {@link #reload(Collection)} : les recherches en cours
+ * terminent sur l'instantané précédent.
+ *
+ * @param <T> Type de l'entité
+ */
+public class InMemoryEntityRepositoryAdapter<T> implements EntityRepository<T> {
+
+    private final Class<T> entityClass;
+
+    /**
+     * Nom du champ identifiant, utilisé comme départage de la pagination keyset (peut être null)
+     */
+    private final String idKey;
+
+    private volatile ColumnarTable<T> table;
+
+    /**
+     * Mesures des phases de recherche (SearchMetrics.none() : pas de mesure)
+     */
+    private final SearchMetrics searchMetrics;
+
+    public InMemoryEntityRepositoryAdapter(Class<T> entityClass, String idKey, Collection<? extends T> entities) {
+        this(entityClass, idKey, entities, null);
+    }
+
+    public InMemoryEntityRepositoryAdapter(Class<T> entityClass, String idKey, Collection<? extends T> entities, SearchMetrics searchMetrics) {
+        this.entityClass = entityClass;
+        this.idKey = idKey;
+        this.table = ColumnarTable.of(entityClass, entities);
+        this.searchMetrics = SearchMetrics.orNone(searchMetrics);
+    }
+
+    @Override
+    public String backend() {
+        return "inmemory";
+    }
+
+    /**
+     * Remplace l'instantané des données servi par l'adaptateur
+     *
+     * @param entities Nouvel instantané complet
+     */
+    public void reload(Collection<? extends T> entities) {
+        this.table = ColumnarTable.of(entityClass, entities);
+    }
+
+    @Override
+    public SearchResult<T> findByCriteria(SearchCriteria criteria) {
+        ColumnarTable<T> snapshot = table;
+        int[] selected = select(snapshot, criteria);
+
+        SearchResult<T> result = findPage(snapshot, criteria, selected, snapshot::row);
+        return criteria.hasFacets()
+                ? result.withFacets(searchMetrics.timePhase(SearchPhase.FACETS, entityClass, () -> snapshot.facets(selected, criteria.facets())))
+                : result;
+    }
+
+    /**
+     * Projection : les lignes sont construites à partir des champs demandés de l'entité
+     * En pagination keyset, les clés de tri sont ajoutées à la projection pour construire le curseur.
+     */
+    @Override
+    public SearchResult<Map<String, Object>> findProjectionByCriteria(SearchCriteria criteria) {
+        ColumnarTable<T> snapshot = table;
+        int[] selected = select(snapshot, criteria);
+
+        Set<String> columns = new LinkedHashSet<>(criteria.fields());
+        if (criteria.page().isKeyset()) {
+            keysetSorts(snapshot, criteria).forEach(sort -> columns.add(sort.key()));
+        }
+
+        return findPage(snapshot, criteria, selected, row -> EntityFieldReader.toMap(snapshot.row(row), columns));
+    }
+
+    /**
+     * Parcourt toute la sélection triée ; la table étant déjà en mémoire, aucun curseur n'est à libérer
+     */
+    @Override
+    public Stream<T> streamByCriteria(SearchCriteria criteria) {
+        ColumnarTable<T> snapshot = table;
+        int[] selected = select(snapshot, criteria);
+
+        return Arrays.stream(snapshot.sort(selected, criteria.sorts(), selected.length))
+                .mapToObj(snapshot::row);
+    }
+
+    /**
+     * Évaluation des filtres sur les colonnes : le total est connu dès la sélection, sans phase COUNT distincte
+     */
+    private int[] select(ColumnarTable<T> snapshot, SearchCriteria criteria) {
+        return searchMetrics.timePhase(SearchPhase.QUERY, entityClass, () -> snapshot.select(criteria));
+    }
+
+    /**
+     * Tri partiel de la sélection et construction des lignes de la page
+     */
+    private <R> SearchResult<R> findPage(ColumnarTable<T> snapshot, SearchCriteria criteria, int[] selected, IntFunction<R> rowMapper) {
+        return searchMetrics.timePhase(SearchPhase.FETCH, entityClass, () -> readPage(snapshot, criteria, selected, rowMapper));
+    }
+
+    private <R> SearchResult<R> readPage(ColumnarTable<T> snapshot, SearchCriteria criteria, int[] selected, IntFunction<R> rowMapper) {
+        int pageSize = Objects.requireNonNullElse(criteria.page().size(), 100);
+        CountResult count = CountResult.exact(selected.length);
+
+        if (criteria.page().isKeyset()) {
+            List<SortCriteria> keysetSorts = keysetSorts(snapshot, criteria);
+            int[] candidates = criteria.page().hasCursor()
+                    ? snapshot.seekAfter(selected, keysetSorts, KeysetCursorCodec.decode(criteria.page().cursor(), entityClass, keysetSorts))
+                    : selected;
+
+            // Une ligne supplémentaire pour détecter la présence d'une page suivante
+            List<R> rows = map(snapshot.sort(candidates, keysetSorts, pageSize + 1), 0, rowMapper);
+            return PageToSearchResultMapper.toKeysetSearchResult(rows, criteria.page(), count, keysetSorts);
+        }
+
+        int pageNumber = Objects.requireNonNullElse(criteria.page().number(), 0);
+        long offset = (long) pageNumber * pageSize;
+        int limit = (int) Math.min(offset + pageSize, selected.length);
+
+        List<R> content = offset < selected.length
+                ? map(snapshot.sort(selected, criteria.sorts(), limit), (int) offset, rowMapper)
+                : List.of();
+
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, createSort(criteria.sorts()));
+        return PageToSearchResultMapper.toSearchResult(new PageImpl<>(content, pageable, selected.length));
+    }
+
+    /**
+     * Tris effectifs de la pagination keyset, identifiant de départage inclus
+     * Sans identifiant chargé en mémoire, le seek ne peut ni départager les égalités ni avancer sans tri : le mode est refusé
+     *
+     * @throws IllegalArgumentException si aucune colonne identifiant n'est chargée
+     */
+    private List<SortCriteria> keysetSorts(ColumnarTable<T> snapshot, SearchCriteria criteria) {
+        if (idKey == null || !snapshot.hasColumn(idKey)) {
+            throw new IllegalArgumentException("Keyset pagination requires an identifier column for " + entityClass.getSimpleName()
+                    + ": declare a @Searchable idKey in its InMemoryEntitySource");
+        }
+        return KeysetCursorCodec.withTieBreaker(criteria.sorts(), idKey);
+    }
+
+    private static <R> List<R> map(int[] rows, int from, IntFunction<R> rowMapper) {
+        return Arrays.stream(rows, from, rows.length)
+                .mapToObj(rowMapper)
+                .toList();
+    }
+
+    private static Sort createSort(List<SortCriteria> sortCriteria) {
+        return Sort.by(sortCriteria.stream()
+                .map(criteria -> new Sort.Order(
+                        criteria.direction() == SortDirection.ASC
+                                ? Sort.Direction.ASC
+                                : Sort.Direction.DESC,
+                        criteria.key()))
+                .toList());
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.autoconfigure;
+
+import io.github.cnadjim.dynamic.search.port.in.RegisterEntityUseCase;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.port.out.SearchResultCache;
+import io.github.cnadjim.dynamic.search.spring.inmemory.processor.InMemoryEntityRegistrationProcessor;
+import io.github.cnadjim.dynamic.search.spring.inmemory.source.InMemoryEntitySource;
+import io.github.cnadjim.dynamic.search.spring.starter.autoconfigure.SearchGatewayAutoConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration pour le starter en mémoire
+ *
+ * Usage:
+ * 1. Annoter votre entité avec @EnableSearchable et ses champs filtrables avec @Searchable
+ * 2. Déclarer un bean InMemoryEntitySource<T> fournissant les données
+ * 3. L'entité est chargée au démarrage et interrogeable via le SearchGateway
+ */
+@Slf4j
+@AutoConfiguration(after = SearchGatewayAutoConfiguration.class)
+public class DynamicSearchInMemoryAutoConfiguration {
+
+    public DynamicSearchInMemoryAutoConfiguration() {
+        log.info("✅ DynamicSearchInMemoryAutoConfiguration activated - Ready to load InMemoryEntitySource beans");
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public InMemoryEntityRegistrationProcessor inMemoryEntityRegistrationProcessor(RegisterEntityUseCase registerEntityUseCase,
+                                                                                   ObjectProvider<InMemoryEntitySource<?>> entitySources,
+                                                                                   ObjectProvider<SearchResultCache> searchResultCache,
+                                                                                   ObjectProvider<SearchMetrics> searchMetrics) {
+        return new InMemoryEntityRegistrationProcessor(registerEntityUseCase, entitySources, searchResultCache, searchMetrics);
+    }
+}
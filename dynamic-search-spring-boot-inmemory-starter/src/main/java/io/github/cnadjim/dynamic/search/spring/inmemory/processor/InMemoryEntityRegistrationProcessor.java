@@ -0,0 +1,95 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.processor;
+
+import io.github.cnadjim.dynamic.search.port.in.RegisterEntityUseCase;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.port.out.SearchResultCache;
+import io.github.cnadjim.dynamic.search.spring.inmemory.adapter.InMemoryEntityRepositoryAdapter;
+import io.github.cnadjim.dynamic.search.spring.inmemory.source.InMemoryEntitySource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Processor responsable de charger les beans InMemoryEntitySource en tables colonnaires
+ * et de les enregistrer auprès du SearchService unique.
+ * <p>
+ * L'enregistrement se fait une seule fois lors du premier ContextRefreshedEvent.
+ * Les données d'une entité peuvent ensuite être rechargées avec {@link #reload(Class)}.
+ */
+@Slf4j
+public class InMemoryEntityRegistrationProcessor implements ApplicationListener<ContextRefreshedEvent> {
+
+    private final RegisterEntityUseCase registerEntityUseCase;
+    private final ObjectProvider<InMemoryEntitySource<?>> entitySources;
+    private final ObjectProvider<SearchResultCache> searchResultCache;
+    private final ObjectProvider<SearchMetrics> searchMetrics;
+    private final Map<Class<?>, Registration<?>> registrations = new ConcurrentHashMap<>();
+    private final AtomicBoolean registered = new AtomicBoolean(false);
+
+    public InMemoryEntityRegistrationProcessor(RegisterEntityUseCase registerEntityUseCase,
+                                               ObjectProvider<InMemoryEntitySource<?>> entitySources,
+                                               ObjectProvider<SearchResultCache> searchResultCache,
+                                               ObjectProvider<SearchMetrics> searchMetrics) {
+        this.registerEntityUseCase = registerEntityUseCase;
+        this.entitySources = entitySources;
+        this.searchResultCache = searchResultCache;
+        this.searchMetrics = searchMetrics;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        // Ne s'exécuter qu'une seule fois
+        if (!registered.compareAndSet(false, true)) {
+            return;
+        }
+
+        entitySources.orderedStream().forEach(source -> {
+            try {
+                register(source);
+            } catch (Exception e) {
+                log.error("Failed to load in-memory entity: {}", source.entityClass().getName(), e);
+            }
+        });
+
+        log.info("📊 Successfully registered {} in-memory entities", registrations.size());
+    }
+
+    /**
+     * Recharge les données d'une entité depuis sa source et invalide les résultats mis en cache
+     *
+     * @param entityClass Classe de l'entité à recharger
+     * @throws IllegalArgumentException si l'entité n'est pas servie en mémoire
+     */
+    public void reload(Class<?> entityClass) {
+        Registration<?> registration = registrations.get(entityClass);
+        if (registration == null) {
+            throw new IllegalArgumentException("No in-memory source registered for entity " + entityClass.getName());
+        }
+
+        registration.reload();
+        searchResultCache.ifAvailable(cache -> cache.invalidate(entityClass));
+        log.info("🔄 Reloaded in-memory entity: {}", entityClass.getSimpleName());
+    }
+
+    private <T> void register(InMemoryEntitySource<T> source) {
+        Class<T> entityClass = source.entityClass();
+        InMemoryEntityRepositoryAdapter<T> repositoryAdapter = new InMemoryEntityRepositoryAdapter<>(entityClass, source.idKey(), source.load(), searchMetrics.getIfAvailable());
+
+        registerEntityUseCase.registerEntity(entityClass, repositoryAdapter);
+        registrations.put(entityClass, new Registration<>(source, repositoryAdapter));
+
+        log.info("✅ Registering in-memory entity: {}", entityClass.getSimpleName());
+    }
+
+    private record Registration<T>(InMemoryEntitySource<T> source, InMemoryEntityRepositoryAdapter<T> adapter) {
+
+        void reload() {
+            adapter.reload(source.load());
+        }
+    }
+}
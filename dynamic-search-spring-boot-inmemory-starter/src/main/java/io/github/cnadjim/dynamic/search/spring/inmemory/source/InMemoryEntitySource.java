@@ -0,0 +1,33 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.source;
+
+import java.util.Collection;
+
+/**
+ * Source des données d'une entité servie en mémoire
+ * <p>
+ * Déclarer un bean par entité : ses données sont chargées au démarrage dans une table colonnaire
+ * puis rechargées à la demande (InMemoryEntityRegistrationProcessor.reload).
+ * Destiné aux données de référence peu volumineuses et rarement modifiées (codes pays, catalogues...).
+ *
+ * @param <T> Type de l'entité, annotée @EnableSearchable
+ */
+public interface InMemoryEntitySource<T> {
+
+    /**
+     * Classe de l'entité servie, qui porte les annotations @Searchable
+     */
+    Class<T> entityClass();
+
+    /**
+     * Charge l'instantané complet des données
+     */
+    Collection<? extends T> load();
+
+    /**
+     * Nom du champ identifiant, utilisé comme départage de la pagination keyset
+     * Doit être un champ @Searchable ; null si l'entité n'en a pas (la pagination keyset est alors refusée)
+     */
+    default String idKey() {
+        return null;
+    }
+}
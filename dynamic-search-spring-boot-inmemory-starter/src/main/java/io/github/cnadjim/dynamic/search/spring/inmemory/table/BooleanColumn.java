@@ -0,0 +1,76 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterValue;
+
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * Colonne BOOLEAN : un bit par ligne
+ */
+final class BooleanColumn extends Column {
+
+    private final BitSet values;
+
+    private BooleanColumn(String key, BitSet nulls, BitSet values) {
+        super(key, nulls);
+        this.values = values;
+    }
+
+    static BooleanColumn of(String key, Object[] rawValues) {
+        BitSet nulls = new BitSet(rawValues.length);
+        BitSet values = new BitSet(rawValues.length);
+        for (int row = 0; row < rawValues.length; row++) {
+            if (rawValues[row] == null) {
+                nulls.set(row);
+            } else if (parse(rawValues[row])) {
+                values.set(row);
+            }
+        }
+        return new BooleanColumn(key, nulls, values);
+    }
+
+    private static boolean parse(Object value) {
+        return value instanceof Boolean bool ? bool : Boolean.parseBoolean(value.toString());
+    }
+
+    private static boolean expected(FilterValue value) {
+        return value instanceof FilterValue.BooleanValue(boolean bool) ? bool : Boolean.parseBoolean(value.text());
+    }
+
+    @Override
+    protected IntPredicate valuePredicate(FilterCriteria filter) {
+        return switch (filter.operator()) {
+            case EQUALS -> {
+                boolean expected = expected(filter.value());
+                yield row -> values.get(row) == expected;
+            }
+            case NOT_EQUALS -> {
+                boolean expected = expected(filter.value());
+                yield row -> values.get(row) != expected;
+            }
+            default -> null;
+        };
+    }
+
+    @Override
+    int compareRows(int leftRow, int rightRow) {
+        return Boolean.compare(values.get(leftRow), values.get(rightRow));
+    }
+
+    @Override
+    int compareToValue(int row, Object value) {
+        return Boolean.compare(values.get(row), parse(value));
+    }
+
+    @Override
+    long groupKey(int row) {
+        return values.get(row) ? 1 : 0;
+    }
+
+    @Override
+    String text(int row) {
+        return Boolean.toString(values.get(row));
+    }
+}
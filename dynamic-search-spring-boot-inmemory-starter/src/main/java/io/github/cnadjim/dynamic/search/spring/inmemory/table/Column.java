@@ -0,0 +1,96 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+/**
+ * Colonne d'une table en mémoire : valeurs d'un champ pour toutes les lignes, stockées en tableau primitif
+ * <p>
+ * Chaque filtre est compilé une seule fois en prédicat sur l'index de ligne, évalué ensuite en boucle serrée.
+ * Les valeurs nulles suivent la sémantique SQL : seuls BLANK et NOT_BLANK les sélectionnent ou les excluent,
+ * tous les autres opérateurs (négations comprises) les écartent.
+ */
+abstract class Column {
+
+    private final String key;
+
+    /**
+     * Lignes dont la valeur est nulle
+     */
+    protected final BitSet nulls;
+
+    protected Column(String key, BitSet nulls) {
+        this.key = key;
+        this.nulls = nulls;
+    }
+
+    String key() {
+        return key;
+    }
+
+    final boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    /**
+     * Compile le filtre en prédicat sur l'index de ligne
+     *
+     * @return Prédicat, ou null si l'opérateur ne s'applique pas au type de la colonne (filtre ignoré)
+     */
+    IntPredicate predicate(FilterCriteria filter) {
+        return switch (filter.operator()) {
+            case BLANK -> this::isBlank;
+            case NOT_BLANK -> row -> !isBlank(row);
+            default -> {
+                IntPredicate valuePredicate = valuePredicate(filter);
+                yield valuePredicate == null ? null : row -> !nulls.get(row) && valuePredicate.test(row);
+            }
+        };
+    }
+
+    protected boolean isBlank(int row) {
+        return nulls.get(row);
+    }
+
+    /**
+     * Prédicat d'un opérateur de valeur, évalué uniquement sur les lignes non nulles
+     */
+    protected abstract IntPredicate valuePredicate(FilterCriteria filter);
+
+    /**
+     * Compare deux lignes non nulles dans l'ordre croissant
+     */
+    abstract int compareRows(int leftRow, int rightRow);
+
+    /**
+     * Compare une ligne non nulle à une valeur non nulle (valeur de curseur keyset)
+     */
+    abstract int compareToValue(int row, Object value);
+
+    /**
+     * Clé de regroupement d'une ligne non nulle : deux lignes de même valeur ont la même clé
+     */
+    abstract long groupKey(int row);
+
+    /**
+     * Représentation textuelle d'une ligne non nulle, pour les opérateurs textuels appliqués à un champ non STRING
+     */
+    abstract String text(int row);
+
+    /**
+     * Prédicats CONTAINS / NOT_CONTAINS / STARTS_WITH / ENDS_WITH sur la représentation textuelle, insensibles à la casse
+     */
+    protected IntPredicate textPredicate(FilterCriteria filter) {
+        String expected = filter.value().text().toUpperCase(Locale.ROOT);
+        return switch (filter.operator()) {
+            case CONTAINS -> row -> text(row).toUpperCase(Locale.ROOT).contains(expected);
+            case NOT_CONTAINS -> row -> !text(row).toUpperCase(Locale.ROOT).contains(expected);
+            case STARTS_WITH -> row -> text(row).toUpperCase(Locale.ROOT).startsWith(expected);
+            case ENDS_WITH -> row -> text(row).toUpperCase(Locale.ROOT).endsWith(expected);
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,244 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
+import io.github.cnadjim.dynamic.search.model.FacetBucket;
+import io.github.cnadjim.dynamic.search.model.FacetCriteria;
+import io.github.cnadjim.dynamic.search.model.FacetResult;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterDescriptor;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Table colonnaire immuable d'une entité, construite à partir d'un instantané des données
+ * <p>
+ * Chaque champ searchable est stocké dans un tableau primitif (long[] / double[] pour NUMBER,
+ * microsecondes epoch pour DATE, codes de dictionnaire pour STRING, bits pour BOOLEAN).
+ * Les entités d'origine sont conservées pour être retournées telles quelles.
+ * <p>
+ * Les ordres de tri suivent PostgreSQL : valeurs nulles en dernier en ASC, en premier en DESC,
+ * puis ordre de chargement des lignes pour départager.
+ *
+ * @param <T> Type de l'entité
+ */
+@Slf4j
+public final class ColumnarTable<T> {
+
+    private final Object[] rows;
+    private final Map<String, Column> columns;
+
+    /**
+     * Colonnes STRING interrogées par la recherche full-text
+     */
+    private final List<StringColumn> textColumns;
+
+    private ColumnarTable(Object[] rows, Map<String, Column> columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.textColumns = columns.values().stream()
+                .filter(StringColumn.class::isInstance)
+                .map(StringColumn.class::cast)
+                .toList();
+    }
+
+    /**
+     * Construit la table à partir des entités : une colonne par champ searchable de l'entité
+     *
+     * @param entityClass Classe de l'entité (métadonnées @Searchable)
+     * @param entities    Instantané des données
+     */
+    public static <T> ColumnarTable<T> of(Class<T> entityClass, Collection<? extends T> entities) {
+        Object[] rows = entities.toArray();
+        Map<String, Column> columns = new LinkedHashMap<>();
+
+        for (FilterDescriptor descriptor : FilterMetadataExtractor.index(entityClass).filters()) {
+            try {
+                Object[] values = new Object[rows.length];
+                for (int row = 0; row < rows.length; row++) {
+                    values[row] = EntityFieldReader.read(rows[row], descriptor.key());
+                }
+                columns.put(descriptor.key(), createColumn(descriptor, values));
+            } catch (IllegalArgumentException exception) {
+                log.warn("Field {} of {} cannot be loaded in memory: {}", descriptor.key(), entityClass.getSimpleName(), exception.getMessage());
+            }
+        }
+
+        return new ColumnarTable<>(rows, columns);
+    }
+
+    private static Column createColumn(FilterDescriptor descriptor, Object[] values) {
+        return switch (descriptor.fieldType()) {
+            case NUMBER -> NumberColumn.of(descriptor.key(), values);
+            case DATE -> DateColumn.of(descriptor.key(), values);
+            case BOOLEAN -> BooleanColumn.of(descriptor.key(), values);
+            case STRING -> StringColumn.of(descriptor.key(), values);
+        };
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * Indique si le champ a été chargé en mémoire (champ searchable lisible)
+     */
+    public boolean hasColumn(String key) {
+        return columns.containsKey(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T row(int index) {
+        return (T) rows[index];
+    }
+
+    /**
+     * Sélectionne les lignes correspondant aux filtres et au full-text, dans l'ordre de chargement
+     *
+     * @return Index des lignes sélectionnées
+     * @throws IllegalArgumentException si un filtre porte sur un champ inconnu
+     */
+    public int[] select(SearchCriteria criteria) {
+        BitSet selection = new BitSet(rows.length);
+        selection.set(0, rows.length);
+
+        for (FilterCriteria filter : criteria.filters()) {
+            IntPredicate predicate = column(filter.key()).predicate(filter);
+            if (predicate == null) {
+                log.warn("{} operator not supported for {} field type", filter.operator(), filter.fieldType());
+                continue;
+            }
+            retain(selection, predicate);
+        }
+
+        if (criteria.hasFullTextSearch()) {
+            List<IntPredicate> fieldPredicates = textColumns.stream()
+                    .map(column -> column.containsIgnoreCase(criteria.fullText().query()))
+                    .toList();
+            retain(selection, row -> fieldPredicates.stream().anyMatch(predicate -> predicate.test(row)));
+        }
+
+        return selection.stream().toArray();
+    }
+
+    /**
+     * Retient les lignes situées strictement après la position du curseur selon les tris (pagination keyset)
+     *
+     * @param selectedRows Lignes sélectionnées
+     * @param sorts        Tris effectifs (départage inclus)
+     * @param cursorValues Valeurs des clés de tri de la dernière ligne de la page précédente
+     */
+    public int[] seekAfter(int[] selectedRows, List<SortCriteria> sorts, List<Object> cursorValues) {
+        List<Column> sortColumns = sorts.stream().map(sort -> column(sort.key())).toList();
+
+        return Arrays.stream(selectedRows)
+                .filter(row -> {
+                    for (int index = 0; index < sorts.size(); index++) {
+                        Column column = sortColumns.get(index);
+                        Object value = cursorValues.get(index);
+                        int comparison;
+                        if (column.isNull(row) || value == null) {
+                            comparison = Boolean.compare(column.isNull(row), value == null);
+                        } else {
+                            comparison = column.compareToValue(row, value);
+                        }
+                        if (comparison != 0) {
+                            return sorts.get(index).direction() == SortDirection.DESC ? comparison < 0 : comparison > 0;
+                        }
+                    }
+                    return false;
+                })
+                .toArray();
+    }
+
+    /**
+     * Trie les lignes et n'en retient que les limit premières (tri partiel par tas borné)
+     */
+    public int[] sort(int[] selectedRows, List<SortCriteria> sorts, int limit) {
+        if (sorts.isEmpty()) {
+            return Arrays.copyOf(selectedRows, Math.min(limit, selectedRows.length));
+        }
+        return RowSorter.sortedPrefix(selectedRows, limit, comparator(sorts));
+    }
+
+    private RowComparator comparator(List<SortCriteria> sorts) {
+        List<Column> sortColumns = sorts.stream().map(sort -> column(sort.key())).toList();
+        boolean[] descending = new boolean[sorts.size()];
+        for (int index = 0; index < sorts.size(); index++) {
+            descending[index] = sorts.get(index).direction() == SortDirection.DESC;
+        }
+
+        return (leftRow, rightRow) -> {
+            for (int index = 0; index < descending.length; index++) {
+                Column column = sortColumns.get(index);
+                boolean leftNull = column.isNull(leftRow);
+                boolean rightNull = column.isNull(rightRow);
+                int comparison = leftNull || rightNull
+                        ? Boolean.compare(leftNull, rightNull)
+                        : column.compareRows(leftRow, rightRow);
+                if (comparison != 0) {
+                    return descending[index] ? -comparison : comparison;
+                }
+            }
+            return Integer.compare(leftRow, rightRow);
+        };
+    }
+
+    /**
+     * Compte les valeurs de chaque facette sur les lignes sélectionnées
+     * Les valeurs les plus fréquentes en premier, puis par valeur croissante ; les valeurs nulles sont ignorées
+     */
+    public List<FacetResult> facets(int[] selectedRows, List<FacetCriteria> facets) {
+        List<FacetResult> results = new ArrayList<>(facets.size());
+        for (FacetCriteria facet : facets) {
+            Column column = column(facet.key());
+
+            // Clé de regroupement -> {nombre de lignes, première ligne portant la valeur}
+            Map<Long, int[]> groups = new HashMap<>();
+            for (int row : selectedRows) {
+                if (!column.isNull(row)) {
+                    groups.computeIfAbsent(column.groupKey(row), key -> new int[]{0, row})[0]++;
+                }
+            }
+
+            List<FacetBucket> buckets = groups.values().stream()
+                    .sorted((left, right) -> left[0] != right[0]
+                            ? Integer.compare(right[0], left[0])
+                            : column.compareRows(left[1], right[1]))
+                    .limit(facet.effectiveSize())
+                    .map(group -> new FacetBucket(EntityFieldReader.read(rows[group[1]], facet.key()), group[0]))
+                    .toList();
+
+            results.add(new FacetResult(facet.key(), buckets));
+        }
+        return results;
+    }
+
+    private Column column(String key) {
+        Column column = columns.get(key);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown field " + key);
+        }
+        return column;
+    }
+
+    private static void retain(BitSet selection, IntPredicate predicate) {
+        for (int row = selection.nextSetBit(0); row >= 0; row = selection.nextSetBit(row + 1)) {
+            if (!predicate.test(row)) {
+                selection.clear(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterValue;
+import io.github.cnadjim.dynamic.search.spring.starter.util.FieldTypeParser;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.function.IntPredicate;
+
+/**
+ * Colonne DATE : instants stockés en microsecondes depuis l'epoch (long[]), sans fuseau comme LocalDateTime
+ * Une égalité sur une date sans heure (yyyy-MM-dd) couvre toute la journée, comme pour JPA et MongoDB
+ */
+final class DateColumn extends Column {
+
+    private static final long MICROS_PER_DAY = 86_400_000_000L;
+
+    private final long[] micros;
+
+    private DateColumn(String key, BitSet nulls, long[] micros) {
+        super(key, nulls);
+        this.micros = micros;
+    }
+
+    static DateColumn of(String key, Object[] values) {
+        BitSet nulls = new BitSet(values.length);
+        long[] micros = new long[values.length];
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] == null) {
+                nulls.set(row);
+            } else {
+                micros[row] = toMicros(toLocalDateTime(values[row]));
+            }
+        }
+        return new DateColumn(key, nulls, micros);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return switch (value) {
+            case LocalDateTime dateTime -> dateTime;
+            case LocalDate date -> date.atStartOfDay();
+            case Timestamp timestamp -> timestamp.toLocalDateTime();
+            case Date date -> new Timestamp(date.getTime()).toLocalDateTime();
+            default -> {
+                Object parsed = FieldTypeParser.parse(FieldType.DATE, value.toString());
+                if (!(parsed instanceof LocalDateTime dateTime)) {
+                    throw new IllegalArgumentException("Cannot parse date: " + value);
+                }
+                yield dateTime;
+            }
+        };
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static long parse(Object value) {
+        return toMicros(toLocalDateTime(value));
+    }
+
+    private static long instant(FilterValue value) {
+        if (!(value instanceof FilterValue.DateTimeValue dateTime)) {
+            throw new IllegalArgumentException("Cannot parse date: " + value.text());
+        }
+        return toMicros(dateTime.value());
+    }
+
+    @Override
+    protected IntPredicate valuePredicate(FilterCriteria filter) {
+        return switch (filter.operator()) {
+            case EQUALS -> {
+                long start = instant(filter.value());
+                if (filter.value() instanceof FilterValue.DateTimeValue date && date.wholeDay()) {
+                    long end = start + MICROS_PER_DAY;
+                    yield row -> micros[row] >= start && micros[row] < end;
+                }
+                yield row -> micros[row] == start;
+            }
+            case NOT_EQUALS -> {
+                long expected = instant(filter.value());
+                yield row -> micros[row] != expected;
+            }
+            case LESS_THAN -> {
+                long expected = instant(filter.value());
+                yield row -> micros[row] < expected;
+            }
+            case GREATER_THAN -> {
+                long expected = instant(filter.value());
+                yield row -> micros[row] > expected;
+            }
+            case BETWEEN -> {
+                long from = instant(filter.value());
+                long to = instant(filter.valueTo());
+                yield row -> micros[row] >= from && micros[row] <= to;
+            }
+            case IN -> in(filter);
+            case NOT_IN -> in(filter).negate();
+            default -> null;
+        };
+    }
+
+    private IntPredicate in(FilterCriteria filter) {
+        long[] expected = filter.values().stream().mapToLong(DateColumn::instant).sorted().toArray();
+        return row -> Arrays.binarySearch(expected, micros[row]) >= 0;
+    }
+
+    @Override
+    int compareRows(int leftRow, int rightRow) {
+        return Long.compare(micros[leftRow], micros[rightRow]);
+    }
+
+    @Override
+    int compareToValue(int row, Object value) {
+        return Long.compare(micros[row], parse(value));
+    }
+
+    @Override
+    long groupKey(int row) {
+        return micros[row];
+    }
+
+    @Override
+    String text(int row) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros[row], 1_000_000L), (int) Math.floorMod(micros[row], 1_000_000L) * 1_000, ZoneOffset.UTC).toString();
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterValue;
+import io.github.cnadjim.dynamic.search.model.LongValueList;
+import io.github.cnadjim.dynamic.search.spring.starter.util.FieldTypeParser;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * Colonne NUMBER : long[] lorsque toutes les valeurs sont entières, double[] sinon (BigDecimal compris)
+ * Les comparaisons restent entières tant que la valeur filtrée est elle-même entière
+ */
+final class NumberColumn extends Column {
+
+    /**
+     * Valeurs entières (null pour une colonne décimale)
+     */
+    private final long[] longs;
+
+    /**
+     * Valeurs décimales (null pour une colonne entière)
+     */
+    private final double[] doubles;
+
+    private NumberColumn(String key, BitSet nulls, long[] longs, double[] doubles) {
+        super(key, nulls);
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    static NumberColumn of(String key, Object[] values) {
+        BitSet nulls = new BitSet(values.length);
+        boolean integral = Arrays.stream(values).allMatch(value -> value == null || isIntegral(value));
+
+        if (integral) {
+            long[] longs = new long[values.length];
+            for (int row = 0; row < values.length; row++) {
+                if (values[row] == null) {
+                    nulls.set(row);
+                } else {
+                    longs[row] = ((Number) values[row]).longValue();
+                }
+            }
+            return new NumberColumn(key, nulls, longs, null);
+        }
+
+        double[] doubles = new double[values.length];
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] == null) {
+                nulls.set(row);
+            } else {
+                doubles[row] = ((Number) values[row]).doubleValue();
+            }
+        }
+        return new NumberColumn(key, nulls, null, doubles);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static Number parse(Object value) {
+        Object parsed = value instanceof Number number ? number : FieldTypeParser.parse(FieldType.NUMBER, value.toString());
+        if (!(parsed instanceof Number number)) {
+            throw new IllegalArgumentException("Cannot parse number: " + value);
+        }
+        return number;
+    }
+
+    @Override
+    protected IntPredicate valuePredicate(FilterCriteria filter) {
+        return switch (filter.operator()) {
+            case EQUALS -> compare(filter.value(), comparison -> comparison == 0);
+            case NOT_EQUALS -> compare(filter.value(), comparison -> comparison != 0);
+            case LESS_THAN -> compare(filter.value(), comparison -> comparison < 0);
+            case GREATER_THAN -> compare(filter.value(), comparison -> comparison > 0);
+            case BETWEEN -> {
+                IntPredicate from = compare(filter.value(), comparison -> comparison >= 0);
+                IntPredicate to = compare(filter.valueTo(), comparison -> comparison <= 0);
+                yield row -> from.test(row) && to.test(row);
+            }
+            case IN -> in(filter);
+            case NOT_IN -> in(filter).negate();
+            default -> textPredicate(filter);
+        };
+    }
+
+    /**
+     * Compare chaque ligne à la valeur et applique le test au résultat de la comparaison
+     */
+    private IntPredicate compare(FilterValue value, IntPredicate test) {
+        if (longs != null && value instanceof FilterValue.LongValue(long expected)) {
+            return row -> test.test(Long.compare(longs[row], expected));
+        }
+        double expected = doubleValue(value);
+        return row -> test.test(Double.compare(doubleAt(row), expected));
+    }
+
+    private IntPredicate in(FilterCriteria filter) {
+        if (longs != null && filter.values() instanceof LongValueList list) {
+            long[] expected = list.longs().clone();
+            Arrays.sort(expected);
+            return row -> Arrays.binarySearch(expected, longs[row]) >= 0;
+        }
+        double[] expected = filter.values().stream().mapToDouble(NumberColumn::doubleValue).sorted().toArray();
+        return row -> Arrays.binarySearch(expected, doubleAt(row)) >= 0;
+    }
+
+    private static double doubleValue(FilterValue value) {
+        return switch (value) {
+            case FilterValue.LongValue number -> number.value();
+            case FilterValue.DoubleValue number -> number.value();
+            case FilterValue.DecimalValue number -> number.value().doubleValue();
+            default -> throw new IllegalArgumentException("Cannot parse number: " + value.text());
+        };
+    }
+
+    private double doubleAt(int row) {
+        return longs != null ? longs[row] : doubles[row];
+    }
+
+    @Override
+    int compareRows(int leftRow, int rightRow) {
+        return longs != null ? Long.compare(longs[leftRow], longs[rightRow]) : Double.compare(doubles[leftRow], doubles[rightRow]);
+    }
+
+    @Override
+    int compareToValue(int row, Object value) {
+        Number number = parse(value);
+        return longs != null && isIntegral(number)
+                ? Long.compare(longs[row], number.longValue())
+                : Double.compare(doubleAt(row), number.doubleValue());
+    }
+
+    @Override
+    long groupKey(int row) {
+        return longs != null ? longs[row] : Double.doubleToLongBits(doubles[row]);
+    }
+
+    @Override
+    String text(int row) {
+        return longs != null ? Long.toString(longs[row]) : Double.toString(doubles[row]);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+/**
+ * Comparateur de lignes par index, sans boxing
+ */
+@FunctionalInterface
+interface RowComparator {
+
+    int compare(int leftRow, int rightRow);
+}
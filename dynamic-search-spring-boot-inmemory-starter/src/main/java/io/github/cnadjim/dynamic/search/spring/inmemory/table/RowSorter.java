@@ -0,0 +1,70 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import java.util.Arrays;
+
+/**
+ * Tri partiel de tableaux d'index de lignes
+ * Un tas binaire borné à limit éléments retient les premières lignes selon le comparateur,
+ * puis est trié en place : O(n log limit) au lieu d'un tri complet pour afficher une page
+ */
+final class RowSorter {
+
+    private RowSorter() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    /**
+     * Retourne les limit premières lignes, triées selon le comparateur
+     *
+     * @param rows       Index des lignes candidates (non modifié)
+     * @param limit      Nombre de lignes à retenir
+     * @param comparator Ordre total des lignes
+     * @return Nouveau tableau d'au plus limit lignes triées
+     */
+    static int[] sortedPrefix(int[] rows, int limit, RowComparator comparator) {
+        int size = Math.min(limit, rows.length);
+        if (size <= 0) {
+            return new int[0];
+        }
+
+        // Tas max : la racine est la "pire" ligne retenue, remplacée dès qu'une meilleure ligne arrive
+        int[] heap = Arrays.copyOf(rows, size);
+        for (int index = size / 2 - 1; index >= 0; index--) {
+            siftDown(heap, index, size, comparator);
+        }
+        for (int index = size; index < rows.length; index++) {
+            if (comparator.compare(rows[index], heap[0]) < 0) {
+                heap[0] = rows[index];
+                siftDown(heap, 0, size, comparator);
+            }
+        }
+
+        // Tri par tas en place : extraction successive de la racine vers la fin du tableau
+        for (int end = size - 1; end > 0; end--) {
+            int root = heap[0];
+            heap[0] = heap[end];
+            heap[end] = root;
+            siftDown(heap, 0, end, comparator);
+        }
+        return heap;
+    }
+
+    private static void siftDown(int[] heap, int index, int size, RowComparator comparator) {
+        int row = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(heap[child], row) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+}
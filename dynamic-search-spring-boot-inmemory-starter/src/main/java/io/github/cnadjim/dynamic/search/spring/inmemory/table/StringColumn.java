@@ -0,0 +1,141 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Colonne STRING encodée par dictionnaire : chaque ligne porte le code (int[]) de sa valeur dans un dictionnaire trié
+ * <p>
+ * Un filtre textuel n'est évalué qu'une fois par valeur distincte du dictionnaire, puis chaque ligne
+ * se réduit à une lecture de tableau. Le dictionnaire étant trié, l'ordre des codes est l'ordre des valeurs.
+ */
+final class StringColumn extends Column {
+
+    private final int[] codes;
+    private final String[] dictionary;
+
+    private StringColumn(String key, BitSet nulls, int[] codes, String[] dictionary) {
+        super(key, nulls);
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    static StringColumn of(String key, Object[] values) {
+        TreeSet<String> distinct = new TreeSet<>();
+        for (Object value : values) {
+            if (value != null) {
+                distinct.add(value.toString());
+            }
+        }
+
+        String[] dictionary = distinct.toArray(String[]::new);
+        Map<String, Integer> codeByValue = new HashMap<>(dictionary.length * 2);
+        for (int code = 0; code < dictionary.length; code++) {
+            codeByValue.put(dictionary[code], code);
+        }
+
+        BitSet nulls = new BitSet(values.length);
+        int[] codes = new int[values.length];
+        for (int row = 0; row < values.length; row++) {
+            if (values[row] == null) {
+                nulls.set(row);
+                codes[row] = -1;
+            } else {
+                codes[row] = codeByValue.get(values[row].toString());
+            }
+        }
+        return new StringColumn(key, nulls, codes, dictionary);
+    }
+
+    @Override
+    protected boolean isBlank(int row) {
+        return codes[row] < 0 || dictionary[codes[row]].isEmpty();
+    }
+
+    @Override
+    protected IntPredicate valuePredicate(FilterCriteria filter) {
+        return switch (filter.operator()) {
+            case EQUALS -> {
+                int code = Arrays.binarySearch(dictionary, filter.value().text());
+                yield row -> codes[row] == code;
+            }
+            case NOT_EQUALS -> {
+                int code = Arrays.binarySearch(dictionary, filter.value().text());
+                yield row -> codes[row] != code;
+            }
+            case CONTAINS, NOT_CONTAINS, STARTS_WITH, ENDS_WITH -> matching(textTest(filter));
+            case IN -> in(filter);
+            case NOT_IN -> in(filter).negate();
+            default -> null;
+        };
+    }
+
+    /**
+     * Prédicat full-text : CONTAINS insensible à la casse
+     */
+    IntPredicate containsIgnoreCase(String text) {
+        String expected = text.toUpperCase(Locale.ROOT);
+        IntPredicate matching = matching(value -> value.toUpperCase(Locale.ROOT).contains(expected));
+        return row -> codes[row] >= 0 && matching.test(row);
+    }
+
+    private static Predicate<String> textTest(FilterCriteria filter) {
+        String expected = filter.value().text().toUpperCase(Locale.ROOT);
+        return switch (filter.operator()) {
+            case CONTAINS -> value -> value.toUpperCase(Locale.ROOT).contains(expected);
+            case NOT_CONTAINS -> value -> !value.toUpperCase(Locale.ROOT).contains(expected);
+            case STARTS_WITH -> value -> value.toUpperCase(Locale.ROOT).startsWith(expected);
+            default -> value -> value.toUpperCase(Locale.ROOT).endsWith(expected);
+        };
+    }
+
+    private IntPredicate in(FilterCriteria filter) {
+        BitSet expected = new BitSet(dictionary.length);
+        filter.values().forEach(value -> {
+            int code = Arrays.binarySearch(dictionary, value.text());
+            if (code >= 0) {
+                expected.set(code);
+            }
+        });
+        return row -> expected.get(codes[row]);
+    }
+
+    /**
+     * Évalue le test sur chaque valeur du dictionnaire, les lignes ne consultent ensuite que leur code
+     */
+    private IntPredicate matching(Predicate<String> test) {
+        boolean[] matches = new boolean[dictionary.length];
+        for (int code = 0; code < dictionary.length; code++) {
+            matches[code] = test.test(dictionary[code]);
+        }
+        return row -> matches[codes[row]];
+    }
+
+    @Override
+    int compareRows(int leftRow, int rightRow) {
+        return Integer.compare(codes[leftRow], codes[rightRow]);
+    }
+
+    @Override
+    int compareToValue(int row, Object value) {
+        return dictionary[codes[row]].compareTo(value.toString());
+    }
+
+    @Override
+    long groupKey(int row) {
+        return codes[row];
+    }
+
+    @Override
+    String text(int row) {
+        return dictionary[codes[row]];
+    }
+}
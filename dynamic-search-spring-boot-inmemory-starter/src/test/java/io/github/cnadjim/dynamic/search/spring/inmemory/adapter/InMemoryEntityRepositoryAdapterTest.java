@@ -0,0 +1,123 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.adapter;
+
+import io.github.cnadjim.dynamic.search.annotation.Searchable;
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.PageCriteria;
+import io.github.cnadjim.dynamic.search.model.PageMode;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchResult;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Parcours complet en pagination keyset et offset sur l'adaptateur en mémoire
+ */
+class InMemoryEntityRepositoryAdapterTest {
+
+    /**
+     * 25 lignes dont les rangs se répètent (égalités à départager) et dont une sur cinq n'a pas de rang
+     */
+    private static final List<Item> ITEMS = IntStream.rangeClosed(1, 25)
+            .mapToObj(id -> new Item((long) id, id % 5 == 0 ? null : id % 3))
+            .toList();
+
+    private final InMemoryEntityRepositoryAdapter<Item> adapter = new InMemoryEntityRepositoryAdapter<>(Item.class, "id", ITEMS);
+
+    @Test
+    void shouldVisitEveryRowOnceWhenPagingByKeysetWithTies() {
+        for (SortDirection direction : SortDirection.values()) {
+            List<SortCriteria> sorts = List.of(new SortCriteria("rank", direction));
+
+            assertThat(pageThroughEntities(sorts)).containsExactlyElementsOf(expectedOrder(direction));
+            assertThat(pageThroughProjections(sorts)).containsExactlyElementsOf(expectedOrder(direction));
+        }
+    }
+
+    @Test
+    void shouldPageByKeysetWithoutSorts() {
+        assertThat(pageThroughEntities(List.of())).containsExactlyElementsOf(ITEMS.stream().map(Item::id).toList());
+    }
+
+    @Test
+    void shouldRejectKeysetWithoutIdentifier() {
+        InMemoryEntityRepositoryAdapter<Item> withoutId = new InMemoryEntityRepositoryAdapter<>(Item.class, null, ITEMS);
+
+        assertThatThrownBy(() -> withoutId.findByCriteria(keyset(List.of(), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReadOffsetPagesWithExactTotal() {
+        SearchCriteria criteria = SearchCriteria.builder()
+                .sorts(List.of(new SortCriteria("id", SortDirection.DESC)))
+                .pageCriteria(new PageCriteria(2, 10))
+                .build();
+
+        SearchResult<Item> page = adapter.findByCriteria(criteria);
+
+        assertThat(page.content()).extracting(Item::id).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(page.totalElements()).isEqualTo(25);
+        assertThat(page.last()).isTrue();
+    }
+
+    private List<Long> pageThroughEntities(List<SortCriteria> sorts) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            SearchResult<Item> page = adapter.findByCriteria(keyset(sorts, cursor));
+            page.content().forEach(item -> ids.add(item.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> pageThroughProjections(List<SortCriteria> sorts) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            SearchCriteria criteria = keyset(sorts, cursor);
+            SearchResult<Map<String, Object>> page = adapter.findProjectionByCriteria(SearchCriteria.builder()
+                    .sorts(criteria.sorts())
+                    .pageCriteria(criteria.page())
+                    .fields(List.of("rank"))
+                    .build());
+            page.content().forEach(row -> ids.add((Long) row.get("id")));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    /**
+     * Ordre attendu : nulls en dernier en ASC et en premier en DESC, identifiant croissant pour départager
+     */
+    private static List<Long> expectedOrder(SortDirection direction) {
+        Comparator<Item> byRank = Comparator.comparing(Item::rank, Comparator.nullsLast(Comparator.<Integer>naturalOrder()));
+        return ITEMS.stream()
+                .sorted((direction == SortDirection.ASC ? byRank : byRank.reversed()).thenComparing(Item::id))
+                .map(Item::id)
+                .toList();
+    }
+
+    private static SearchCriteria keyset(List<SortCriteria> sorts, String cursor) {
+        return SearchCriteria.builder()
+                .sorts(sorts)
+                .pageCriteria(new PageCriteria(0, 4, PageMode.KEYSET, cursor, CountMode.EXACT, null))
+                .build();
+    }
+
+    record Item(
+            @Searchable(type = FieldType.NUMBER, nullable = false) Long id,
+            @Searchable(type = FieldType.NUMBER) Integer rank) {
+    }
+}
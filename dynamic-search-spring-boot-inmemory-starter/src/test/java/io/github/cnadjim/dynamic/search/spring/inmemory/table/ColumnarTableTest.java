@@ -0,0 +1,113 @@
+package io.github.cnadjim.dynamic.search.spring.inmemory.table;
+
+import io.github.cnadjim.dynamic.search.annotation.Searchable;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterOperator;
+import io.github.cnadjim.dynamic.search.model.FullTextCriteria;
+import io.github.cnadjim.dynamic.search.model.PageCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Filtres, full-text, tri partiel et seek de la table colonnaire
+ */
+class ColumnarTableTest {
+
+    private static final List<City> CITIES = List.of(
+            new City(1L, "Paris", 2_100_000, LocalDate.of(1, 1, 1), true),
+            new City(2L, "Lyon", 520_000, LocalDate.of(1, 1, 1), false),
+            new City(3L, "Évry", null, LocalDate.of(1969, 1, 1), false),
+            new City(4L, "Lille", 230_000, null, true),
+            new City(5L, "Lyon", 520_000, LocalDate.of(1900, 6, 15), null));
+
+    private final ColumnarTable<City> table = ColumnarTable.of(City.class, CITIES);
+
+    @Test
+    void shouldSelectRowsMatchingEveryFilter() {
+        assertThat(ids(table.select(criteria(filter("name", FilterOperator.EQUALS, FieldType.STRING, "Lyon"))))).containsExactly(2L, 5L);
+        assertThat(ids(table.select(criteria(filter("population", FilterOperator.GREATER_THAN, FieldType.NUMBER, 500_000))))).containsExactly(1L, 2L, 5L);
+        assertThat(ids(table.select(criteria(filter("population", FilterOperator.NOT_EQUALS, FieldType.NUMBER, 520_000))))).containsExactly(1L, 4L);
+        assertThat(ids(table.select(criteria(filter("population", FilterOperator.BLANK, FieldType.NUMBER, null))))).containsExactly(3L);
+        assertThat(ids(table.select(criteria(filter("foundedOn", FilterOperator.EQUALS, FieldType.DATE, "1900-06-15"))))).containsExactly(5L);
+        assertThat(ids(table.select(criteria(filter("capital", FilterOperator.EQUALS, FieldType.BOOLEAN, true))))).containsExactly(1L, 4L);
+        assertThat(ids(table.select(criteria(
+                filter("name", FilterOperator.STARTS_WITH, FieldType.STRING, "l"),
+                filter("capital", FilterOperator.EQUALS, FieldType.BOOLEAN, false))))).containsExactly(2L);
+    }
+
+    @Test
+    void shouldMatchFullTextOnStringColumnsIgnoringCase() {
+        SearchCriteria criteria = SearchCriteria.builder()
+                .fullTextCriteria(new FullTextCriteria("ILL"))
+                .pageCriteria(new PageCriteria(0, 10))
+                .build();
+
+        assertThat(ids(table.select(criteria))).containsExactly(4L);
+    }
+
+    @Test
+    void shouldRejectFilterOnUnknownField() {
+        assertThatThrownBy(() -> table.select(criteria(filter("country", FilterOperator.EQUALS, FieldType.STRING, "FR"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldSortNullsLastAscendingAndFirstDescendingThenByLoadOrder() {
+        int[] all = table.select(criteria());
+
+        assertThat(ids(table.sort(all, List.of(new SortCriteria("population", SortDirection.ASC)), 5))).containsExactly(4L, 2L, 5L, 1L, 3L);
+        assertThat(ids(table.sort(all, List.of(new SortCriteria("population", SortDirection.DESC)), 5))).containsExactly(3L, 1L, 2L, 5L, 4L);
+        assertThat(ids(table.sort(all, List.of(new SortCriteria("foundedOn", SortDirection.ASC), new SortCriteria("name", SortDirection.DESC)), 3)))
+                .containsExactly(1L, 2L, 5L);
+        assertThat(ids(table.sort(all, List.of(), 2))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldSeekStrictlyAfterTheCursorRow() {
+        int[] all = table.select(criteria());
+        List<SortCriteria> sorts = List.of(new SortCriteria("population", SortDirection.DESC), new SortCriteria("id", SortDirection.ASC));
+
+        // Curseur sur la ligne 2 (Lyon, 520 000) : la ligne 5 lui est égale sur la population et vient ensuite par l'identifiant
+        assertThat(ids(table.sort(table.seekAfter(all, sorts, Arrays.asList(520_000, 2L)), sorts, 5))).containsExactly(5L, 4L);
+        // Curseur sur la ligne nulle, première en DESC
+        assertThat(ids(table.sort(table.seekAfter(all, sorts, Arrays.asList(null, 3L)), sorts, 5))).containsExactly(1L, 2L, 5L, 4L);
+    }
+
+    private long[] ids(int[] rows) {
+        return Arrays.stream(rows).mapToLong(row -> table.row(row).id).toArray();
+    }
+
+    private static SearchCriteria criteria(FilterCriteria... filters) {
+        return SearchCriteria.builder()
+                .filters(List.of(filters))
+                .pageCriteria(new PageCriteria(0, 10))
+                .build();
+    }
+
+    private static FilterCriteria filter(String key, FilterOperator operator, FieldType fieldType, Object value) {
+        return FilterCriteria.builder()
+                .key(key)
+                .operator(operator)
+                .fieldType(fieldType)
+                .value(value)
+                .build();
+    }
+
+    record City(
+            @Searchable(type = FieldType.NUMBER, nullable = false) Long id,
+            @Searchable(type = FieldType.STRING) String name,
+            @Searchable(type = FieldType.NUMBER) Integer population,
+            @Searchable(type = FieldType.DATE) LocalDate foundedOn,
+            @Searchable(type = FieldType.BOOLEAN) Boolean capital) {
+    }
+}
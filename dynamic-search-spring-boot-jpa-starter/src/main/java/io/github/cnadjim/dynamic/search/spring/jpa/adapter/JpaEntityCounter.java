@@ -0,0 +1,154 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.adapter;
+
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.CountResult;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.spring.jpa.specification.GenericSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Exécute la stratégie de comptage demandée pour une entité JPA
+ * <p>
+ * - EXACT : COUNT(*) complet via le JpaSpecificationExecutor
+ * - CAPPED : SELECT 1 ... LIMIT n+1, la base s'arrête dès que la limite est atteinte
+ * - ESTIMATED : statistiques du planificateur PostgreSQL (pg_class.reltuples) pour une recherche sans filtre,
+ *   repli sur le comptage plafonné sinon
+ * - NONE : aucun comptage
+ * <p>
+ * Sans EntityManager, les modes CAPPED et ESTIMATED se replient sur un comptage exact.
+ *
+ * @param <T> Type de l'entité JPA
+ */
+@Slf4j
+public class JpaEntityCounter<T> {
+
+    private static final String RELTUPLES_QUERY = "select cast(reltuples as bigint) from pg_class where oid = to_regclass(:table)";
+
+    private final Class<T> entityClass;
+    private final EntityManager entityManager;
+    private final JpaSpecificationExecutor<T> specificationExecutor;
+
+    /**
+     * Table interrogée pour l'estimation, résolue au premier appel (Optional vide si l'estimation est impossible)
+     */
+    private volatile Optional<String> estimableTable;
+
+    public JpaEntityCounter(Class<T> entityClass, EntityManager entityManager, JpaSpecificationExecutor<T> specificationExecutor) {
+        this.entityClass = entityClass;
+        this.entityManager = entityManager;
+        this.specificationExecutor = specificationExecutor;
+    }
+
+    /**
+     * Compte les éléments correspondant aux filtres selon la stratégie de la page demandée
+     *
+     * @param criteria Critères de recherche (le curseur keyset n'est pas pris en compte)
+     * @return Le nombre obtenu et la stratégie qui l'a réellement produit
+     */
+    public CountResult count(SearchCriteria criteria) {
+        GenericSpecification<T> specification = new GenericSpecification<>(criteria);
+
+        if (entityManager == null) {
+            return criteria.page().countMode() == CountMode.NONE
+                    ? CountResult.none()
+                    : CountResult.exact(specificationExecutor.count(specification));
+        }
+
+        return switch (criteria.page().countMode()) {
+            case EXACT -> CountResult.exact(specificationExecutor.count(specification));
+            case CAPPED -> countCapped(specification, criteria.page().effectiveCountLimit());
+            case ESTIMATED -> estimate(criteria)
+                    .orElseGet(() -> countCapped(specification, criteria.page().effectiveCountLimit()));
+            case NONE -> CountResult.none();
+        };
+    }
+
+    /**
+     * Comptage plafonné : lit au plus limit + 1 lignes constantes, sans tri ni chargement d'entité
+     */
+    private CountResult countCapped(GenericSpecification<T> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Integer> query = cb.createQuery(Integer.class);
+        Root<T> root = query.from(entityClass);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        query.select(cb.literal(1)).where(predicate);
+
+        // Le tri est inutile pour un comptage et empêcherait l'arrêt anticipé de la lecture
+        query.orderBy(List.of());
+
+        int rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList()
+                .size();
+
+        return rows > limit ? CountResult.capped(limit) : CountResult.exact(rows);
+    }
+
+    /**
+     * Estimation à partir des statistiques de la table, uniquement pour une recherche sans filtre ni full-text
+     */
+    private Optional<CountResult> estimate(SearchCriteria criteria) {
+        if (!criteria.filters().isEmpty() || criteria.hasFullTextSearch()) {
+            return Optional.empty();
+        }
+
+        Optional<String> table = resolveEstimableTable();
+        if (table.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            Number reltuples = (Number) entityManager.createNativeQuery(RELTUPLES_QUERY)
+                    .setParameter("table", table.get())
+                    .getSingleResult();
+
+            // reltuples vaut -1 tant que la table n'a jamais été analysée
+            return reltuples != null && reltuples.longValue() >= 0
+                    ? Optional.of(CountResult.estimated(reltuples.longValue()))
+                    : Optional.empty();
+        } catch (PersistenceException exception) {
+            log.debug("Planner estimate unavailable for {}", entityClass.getSimpleName(), exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Détermine la table à estimer : PostgreSQL uniquement, entité hors héritage (une table = une entité)
+     */
+    private Optional<String> resolveEstimableTable() {
+        Optional<String> table = estimableTable;
+        if (table == null) {
+            table = Optional.empty();
+            try {
+                SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+                EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+
+                if (sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect
+                        && persister instanceof AbstractEntityPersister entityPersister
+                        && !persister.isInherited()
+                        && !persister.hasSubclasses()) {
+                    table = Optional.of(entityPersister.getIdentifierTableName());
+                }
+            } catch (RuntimeException exception) {
+                log.debug("Cannot resolve estimable table for {}", entityClass.getSimpleName(), exception);
+            }
+            estimableTable = table;
+        }
+        return table;
+    }
+}
@@ -1,19 +1,61 @@
 package io.github.cnadjim.dynamic.search.spring.jpa.adapter;
 
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.CountResult;
+import io.github.cnadjim.dynamic.search.model.FacetResult;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
 import io.github.cnadjim.dynamic.search.spring.starter.mapper.PageToSearchResultMapper;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.PostgresFullText;
 import io.github.cnadjim.dynamic.search.spring.jpa.specification.GenericSpecification;
+import io.github.cnadjim.dynamic.search.spring.jpa.specification.LikePattern;
+import io.github.cnadjim.dynamic.search.spring.jpa.sql.SearchShapeStatementInspector;
+import io.github.cnadjim.dynamic.search.spring.jpa.template.JpaQueryTarget;
+import io.github.cnadjim.dynamic.search.spring.jpa.template.JpaQueryTemplate;
+import io.github.cnadjim.dynamic.search.spring.jpa.template.JpaQueryTemplates;
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
+import io.github.cnadjim.dynamic.search.spring.starter.util.KeysetCursorCodec;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.query.sqm.tree.SqmVisitableNode;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptateur de Repository générique - Implémente le port OUT défini dans le domaine
@@ -27,16 +69,169 @@ import java.util.stream.Collectors;
  */
 public class JpaEntityRepositoryAdapter<T> implements EntityRepository<T> {
 
+    private final Class<T> entityClass;
+
+    private final EntityManager entityManager;
+
     private final JpaSpecificationExecutor<T> specificationExecutor;
 
-    public JpaEntityRepositoryAdapter(JpaSpecificationExecutor<T> specificationExecutor) {
+    /**
+     * Nom de l'attribut identifiant, utilisé comme départage de la pagination keyset (peut être null)
+     */
+    private final String idKey;
+
+    private final JpaEntityCounter<T> counter;
+
+    private final JpaFacetCounter<T> facetCounter;
+
+    /**
+     * Transaction en lecture seule englobant les recherches d'un lot (null : pas de transaction dédiée)
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Mesures des phases de recherche (SearchMetrics.none() : pas de mesure)
+     */
+    private final SearchMetrics searchMetrics;
+
+    /**
+     * Requêtes HQL compilées par forme de recherche (null : chaque recherche construit sa requête Criteria)
+     */
+    private final JpaQueryTemplates queryTemplates;
+
+    /**
+     * Entité interrogée par les requêtes compilées (nom HQL, capacités de la base), résolue une fois
+     */
+    private final JpaQueryTarget queryTarget;
+
+    /**
+     * Constructeur complet ; seul specificationExecutor est obligatoire, les autres collaborateurs peuvent être null
+     * Voir {@link #builder(JpaSpecificationExecutor)} pour ne renseigner que les collaborateurs disponibles
+     */
+    public JpaEntityRepositoryAdapter(Class<T> entityClass, EntityManager entityManager, JpaSpecificationExecutor<T> specificationExecutor, String idKey,
+                                      PlatformTransactionManager transactionManager, SearchMetrics searchMetrics, JpaQueryTemplates queryTemplates) {
+        this.entityClass = entityClass;
+        this.entityManager = entityManager;
         this.specificationExecutor = specificationExecutor;
+        this.idKey = idKey;
+        this.counter = new JpaEntityCounter<>(entityClass, entityManager, specificationExecutor);
+        this.facetCounter = new JpaFacetCounter<>(entityClass, entityManager);
+        this.readOnlyTransaction = transactionManager != null ? readOnlyTransaction(transactionManager) : null;
+        this.searchMetrics = SearchMetrics.orNone(searchMetrics);
+        // Les requêtes compilées nécessitent l'EntityManager (nom de l'entité, dialecte, création des requêtes)
+        this.queryTemplates = entityManager != null ? queryTemplates : null;
+        this.queryTarget = this.queryTemplates != null ? queryTarget(entityClass, entityManager, idKey) : null;
+    }
+
+    /**
+     * Builder pour JpaEntityRepositoryAdapter
+     *
+     * @param specificationExecutor Repository exécutant les Specifications
+     */
+    public static <T> Builder<T> builder(JpaSpecificationExecutor<T> specificationExecutor) {
+        return new Builder<>(specificationExecutor);
+    }
+
+    public static class Builder<T> {
+        private final JpaSpecificationExecutor<T> specificationExecutor;
+        private Class<T> entityClass;
+        private EntityManager entityManager;
+        private String idKey;
+        private PlatformTransactionManager transactionManager;
+        private SearchMetrics searchMetrics;
+        private JpaQueryTemplates queryTemplates;
+
+        private Builder(JpaSpecificationExecutor<T> specificationExecutor) {
+            this.specificationExecutor = Objects.requireNonNull(specificationExecutor, "specificationExecutor");
+        }
+
+        public Builder<T> entityClass(Class<T> entityClass) {
+            this.entityClass = entityClass;
+            return this;
+        }
+
+        public Builder<T> entityManager(EntityManager entityManager) {
+            this.entityManager = entityManager;
+            return this;
+        }
+
+        public Builder<T> idKey(String idKey) {
+            this.idKey = idKey;
+            return this;
+        }
+
+        public Builder<T> transactionManager(PlatformTransactionManager transactionManager) {
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        public Builder<T> searchMetrics(SearchMetrics searchMetrics) {
+            this.searchMetrics = searchMetrics;
+            return this;
+        }
+
+        public Builder<T> queryTemplates(JpaQueryTemplates queryTemplates) {
+            this.queryTemplates = queryTemplates;
+            return this;
+        }
+
+        public JpaEntityRepositoryAdapter<T> build() {
+            return new JpaEntityRepositoryAdapter<>(entityClass, entityManager, specificationExecutor, idKey, transactionManager, searchMetrics, queryTemplates);
+        }
+    }
+
+    private static JpaQueryTarget queryTarget(Class<?> entityClass, EntityManager entityManager, String idKey) {
+        Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        return new JpaQueryTarget(entityManager.getMetamodel().entity(entityClass).getName(), entityClass, idKey,
+                GenericSpecification.supportsArrayParameter(dialect), LikePattern.supportsIlike(dialect), PostgresFullText.of(entityClass, dialect));
+    }
+
+    private static TransactionTemplate readOnlyTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    @Override
+    public String backend() {
+        return "jpa";
     }
 
     @Override
     public SearchResult<T> findByCriteria(SearchCriteria criteria) {
+        return tagged("search", criteria, () -> {
+            SearchResult<T> result = findPage(criteria);
+            return criteria.hasFacets() ? result.withFacets(countFacets(criteria)) : result;
+        });
+    }
+
+    /**
+     * Recherche groupée : toutes les requêtes du lot (pages, comptages, facettes) s'exécutent dans une seule
+     * transaction en lecture seule, donc sur une seule connexion empruntée au pool.
+     * Une connexion JDBC n'exécutant qu'une requête à la fois, les requêtes restent séquentielles ;
+     * le parallélisme entre entités s'obtient avec searchAsync.
+     */
+    @Override
+    public List<SearchResult<T>> findAllByCriteria(List<SearchCriteria> criteriaList) {
+        if (readOnlyTransaction == null) {
+            return EntityRepository.super.findAllByCriteria(criteriaList);
+        }
+        return readOnlyTransaction.execute(status -> criteriaList.stream()
+                .map(this::findByCriteria)
+                .toList());
+    }
+
+    private SearchResult<T> findPage(SearchCriteria criteria) {
+        if (criteria.page().isKeyset()) {
+            return findByKeyset(criteria);
+        }
+
+        if (queryTemplates != null) {
+            return findTemplatePage(criteria);
+        }
+
         // Création de la spécification à partir des critères du domaine
-        GenericSpecification<T> specification = new GenericSpecification<>(criteria);
+        Specification<T> specification = timed(new GenericSpecification<>(criteria));
 
         // Création du tri Spring Data depuis les critères de tri du domaine
         Sort sort = createSort(criteria.sorts());
@@ -44,14 +239,263 @@ public class JpaEntityRepositoryAdapter<T> implements EntityRepository<T> {
         // Création de la pagination depuis les critères de number
         Pageable pageable = createPageable(criteria.page().number(), criteria.page().size(), sort);
 
-        // Exécution de la requête JPA
-        Page<T> page = specificationExecutor.findAll(specification, pageable);
+        // Lecture de size + 1 lignes, le comptage est une requête distincte
+        Slice<T> slice = searchMetrics.timePhase(SearchPhase.FETCH, entityClass,
+                () -> specificationExecutor.findBy(specification, query -> query.slice(pageable)));
+
+        if (criteria.page().countMode() == CountMode.EXACT) {
+            // COUNT(*) complet, évité lorsque la page est la dernière (comme JpaSpecificationExecutor.findAll)
+            Page<T> page = PageableExecutionUtils.getPage(slice.getContent(), pageable,
+                    () -> searchMetrics.timePhase(SearchPhase.COUNT, entityClass, () -> specificationExecutor.count(specification)));
+
+            // Conversion du résultat vers le domaine via le mapper statique du starter
+            return PageToSearchResultMapper.toSearchResult(page);
+        }
+
+        // Le total provient de la stratégie de comptage demandée
+        return PageToSearchResultMapper.toSearchResult(slice, count(criteria, slice));
+    }
+
+    /**
+     * Pagination par décalage avec la requête compilée de la forme de la recherche : seules les valeurs sont liées
+     */
+    private SearchResult<T> findTemplatePage(SearchCriteria criteria) {
+        JpaQueryTemplate template = template(criteria, criteria.sorts(), null, null);
+        Pageable pageable = createPageable(criteria.page().number(), criteria.page().size(), createSort(criteria.sorts()));
+
+        // Lecture de size + 1 lignes, le comptage est une requête distincte
+        List<T> rows = searchMetrics.timePhase(SearchPhase.FETCH, entityClass,
+                () -> template.bind(entityManager.createQuery(template.select(), entityClass), criteria, null)
+                        .setFirstResult((int) pageable.getOffset())
+                        .setMaxResults(pageable.getPageSize() + 1)
+                        .getResultList());
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        if (criteria.page().countMode() == CountMode.EXACT) {
+            // COUNT(*) complet, évité lorsque la page est la dernière
+            Page<T> page = PageableExecutionUtils.getPage(content, pageable,
+                    () -> searchMetrics.timePhase(SearchPhase.COUNT, entityClass,
+                            () -> template.bindCount(entityManager.createQuery(template.count(), Long.class), criteria).getSingleResult()));
+            return PageToSearchResultMapper.toSearchResult(page);
+        }
+
+        Slice<T> slice = new SliceImpl<>(content, pageable, hasNext);
+        return PageToSearchResultMapper.toSearchResult(slice, count(criteria, slice));
+    }
+
+    /**
+     * Pagination keyset : le curseur est traduit en prédicat de seek, la requête ne lit que size + 1 lignes
+     * sans OFFSET, son coût est donc identique quelle que soit la profondeur de la page
+     */
+    private SearchResult<T> findByKeyset(SearchCriteria criteria) {
+        List<SortCriteria> keysetSorts = KeysetCursorCodec.withTieBreaker(criteria.sorts(), idKey);
+        int pageSize = Objects.requireNonNullElse(criteria.page().size(), 100);
+
+        if (queryTemplates != null) {
+            List<Object> cursorValues = cursorValues(criteria, keysetSorts);
+            JpaQueryTemplate template = template(criteria, keysetSorts, cursorValues, null);
+            List<T> rows = searchMetrics.timePhase(SearchPhase.FETCH, entityClass,
+                    () -> template.bind(entityManager.createQuery(template.select(), entityClass), criteria, cursorValues)
+                            .setMaxResults(pageSize + 1)
+                            .getResultList());
+            return PageToSearchResultMapper.toKeysetSearchResult(rows, criteria.page(), count(criteria), keysetSorts);
+        }
+
+        // Le tri keyset (position des nulls comprise) est porté par la spécification, cohérent avec son seek
+        Specification<T> seekSpecification = timed(new GenericSpecification<>(criteria, keysetSorts));
+
+        List<T> rows = searchMetrics.timePhase(SearchPhase.FETCH, entityClass,
+                () -> specificationExecutor.findBy(seekSpecification, query -> query.limit(pageSize + 1).all()));
+
+        // Le total ne dépend pas du curseur : seuls les filtres sont appliqués
+        CountResult count = count(criteria);
+
+        return PageToSearchResultMapper.toKeysetSearchResult(rows, criteria.page(), count, keysetSorts);
+    }
+
+    /**
+     * Projection : requête Tuple ne sélectionnant que les colonnes demandées, aucune entité n'est hydratée.
+     * En pagination keyset, les clés de tri sont ajoutées à la sélection pour construire le curseur.
+     */
+    @Override
+    public SearchResult<Map<String, Object>> findProjectionByCriteria(SearchCriteria criteria) {
+        return tagged("projection", criteria, () -> {
+            SearchResult<Map<String, Object>> result = findProjectionPage(criteria);
+            return criteria.hasFacets() ? result.withFacets(countFacets(criteria)) : result;
+        });
+    }
+
+    private SearchResult<Map<String, Object>> findProjectionPage(SearchCriteria criteria) {
+        if (entityManager == null) {
+            SearchResult<T> result = findPage(criteria);
+            return result.withContent(result.content().stream()
+                    .map(entity -> EntityFieldReader.toMap(entity, criteria.fields()))
+                    .toList());
+        }
+
+        boolean keyset = criteria.page().isKeyset();
+        List<SortCriteria> keysetSorts = keyset ? KeysetCursorCodec.withTieBreaker(criteria.sorts(), idKey) : null;
+
+        Set<String> columns = new LinkedHashSet<>(criteria.fields());
+        if (keyset) {
+            keysetSorts.forEach(sort -> columns.add(sort.key()));
+        }
+
+        Pageable pageable = createPageable(criteria.page().number(), criteria.page().size(), createSort(keyset ? keysetSorts : criteria.sorts()));
+
+        TypedQuery<Tuple> typedQuery;
+        if (queryTemplates != null) {
+            List<Object> cursorValues = keyset ? cursorValues(criteria, keysetSorts) : null;
+            JpaQueryTemplate template = template(criteria, keyset ? keysetSorts : criteria.sorts(), cursorValues, List.copyOf(columns));
+            typedQuery = template.bind(entityManager.createQuery(template.select(), Tuple.class), criteria, cursorValues);
+        } else {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<T> root = query.from(entityClass);
+            query.multiselect(columns.stream().<Selection<?>>map(root::get).toList())
+                    .where(timed(new GenericSpecification<T>(criteria, keysetSorts)).toPredicate(root, query, cb));
+            typedQuery = entityManager.createQuery(query);
+        }
+
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        if (!keyset) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : searchMetrics.timePhase(SearchPhase.FETCH, entityClass, typedQuery::getResultList)) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            int index = 0;
+            for (String column : columns) {
+                row.put(column, tuple.get(index++));
+            }
+            rows.add(row);
+        }
+
+        if (keyset) {
+            return PageToSearchResultMapper.toKeysetSearchResult(rows, criteria.page(), count(criteria), keysetSorts);
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        Slice<Map<String, Object>> slice = new SliceImpl<>(content, pageable, hasNext);
+        return PageToSearchResultMapper.toSearchResult(slice, count(criteria, slice));
+    }
+
+    /**
+     * Parcours par curseur JDBC dans une session sans état : aucun contexte de persistance n'accumule
+     * les entités lues, la mémoire reste constante quel que soit le nombre de lignes.
+     * Les entités retournées sont détachées (associations paresseuses non chargeables).
+     * La session et sa transaction en lecture seule sont libérées à la fermeture du flux.
+     */
+    @Override
+    public Stream<T> streamByCriteria(SearchCriteria criteria) {
+        if (entityManager == null) {
+            return EntityRepository.super.streamByCriteria(criteria);
+        }
+
+        int fetchSize = Objects.requireNonNullElse(criteria.page().size(), 100);
+
+        StatelessSession session = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).openStatelessSession();
+        try {
+            // Une transaction est nécessaire pour que certains pilotes (PostgreSQL) utilisent un curseur serveur
+            Transaction transaction = session.beginTransaction();
+
+            Query<T> query;
+            if (queryTemplates != null) {
+                JpaQueryTemplate template = template(criteria, criteria.sorts(), null, null);
+                query = template.bind(session.createQuery(template.select(), entityClass), criteria, null);
+            } else {
+                CriteriaBuilder cb = session.getCriteriaBuilder();
+                CriteriaQuery<T> criteriaQuery = cb.createQuery(entityClass);
+                Root<T> root = criteriaQuery.from(entityClass);
+                criteriaQuery.select(root).where(new GenericSpecification<T>(criteria).toPredicate(root, criteriaQuery, cb));
+                query = session.createQuery(criteriaQuery);
+            }
+
+            // Le flux Hibernate s'appuie sur des ScrollableResults FORWARD_ONLY, fermés avec le flux
+            Stream<T> rows = tagged("stream", criteria, () -> query
+                    .setFetchSize(fetchSize)
+                    .getResultStream());
+            return rows
+                    .onClose(() -> {
+                        try {
+                            transaction.rollback();
+                        } finally {
+                            session.close();
+                        }
+                    });
+        } catch (RuntimeException exception) {
+            session.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Exécute une recherche dont le SQL est commenté avec sa forme (si SearchShapeStatementInspector est installé)
+     */
+    private <R> R tagged(String operation, SearchCriteria criteria, Supplier<R> search) {
+        return entityClass != null ? SearchShapeStatementInspector.tagged(operation, entityClass, criteria, search) : search.get();
+    }
+
+    /**
+     * Mesure la construction du prédicat (phase QUERY) ; avec JPA elle a lieu à l'exécution de chaque requête,
+     * sa durée est donc aussi incluse dans celle des phases FETCH et COUNT.
+     * La requête est signalée aux mesures et rendue en HQL uniquement si elle est exploitée (recherche lente).
+     */
+    private Specification<T> timed(GenericSpecification<T> specification) {
+        return (root, query, cb) -> {
+            Predicate predicate = searchMetrics.timePhase(SearchPhase.QUERY, entityClass, () -> specification.toPredicate(root, query, cb));
+            searchMetrics.nativeQuery(() -> query instanceof SqmVisitableNode node ? node.toHqlString() : String.valueOf(query));
+            return predicate;
+        };
+    }
+
+    /**
+     * Requête compilée de la forme de la recherche ; sa recherche (et sa compilation à la première demande)
+     * est mesurée comme phase QUERY
+     */
+    private JpaQueryTemplate template(SearchCriteria criteria, List<SortCriteria> sorts, List<Object> cursorValues, List<String> columns) {
+        JpaQueryTemplate template = searchMetrics.timePhase(SearchPhase.QUERY, entityClass,
+                () -> queryTemplates.template(queryTarget, criteria, sorts, cursorValues, columns));
+        searchMetrics.nativeQuery(template::select);
+        return template;
+    }
+
+    /**
+     * Valeurs du curseur de la page précédente, null pour la première page
+     */
+    private List<Object> cursorValues(SearchCriteria criteria, List<SortCriteria> keysetSorts) {
+        return criteria.page().hasCursor() ? KeysetCursorCodec.decode(criteria.page().cursor(), entityClass, keysetSorts) : null;
+    }
+
+    private CountResult count(SearchCriteria criteria) {
+        if (criteria.page().countMode() == CountMode.NONE) {
+            return CountResult.none();
+        }
+        return searchMetrics.timePhase(SearchPhase.COUNT, entityClass, () -> counter.count(criteria));
+    }
+
+    /**
+     * Total d'une page lue en size + 1 lignes : sur la dernière page, il se déduit de la position
+     * (offset + lignes lues) sans requête de comptage, quelle que soit la stratégie demandée
+     */
+    private CountResult count(SearchCriteria criteria, Slice<?> slice) {
+        long offset = slice.getPageable().getOffset();
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            return CountResult.exact(offset + slice.getNumberOfElements());
+        }
+        return count(criteria);
+    }
 
-        // Conversion du résultat vers le domaine via le mapper statique du starter
-        return PageToSearchResultMapper.toSearchResult(page);
+    private List<FacetResult> countFacets(SearchCriteria criteria) {
+        return searchMetrics.timePhase(SearchPhase.FACETS, entityClass, () -> facetCounter.count(criteria));
     }
 
-    private Sort createSort(List<io.github.cnadjim.dynamic.search.model.SortCriteria> sortCriteria) {
+    private Sort createSort(List<SortCriteria> sortCriteria) {
         if (sortCriteria == null || sortCriteria.isEmpty()) {
             return Sort.unsorted();
         }
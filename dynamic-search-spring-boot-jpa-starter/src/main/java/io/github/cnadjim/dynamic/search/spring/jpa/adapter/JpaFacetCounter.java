@@ -0,0 +1,76 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.adapter;
+
+import io.github.cnadjim.dynamic.search.model.FacetBucket;
+import io.github.cnadjim.dynamic.search.model.FacetCriteria;
+import io.github.cnadjim.dynamic.search.model.FacetResult;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.spring.jpa.specification.GenericSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+/**
+ * Calcule les facettes d'une recherche JPA : une requête GROUP BY par facette
+ * (SELECT key, COUNT(*) ... WHERE filtres GROUP BY key ORDER BY COUNT(*) DESC LIMIT size)
+ *
+ * @param <T> Type de l'entité JPA
+ */
+public class JpaFacetCounter<T> {
+
+    private final Class<T> entityClass;
+    private final EntityManager entityManager;
+
+    public JpaFacetCounter(Class<T> entityClass, EntityManager entityManager) {
+        this.entityClass = entityClass;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Calcule les facettes demandées sous les filtres courants (le curseur keyset n'est pas pris en compte)
+     *
+     * @param criteria Critères de recherche contenant les facettes
+     * @return Une facette par critère, dans l'ordre demandé (liste vide sans EntityManager)
+     */
+    public List<FacetResult> count(SearchCriteria criteria) {
+        if (entityManager == null || !criteria.hasFacets()) {
+            return List.of();
+        }
+
+        GenericSpecification<T> specification = new GenericSpecification<>(criteria);
+
+        return criteria.facets().stream()
+                .map(facet -> countFacet(specification, facet))
+                .toList();
+    }
+
+    private FacetResult countFacet(GenericSpecification<T> specification, FacetCriteria facet) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entityClass);
+
+        query.where(specification.toPredicate(root, query, cb));
+
+        Path<Object> key = root.get(facet.key());
+        Expression<Long> count = cb.count(root);
+
+        // Remplace le tri de la recherche : les valeurs les plus fréquentes en premier
+        query.multiselect(key, count)
+                .groupBy(key)
+                .orderBy(cb.desc(count), cb.asc(key));
+
+        List<FacetBucket> buckets = entityManager.createQuery(query)
+                .setMaxResults(facet.effectiveSize())
+                .getResultList()
+                .stream()
+                .map(tuple -> new FacetBucket(tuple.get(0), tuple.get(1, Long.class)))
+                .toList();
+
+        return new FacetResult(facet.key(), buckets);
+    }
+}
@@ -1,12 +1,23 @@
 package io.github.cnadjim.dynamic.search.spring.jpa.autoconfigure;
 
 import io.github.cnadjim.dynamic.search.spring.jpa.config.SearchableJpaBeanRegistrar;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.JpaFullTextProperties;
+import io.github.cnadjim.dynamic.search.spring.jpa.schema.JpaTrigramProperties;
+import io.github.cnadjim.dynamic.search.spring.jpa.sql.SearchShapeStatementInspector;
+import io.github.cnadjim.dynamic.search.spring.jpa.template.JpaQueryTemplateProperties;
+import io.github.cnadjim.dynamic.search.spring.jpa.template.JpaQueryTemplates;
 import jakarta.persistence.Entity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -20,11 +31,24 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * 1. Annoter votre entité avec @EnableSearchable
  * 2. Annoter les champs filtrables avec @Searchable
  * 3. Les beans SearchUseCase<T> et GetAvailableFiltersUseCase<T> sont créés automatiquement
+ *
+ * Le SQL des recherches est préfixé d'un commentaire portant la forme de la recherche
+ * (dynamic-search.jpa.sql-comments=false pour le désactiver)
+ *
+ * Les recherches sont exécutées par des requêtes HQL compilées une fois par forme de recherche
+ * (dynamic-search.jpa.query-templates.enabled=false pour revenir à l'API Criteria)
+ *
+ * Sur PostgreSQL, la recherche full-text des entités déclarant @EnableSearchable(fullTextColumn) interroge
+ * leur colonne tsvector (dynamic-search.jpa.full-text.create-columns=true pour la créer au démarrage)
+ *
+ * Sur PostgreSQL, les opérateurs CONTAINS, STARTS_WITH et ENDS_WITH comparent avec ILIKE, servi par des index
+ * trigrammes (dynamic-search.jpa.trigram.create-indexes=true pour les créer au démarrage)
  */
 @Slf4j
 @AutoConfiguration
 @AutoConfigureAfter(HibernateJpaAutoConfiguration.class)
 @ConditionalOnClass({Entity.class, JpaRepository.class})
+@EnableConfigurationProperties({JpaQueryTemplateProperties.class, JpaFullTextProperties.class, JpaTrigramProperties.class})
 @Import(SearchableJpaBeanRegistrar.class)
 public class DynamicSearchJpaAutoConfiguration {
 
@@ -32,4 +56,33 @@ public class DynamicSearchJpaAutoConfiguration {
         log.info("✅ DynamicSearchJpaAutoConfiguration activated - Ready to scan @EnableSearchable entities");
     }
 
+    /**
+     * Installe le SearchShapeStatementInspector, sauf si un StatementInspector est déjà configuré
+     * (spring.jpa.properties.hibernate.session_factory.statement_inspector)
+     *
+     * @return Customizer des propriétés Hibernate
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "dynamic-search.jpa", name = "sql-comments", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer searchShapeStatementInspectorCustomizer() {
+        return properties -> {
+            if (properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SearchShapeStatementInspector()) != null) {
+                log.warn("A Hibernate StatementInspector is already configured, dynamic search SQL will not carry shape comments");
+            }
+        };
+    }
+
+    /**
+     * Crée le cache des requêtes HQL compilées par forme de recherche
+     *
+     * @param properties Configuration du cache (dynamic-search.jpa.query-templates)
+     * @return Cache des requêtes compilées
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "dynamic-search.jpa.query-templates", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public JpaQueryTemplates jpaQueryTemplates(JpaQueryTemplateProperties properties) {
+        return new JpaQueryTemplates(properties);
+    }
+
 }
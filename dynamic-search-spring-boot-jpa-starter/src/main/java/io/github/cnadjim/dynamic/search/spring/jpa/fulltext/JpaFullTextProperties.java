@@ -0,0 +1,23 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.fulltext;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration de la recherche full-text PostgreSQL (préfixe dynamic-search.jpa.full-text)
+ *
+ * <pre>
+ * dynamic-search:
+ *   jpa:
+ *     full-text:
+ *       create-columns: true
+ * </pre>
+ *
+ * @param createColumns Crée au démarrage les colonnes tsvector déclarées par @EnableSearchable(fullTextColumn)
+ *                      et leurs index GIN (désactivé par défaut : les colonnes sont alors créées par les migrations)
+ */
+@ConfigurationProperties("dynamic-search.jpa.full-text")
+public record JpaFullTextProperties(
+        @DefaultValue("false") boolean createColumns
+) {
+}
@@ -0,0 +1,117 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.fulltext;
+
+import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.NodeBuilder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Recherche full-text PostgreSQL d'une entité : colonne tsvector générée et indexée en GIN,
+ * interrogée avec websearch_to_tsquery (syntaxe des moteurs de recherche : mots, "phrase", -exclusion, or)
+ * <p>
+ * La colonne n'étant pas mappée par l'entité, elle est désignée par les fonctions de PostgresFullTextFunctions,
+ * qui la qualifient avec l'alias SQL de l'identifiant de l'entité.
+ *
+ * @param column        Colonne tsvector
+ * @param configuration Configuration de recherche textuelle (simple, english, french...)
+ * @param ranking       true pour trier par pertinence lorsqu'aucun tri n'est demandé
+ */
+public record PostgresFullText(String column, String configuration, boolean ranking) {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /**
+     * Configuration lue une seule fois par entité (vide si l'entité ne déclare pas de colonne tsvector)
+     */
+    private static final Map<Class<?>, Optional<PostgresFullText>> BY_ENTITY = new ConcurrentHashMap<>();
+
+    public PostgresFullText {
+        // Les deux noms sont écrits tels quels dans le SQL
+        if (column == null || !IDENTIFIER.matcher(column).matches()) {
+            throw new IllegalArgumentException("Invalid full-text column: " + column);
+        }
+        if (configuration == null || !IDENTIFIER.matcher(configuration).matches()) {
+            throw new IllegalArgumentException("Invalid full-text configuration: " + configuration);
+        }
+    }
+
+    /**
+     * Recherche full-text déclarée par @EnableSearchable(fullTextColumn)
+     *
+     * @param entityClass Classe de l'entité
+     * @return La configuration, ou null si l'entité ne déclare pas de colonne tsvector
+     */
+    public static PostgresFullText of(Class<?> entityClass) {
+        return BY_ENTITY.computeIfAbsent(entityClass, PostgresFullText::read).orElse(null);
+    }
+
+    /**
+     * Recherche full-text applicable à une base : PostgreSQL uniquement, les autres bases conservent le CONTAINS
+     *
+     * @param entityClass Classe de l'entité
+     * @param dialect     Dialecte Hibernate de la base
+     * @return La configuration, ou null si elle ne s'applique pas
+     */
+    public static PostgresFullText of(Class<?> entityClass, Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect ? of(entityClass) : null;
+    }
+
+    private static Optional<PostgresFullText> read(Class<?> entityClass) {
+        EnableSearchable searchable = entityClass.getAnnotation(EnableSearchable.class);
+        if (searchable == null || searchable.fullTextColumn().isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PostgresFullText(searchable.fullTextColumn(), searchable.fullTextConfiguration(), searchable.fullTextRanking()));
+    }
+
+    /**
+     * Prédicat HQL : colonne @@ websearch_to_tsquery(configuration, requête)
+     *
+     * @param anchor    Chemin HQL de l'identifiant de l'entité (alias de la table portant la colonne)
+     * @param parameter Paramètre HQL de la requête saisie
+     * @return Le prédicat
+     */
+    public String matchHql(String anchor, String parameter) {
+        return PostgresFullTextFunctions.MATCH + "(" + arguments(anchor, parameter) + ")";
+    }
+
+    /**
+     * Pertinence HQL : ts_rank(colonne, websearch_to_tsquery(configuration, requête))
+     *
+     * @param anchor    Chemin HQL de l'identifiant de l'entité
+     * @param parameter Paramètre HQL de la requête saisie
+     * @return L'expression de pertinence
+     */
+    public String rankHql(String anchor, String parameter) {
+        return PostgresFullTextFunctions.RANK + "(" + arguments(anchor, parameter) + ")";
+    }
+
+    /**
+     * Prédicat Criteria équivalent à matchHql
+     */
+    public Predicate match(NodeBuilder nodeBuilder, Expression<?> anchor, String query) {
+        return nodeBuilder.isTrue(nodeBuilder.function(PostgresFullTextFunctions.MATCH, Boolean.class, arguments(nodeBuilder, anchor, query)));
+    }
+
+    /**
+     * Pertinence Criteria équivalente à rankHql
+     */
+    public Expression<Double> rank(NodeBuilder nodeBuilder, Expression<?> anchor, String query) {
+        return nodeBuilder.function(PostgresFullTextFunctions.RANK, Double.class, arguments(nodeBuilder, anchor, query));
+    }
+
+    private Expression<?>[] arguments(NodeBuilder nodeBuilder, Expression<?> anchor, String query) {
+        return new Expression<?>[]{anchor, nodeBuilder.literal(column), nodeBuilder.literal(configuration), nodeBuilder.value(query)};
+    }
+
+    private String arguments(String anchor, String parameter) {
+        return anchor + ", '" + column + "', '" + configuration + "', " + parameter;
+    }
+}
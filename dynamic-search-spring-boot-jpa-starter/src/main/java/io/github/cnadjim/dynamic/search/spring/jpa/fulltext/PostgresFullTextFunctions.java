@@ -0,0 +1,86 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.fulltext;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.Literal;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * Fonctions HQL de la recherche full-text PostgreSQL, enregistrées auprès d'Hibernate (ServiceLoader)
+ * <p>
+ * - dynamic_search_ts_match(id, 'colonne', 'configuration', requête) : colonne @@ websearch_to_tsquery(...)
+ * - dynamic_search_ts_rank(id, 'colonne', 'configuration', requête) : ts_rank(colonne, websearch_to_tsquery(...))
+ * <p>
+ * La colonne tsvector n'est pas mappée par l'entité : elle est qualifiée avec l'alias SQL de l'identifiant,
+ * qui désigne la table de l'entité dans la requête. La colonne et la configuration sont des littéraux.
+ */
+public class PostgresFullTextFunctions implements FunctionContributor {
+
+    static final String MATCH = "dynamic_search_ts_match";
+
+    static final String RANK = "dynamic_search_ts_rank";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+        var types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().register(MATCH, new TextSearchFunction(MATCH, types.resolve(StandardBasicTypes.BOOLEAN), false));
+        functionContributions.getFunctionRegistry().register(RANK, new TextSearchFunction(RANK, types.resolve(StandardBasicTypes.DOUBLE), true));
+    }
+
+    private static final class TextSearchFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final boolean rank;
+
+        private TextSearchFunction(String name, BasicType<?> type, boolean rank) {
+            super(name, StandardArgumentsValidators.exactly(4), StandardFunctionReturnTypeResolvers.invariant(type),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+            this.rank = rank;
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments, ReturnableType<?> returnType,
+                           SqlAstTranslator<?> walker) {
+            ColumnReference anchor = ((Expression) arguments.get(0)).getColumnReference();
+            if (anchor == null) {
+                throw new IllegalArgumentException("The first argument of " + getName() + " must be a single-column entity identifier");
+            }
+
+            sqlAppender.appendSql(rank ? "ts_rank(" : "(");
+            if (anchor.getQualifier() != null) {
+                sqlAppender.appendSql(anchor.getQualifier());
+                sqlAppender.appendSql('.');
+            }
+            sqlAppender.appendSql(literal(arguments.get(1)));
+            sqlAppender.appendSql(rank ? ", " : " @@ ");
+            sqlAppender.appendSql("websearch_to_tsquery('");
+            sqlAppender.appendSql(literal(arguments.get(2)));
+            sqlAppender.appendSql("'::regconfig, ");
+            arguments.get(3).accept(walker);
+            sqlAppender.appendSql("))");
+        }
+
+        private String literal(SqlAstNode argument) {
+            if (argument instanceof Literal literal && literal.getLiteralValue() instanceof String value) {
+                return value;
+            }
+            throw new IllegalArgumentException("The column and configuration of " + getName() + " must be string literals");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.listener;
+
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Listener JPA maintenant les champs normalisés déclarés par @Searchable(normalizedField)
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code @Entity}
+ * {@code @EnableSearchable}
+ * {@code @EntityListeners}(NormalizedFieldsListener.class)
+ * public class OperatingSystem {
+ *     {@code @Searchable}(type = FieldType.STRING, normalizedField = "nameNormalized")
+ *     private String name;
+ *
+ *     {@code @SearchableExclude}
+ *     private String nameNormalized;
+ * }
+ * </pre>
+ */
+public class NormalizedFieldsListener {
+
+    @PrePersist
+    @PreUpdate
+    public void normalize(Object entity) {
+        NormalizedFields.of(entity.getClass()).apply(entity);
+    }
+}
@@ -1,28 +1,43 @@
 package io.github.cnadjim.dynamic.search.spring.jpa.processor;
 
-import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
 import io.github.cnadjim.dynamic.search.port.in.RegisterEntityUseCase;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
 import io.github.cnadjim.dynamic.search.spring.jpa.adapter.JpaEntityRepositoryAdapter;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.JpaFullTextProperties;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.PostgresFullText;
+import io.github.cnadjim.dynamic.search.spring.jpa.listener.NormalizedFieldsListener;
+import io.github.cnadjim.dynamic.search.spring.jpa.schema.JpaTrigramProperties;
+import io.github.cnadjim.dynamic.search.spring.jpa.schema.PostgresSearchSchema;
+import io.github.cnadjim.dynamic.search.spring.jpa.specification.LikePattern;
+import io.github.cnadjim.dynamic.search.spring.jpa.template.JpaQueryTemplates;
+import io.github.cnadjim.dynamic.search.spring.starter.discovery.SearchableTypeDiscovery;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.config.BeanDefinition;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationListener;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.event.ContextRefreshedEvent;
-import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
 import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.Arrays;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Processor responsable de scanner les entités JPA annotées @EnableSearchable
+ * Processor responsable de découvrir les entités JPA annotées @EnableSearchable
  * et de les enregistrer auprès du SearchService unique.
  * <p>
+ * Les entités sont lues dans le Metamodel JPA (déjà construit par Hibernate, aucun scan du classpath),
+ * complété par la découverte partagée SearchableTypeDiscovery (index de compilation ou packages de l'application).
+ * <p>
  * Utilise ApplicationListener<ContextRefreshedEvent> pour enregistrer les entités
  * après que tous les beans soient créés et disponibles.
  * <p>
@@ -33,11 +48,29 @@ public class SearchableEntityRegistrationProcessor implements ApplicationListene
 
     private final RegisterEntityUseCase registerEntityUseCase;
     private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final SearchableTypeDiscovery searchableTypeDiscovery;
+    private final SearchMetrics searchMetrics;
+    private final JpaQueryTemplates queryTemplates;
+    private final JpaFullTextProperties fullTextProperties;
+    private final JpaTrigramProperties trigramProperties;
     private final AtomicBoolean registered = new AtomicBoolean(false);
 
-    public SearchableEntityRegistrationProcessor(RegisterEntityUseCase registerEntityUseCase, EntityManager entityManager) {
+    public SearchableEntityRegistrationProcessor(RegisterEntityUseCase registerEntityUseCase, EntityManager entityManager,
+                                                 ObjectProvider<PlatformTransactionManager> transactionManager,
+                                                 SearchableTypeDiscovery searchableTypeDiscovery,
+                                                 ObjectProvider<SearchMetrics> searchMetrics,
+                                                 ObjectProvider<JpaQueryTemplates> queryTemplates,
+                                                 ObjectProvider<JpaFullTextProperties> fullTextProperties,
+                                                 ObjectProvider<JpaTrigramProperties> trigramProperties) {
         this.registerEntityUseCase = registerEntityUseCase;
         this.entityManager = entityManager;
+        this.transactionManager = transactionManager.getIfUnique();
+        this.searchableTypeDiscovery = searchableTypeDiscovery;
+        this.searchMetrics = searchMetrics.getIfAvailable();
+        this.queryTemplates = queryTemplates.getIfAvailable();
+        this.fullTextProperties = fullTextProperties.getIfAvailable(() -> new JpaFullTextProperties(false));
+        this.trigramProperties = trigramProperties.getIfAvailable(() -> new JpaTrigramProperties(false));
     }
 
     @Override
@@ -47,51 +80,28 @@ public class SearchableEntityRegistrationProcessor implements ApplicationListene
             return;
         }
 
-        log.info("🔍 Scanning for @EnableSearchable JPA entities...");
-
-        // Scanner le classpath complet pour trouver les classes annotées @Entity et @EnableSearchable
-        ClassPathScanningCandidateComponentProvider scanner = createScanner();
+        log.info("🔍 Discovering @EnableSearchable JPA entities...");
 
-        // Scanner en partant de la racine (tous les packages)
-        Set<BeanDefinition> candidates = scanner.findCandidateComponents("");
+        // Entités gérées par l'EntityManager, puis celles de la découverte partagée
+        Set<Class<?>> entityClasses = SearchableTypeDiscovery.searchable(entityManager.getMetamodel().getEntities().stream()
+                .<Class<?>>map(EntityType::getJavaType)
+                .toList());
+        entityClasses.addAll(searchableTypeDiscovery.searchableTypes(Entity.class));
 
         int registeredCount = 0;
-        for (BeanDefinition candidate : candidates) {
+        for (Class<?> entityClass : entityClasses) {
             try {
-                Class<?> entityClass = Class.forName(candidate.getBeanClassName());
-
-                // Vérifier que la classe a bien les deux annotations
-                if (entityClass.isAnnotationPresent(Entity.class) &&
-                        entityClass.isAnnotationPresent(EnableSearchable.class)) {
-
-                    log.info("✅ Registering @EnableSearchable JPA entity: {}", entityClass.getSimpleName());
-                    registerEntity(entityClass);
-                    registeredCount++;
-                }
-            } catch (ClassNotFoundException e) {
-                log.warn("Failed to load class: {}", candidate.getBeanClassName(), e);
+                log.info("✅ Registering @EnableSearchable JPA entity: {}", entityClass.getSimpleName());
+                registerEntity(entityClass);
+                registeredCount++;
             } catch (Exception e) {
-                log.error("Failed to register entity: {}", candidate.getBeanClassName(), e);
+                log.error("Failed to register entity: {}", entityClass.getName(), e);
             }
         }
 
         log.info("📊 Successfully registered {} @EnableSearchable JPA entities", registeredCount);
     }
 
-    /**
-     * Crée un scanner configuré pour trouver les classes annotées @Entity et @EnableSearchable
-     */
-    private ClassPathScanningCandidateComponentProvider createScanner() {
-        ClassPathScanningCandidateComponentProvider scanner =
-                new ClassPathScanningCandidateComponentProvider(false);
-
-        // Scanner les classes avec @Entity ET @EnableSearchable
-        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
-        scanner.addIncludeFilter(new AnnotationTypeFilter(EnableSearchable.class));
-
-        return scanner;
-    }
-
     /**
      * Enregistre une entité JPA auprès du SearchService
      * Crée un adaptateur JPA spécifique pour cette entité
@@ -103,10 +113,74 @@ public class SearchableEntityRegistrationProcessor implements ApplicationListene
         // Créer le SimpleJpaRepository
         SimpleJpaRepository<T, ?> jpaRepository = new SimpleJpaRepository<>(entityInformation, entityManager);
 
+        // L'attribut identifiant sert de départage pour la pagination keyset (absent pour les @IdClass)
+        String idKey = entityInformation.getIdAttribute() != null ? entityInformation.getIdAttribute().getName() : null;
+
+        // Créer la colonne tsvector de la recherche full-text PostgreSQL si demandé
+        if (fullTextProperties.createColumns()) {
+            createFullTextColumn(entityClass);
+        }
+
+        // Créer les index trigrammes des opérateurs CONTAINS, STARTS_WITH et ENDS_WITH PostgreSQL si demandé
+        if (trigramProperties.createIndexes()) {
+            createTrigramIndexes(entityClass);
+        }
+
+        // Les champs normalisés sont résolus (et validés) avant la première recherche
+        checkNormalizedFields(entityClass);
+
         // Créer l'adaptateur
-        EntityRepository<T> repositoryAdapter = new JpaEntityRepositoryAdapter<>(jpaRepository);
+        EntityRepository<T> repositoryAdapter = JpaEntityRepositoryAdapter.builder(jpaRepository)
+                .entityClass(entityClass)
+                .entityManager(entityManager)
+                .idKey(idKey)
+                .transactionManager(transactionManager)
+                .searchMetrics(searchMetrics)
+                .queryTemplates(queryTemplates)
+                .build();
 
         // Enregistrer l'entité auprès du SearchService
         registerEntityUseCase.registerEntity(entityClass, repositoryAdapter);
     }
+
+    private void checkNormalizedFields(Class<?> entityClass) {
+        if (NormalizedFields.of(entityClass).isEmpty()) {
+            return;
+        }
+        for (Class<?> current = entityClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            EntityListeners listeners = current.getAnnotation(EntityListeners.class);
+            if (listeners != null && Arrays.asList(listeners.value()).contains(NormalizedFieldsListener.class)) {
+                return;
+            }
+        }
+        log.warn("Entity {} declares normalized fields without @EntityListeners(NormalizedFieldsListener.class): they must be written by the application",
+                entityClass.getSimpleName());
+    }
+
+    private void createFullTextColumn(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        PostgresFullText fullText = PostgresFullText.of(entityClass, sessionFactory.getJdbcServices().getDialect());
+        if (fullText == null) {
+            return;
+        }
+        try {
+            PostgresSearchSchema.createFullTextColumn(sessionFactory, entityClass, fullText);
+        } catch (Exception e) {
+            // La recherche reste utilisable si la colonne a été créée par ailleurs
+            log.error("Failed to create full-text column {} for entity: {}", fullText.column(), entityClass.getName(), e);
+        }
+    }
+
+    private void createTrigramIndexes(Class<?> entityClass) {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        if (!LikePattern.supportsIlike(sessionFactory.getJdbcServices().getDialect())) {
+            return;
+        }
+        try {
+            PostgresSearchSchema.createTrigramIndexes(sessionFactory, entityClass);
+        } catch (Exception e) {
+            // Les recherches restent correctes sans index, seulement plus lentes
+            log.error("Failed to create trigram indexes for entity: {}", entityClass.getName(), e);
+        }
+    }
 }
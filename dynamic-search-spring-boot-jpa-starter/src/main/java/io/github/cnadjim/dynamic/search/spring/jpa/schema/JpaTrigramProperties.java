@@ -0,0 +1,23 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.schema;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration des index trigrammes PostgreSQL (préfixe dynamic-search.jpa.trigram)
+ *
+ * <pre>
+ * dynamic-search:
+ *   jpa:
+ *     trigram:
+ *       create-indexes: true
+ * </pre>
+ *
+ * @param createIndexes Crée au démarrage l'extension pg_trgm et un index GIN trigrammes par champ STRING searchable
+ *                      des entités (désactivé par défaut : les index sont alors créés par les migrations)
+ */
+@ConfigurationProperties("dynamic-search.jpa.trigram")
+public record JpaTrigramProperties(
+        @DefaultValue("false") boolean createIndexes
+) {
+}
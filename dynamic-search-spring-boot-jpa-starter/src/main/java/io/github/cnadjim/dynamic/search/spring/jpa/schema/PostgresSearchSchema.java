@@ -0,0 +1,124 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.schema;
+
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.PostgresFullText;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Objets PostgreSQL servant la recherche sur les champs STRING searchable d'une entité
+ * <p>
+ * - Colonne tsvector générée et son index GIN (dynamic-search.jpa.full-text.create-columns) : la colonne est
+ *   maintenue par PostgreSQL à chaque écriture, sans code applicatif
+ * - Index GIN trigrammes par champ (dynamic-search.jpa.trigram.create-indexes) : servent les ILIKE des opérateurs
+ *   CONTAINS, NOT_CONTAINS, STARTS_WITH et ENDS_WITH, quelle que soit la position du motif
+ * <p>
+ * Les ordres sont idempotents (IF NOT EXISTS) ; un objet existant n'est pas modifié, l'ajout d'un champ STRING
+ * nécessite donc de recréer la colonne tsvector (migration).
+ */
+@Slf4j
+public final class PostgresSearchSchema {
+
+    private PostgresSearchSchema() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    /**
+     * Crée la colonne tsvector et son index s'ils n'existent pas
+     *
+     * @param entityManagerFactory Fabrique de l'unité de persistance
+     * @param entityClass          Classe de l'entité
+     * @param fullText             Recherche full-text de l'entité
+     */
+    public static void createFullTextColumn(EntityManagerFactory entityManagerFactory, Class<?> entityClass, PostgresFullText fullText) {
+        execute(entityManagerFactory, entityClass, (table, columns) -> fullTextStatements(table, columns, fullText));
+        log.info("Full-text column {} ready for entity {}", fullText.column(), entityClass.getSimpleName());
+    }
+
+    /**
+     * Crée l'extension pg_trgm et un index GIN trigrammes par champ STRING searchable s'ils n'existent pas
+     *
+     * @param entityManagerFactory Fabrique de l'unité de persistance
+     * @param entityClass          Classe de l'entité
+     */
+    public static void createTrigramIndexes(EntityManagerFactory entityManagerFactory, Class<?> entityClass) {
+        execute(entityManagerFactory, entityClass, PostgresSearchSchema::trigramStatements);
+        log.info("Trigram indexes ready for entity {}", entityClass.getSimpleName());
+    }
+
+    /**
+     * Ordres DDL de la colonne générée et de son index GIN
+     *
+     * @param table    Table de l'entité (éventuellement qualifiée par son schéma)
+     * @param columns  Colonnes des champs STRING searchable
+     * @param fullText Recherche full-text de l'entité
+     * @return Les ordres, dans leur ordre d'exécution
+     */
+    static List<String> fullTextStatements(String table, List<String> columns, PostgresFullText fullText) {
+        String document = String.join(" || ' ' || ", columns.stream().map(column -> "coalesce(" + column + ", '')").toList());
+
+        return List.of(
+                "alter table " + table + " add column if not exists " + fullText.column()
+                        + " tsvector generated always as (to_tsvector('" + fullText.configuration() + "'::regconfig, " + document + ")) stored",
+                "create index if not exists " + indexName(table, fullText.column(), "idx") + " on " + table
+                        + " using gin (" + fullText.column() + ")"
+        );
+    }
+
+    /**
+     * Ordres DDL de l'extension pg_trgm et des index trigrammes
+     *
+     * @param table   Table de l'entité (éventuellement qualifiée par son schéma)
+     * @param columns Colonnes des champs STRING searchable
+     * @return Les ordres, dans leur ordre d'exécution
+     */
+    static List<String> trigramStatements(String table, List<String> columns) {
+        List<String> statements = new ArrayList<>(columns.size() + 1);
+        statements.add("create extension if not exists pg_trgm");
+        for (String column : columns) {
+            statements.add("create index if not exists " + indexName(table, column, "trgm_idx") + " on " + table
+                    + " using gin (" + column + " gin_trgm_ops)");
+        }
+        return statements;
+    }
+
+    private static void execute(EntityManagerFactory entityManagerFactory, Class<?> entityClass, Statements statements) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+        if (!(persister instanceof AbstractEntityPersister entityPersister)) {
+            log.warn("Cannot create search schema for entity {}: unsupported persister", entityClass.getSimpleName());
+            return;
+        }
+
+        List<String> columns = new ArrayList<>();
+        for (String key : FilterMetadataExtractor.index(entityClass).stringFieldKeys()) {
+            String[] keyColumns = entityPersister.getPropertyColumnNames(key);
+            if (keyColumns.length == 1) {
+                columns.add(keyColumns[0]);
+            }
+        }
+        if (columns.isEmpty()) {
+            log.warn("No searchable STRING column found on entity: {}", entityClass.getSimpleName());
+            return;
+        }
+
+        List<String> sql = statements.of(entityPersister.getTableName(), columns);
+        sessionFactory.inTransaction(session -> sql.forEach(statement -> session.createNativeMutationQuery(statement).executeUpdate()));
+    }
+
+    private static String indexName(String table, String column, String suffix) {
+        String unqualifiedTable = table.substring(table.lastIndexOf('.') + 1);
+        return (unqualifiedTable + "_" + column + "_" + suffix).replace("\"", "").replace("`", "");
+    }
+
+    @FunctionalInterface
+    private interface Statements {
+        List<String> of(String table, List<String> columns);
+    }
+}
@@ -1,10 +1,19 @@
 package io.github.cnadjim.dynamic.search.spring.jpa.specification;
 
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
 import io.github.cnadjim.dynamic.search.model.*;
-import io.github.cnadjim.dynamic.search.spring.starter.util.FieldTypeParser;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.PostgresFullText;
+import io.github.cnadjim.dynamic.search.spring.starter.util.KeysetCursorCodec;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.EntityType;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.NodeBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -12,6 +21,7 @@ import org.springframework.lang.Nullable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Spécification JPA générique - Construction des requêtes dynamiques
@@ -28,30 +38,89 @@ public class GenericSpecification<E> implements Specification<E> {
 
     private final SearchCriteria criteria;
 
+    /**
+     * Tris effectifs de la pagination keyset (identifiant de départage inclus), null en pagination par décalage
+     */
+    private final List<SortCriteria> keysetSorts;
+
+    public GenericSpecification(SearchCriteria criteria) {
+        this(criteria, null);
+    }
+
     @Override
     public Predicate toPredicate(@NonNull Root<E> root, @Nullable CriteriaQuery<?> query, CriteriaBuilder cb) {
         Predicate predicate = cb.equal(cb.literal(Boolean.TRUE), Boolean.TRUE);
 
         // Application des filtres
         for (FilterCriteria filter : criteria.filters()) {
-            log.info("Filter: {} {} {}", filter.key(), filter.operator(), filter.value());
             predicate = buildPredicate(root, cb, filter, predicate);
         }
 
+        // Application de la recherche full-text si présente
+        if (criteria.hasFullTextSearch()) {
+            predicate = cb.and(buildFullTextPredicate(root, cb, criteria.fullText().query()), predicate);
+        }
+
+        // Application du seek à partir du curseur de la page précédente
+        if (keysetSorts != null && criteria.page().hasCursor()) {
+            List<Object> cursorValues = KeysetCursorCodec.decode(criteria.page().cursor(), root.getJavaType(), keysetSorts);
+            predicate = cb.and(buildSeekPredicate(root, cb, cursorValues), predicate);
+        }
+
         // Application des tris
         List<Order> orders = new ArrayList<>();
 
-        for (SortCriteria sort : criteria.sorts()) {
+        for (SortCriteria sort : keysetSorts != null ? keysetSorts : criteria.sorts()) {
             orders.add(buildOrder(root, cb, sort));
         }
 
+        // Sans tri demandé, une recherche full-text PostgreSQL peut être triée par pertinence
+        if (orders.isEmpty() && criteria.hasFullTextSearch()) {
+            PostgresFullText fullText = postgresFullText(root, cb);
+            if (fullText != null && fullText.ranking()) {
+                orders.add(cb.desc(fullText.rank((NodeBuilder) cb, identifier(root), criteria.fullText().query())));
+            }
+        }
+
         query.orderBy(orders);
 
         return predicate;
     }
 
+    /**
+     * Construit un prédicat full-text qui cherche dans tous les champs STRING searchable
+     * - PostgreSQL avec @EnableSearchable(fullTextColumn) : colonne tsvector @@ websearch_to_tsquery (index GIN)
+     * - Sinon : OR entre tous les champs avec un LIKE case-insensitive (CONTAINS, ILIKE sur PostgreSQL)
+     */
+    private Predicate buildFullTextPredicate(Root<E> root, CriteriaBuilder cb, String searchQuery) {
+        PostgresFullText fullText = postgresFullText(root, cb);
+        if (fullText != null) {
+            return fullText.match((NodeBuilder) cb, identifier(root), searchQuery);
+        }
+
+        String pattern = LikePattern.contains(searchQuery.toUpperCase(Locale.ROOT));
+
+        List<Predicate> fieldPredicates = FilterMetadataExtractor.index(root.getJavaType())
+                .stringFieldKeys()
+                .stream()
+                .map(key -> like(root, cb, key, pattern, false))
+                .toList();
+
+        if (fieldPredicates.isEmpty()) {
+            log.warn("No searchable STRING fields found for full-text search on entity: {}", root.getJavaType().getSimpleName());
+            return cb.conjunction();
+        }
+
+        return cb.or(fieldPredicates.toArray(Predicate[]::new));
+    }
+
     private Predicate buildPredicate(Root<E> root, CriteriaBuilder cb,
                                      FilterCriteria filter, Predicate predicate) {
+        String shadowKey = NormalizedFields.of(root.getJavaType()).shadowKey(filter.key(), filter.operator());
+        if (shadowKey != null) {
+            return cb.and(buildNormalized(root, cb, filter, shadowKey), predicate);
+        }
+
         return switch (filter.operator()) {
             case EQUALS -> buildEquals(root, cb, filter, predicate);
             case NOT_EQUALS -> buildNotEquals(root, cb, filter, predicate);
@@ -71,25 +140,14 @@ public class GenericSpecification<E> implements Specification<E> {
 
     private Predicate buildEquals(Root<E> root, CriteriaBuilder cb,
                                   FilterCriteria filter, Predicate predicate) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-
-        // Si c'est un champ DATE et que la valeur fournie est une date sans heure (format yyyy-MM-dd),
+        // Si la valeur fournie est une date sans heure (format yyyy-MM-dd),
         // on transforme automatiquement en BETWEEN pour matcher toute la journée
-        if (filter.fieldType() == FieldType.DATE && isDateWithoutTime(filter.value().toString())) {
-            return buildDateRangeForWholeDay(root, cb, filter, predicate, (LocalDateTime) value);
+        if (filter.value() instanceof FilterValue.DateTimeValue date && date.wholeDay()) {
+            return buildDateRangeForWholeDay(root, cb, filter, predicate, date.value());
         }
 
         Expression<?> key = root.get(filter.key());
-        return cb.and(cb.equal(key, value), predicate);
-    }
-
-    /**
-     * Vérifie si la chaîne de date est au format date seule (yyyy-MM-dd) sans heure
-     */
-    private boolean isDateWithoutTime(String dateString) {
-        // Format date seule : yyyy-MM-dd (10 caractères)
-        // Format avec heure : yyyy-MM-ddTHH:mm:ss (au moins 19 caractères)
-        return dateString != null && dateString.length() == 10 && dateString.matches("\\d{4}-\\d{2}-\\d{2}");
+        return cb.and(cb.equal(key, filter.value().object()), predicate);
     }
 
     /**
@@ -115,15 +173,14 @@ public class GenericSpecification<E> implements Specification<E> {
     private Predicate buildNotEquals(Root<E> root, CriteriaBuilder cb,
                                      FilterCriteria filter,
                                      Predicate predicate) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
         Expression<?> key = root.get(filter.key());
-        return cb.and(cb.notEqual(key, value), predicate);
+        return cb.and(cb.notEqual(key, filter.value().object()), predicate);
     }
 
     private Predicate buildLessThan(Root<E> root, CriteriaBuilder cb,
                                     FilterCriteria filter,
                                     Predicate predicate) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
+        Object value = filter.value().object();
 
         return switch (filter.fieldType()) {
             case DATE -> {
@@ -143,7 +200,7 @@ public class GenericSpecification<E> implements Specification<E> {
 
     private Predicate buildGreaterThan(Root<E> root, CriteriaBuilder cb,
                                        FilterCriteria filter, Predicate predicate) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
+        Object value = filter.value().object();
 
         return switch (filter.fieldType()) {
             case DATE -> {
@@ -163,26 +220,58 @@ public class GenericSpecification<E> implements Specification<E> {
 
     private Predicate buildContains(Root<E> root, CriteriaBuilder cb,
                                     FilterCriteria filter, Predicate predicate) {
-        Expression<String> key = root.get(filter.key());
-        return cb.and(cb.like(cb.upper(key), "%" + filter.value().toString().toUpperCase() + "%"), predicate);
+        String pattern = LikePattern.contains(filter.value().text().toUpperCase(Locale.ROOT));
+        return cb.and(like(root, cb, filter.key(), pattern, false), predicate);
     }
 
     private Predicate buildNotContains(Root<E> root, CriteriaBuilder cb,
                                        FilterCriteria filter, Predicate predicate) {
-        Expression<String> key = root.get(filter.key());
-        return cb.and(cb.notLike(cb.upper(key), "%" + filter.value().toString().toUpperCase() + "%"), predicate);
+        String pattern = LikePattern.contains(filter.value().text().toUpperCase(Locale.ROOT));
+        return cb.and(like(root, cb, filter.key(), pattern, true), predicate);
     }
 
     private Predicate buildStartsWith(Root<E> root, CriteriaBuilder cb,
                                       FilterCriteria filter, Predicate predicate) {
-        Expression<String> key = root.get(filter.key());
-        return cb.and(cb.like(cb.upper(key), filter.value().toString().toUpperCase() + "%"), predicate);
+        String pattern = LikePattern.startsWith(filter.value().text().toUpperCase(Locale.ROOT));
+        return cb.and(like(root, cb, filter.key(), pattern, false), predicate);
     }
 
     private Predicate buildEndsWith(Root<E> root, CriteriaBuilder cb,
                                     FilterCriteria filter, Predicate predicate) {
-        Expression<String> key = root.get(filter.key());
-        return cb.and(cb.like(cb.upper(key), "%" + filter.value().toString().toUpperCase()), predicate);
+        String pattern = LikePattern.endsWith(filter.value().text().toUpperCase(Locale.ROOT));
+        return cb.and(like(root, cb, filter.key(), pattern, false), predicate);
+    }
+
+    /**
+     * Filtre textuel sur le champ normalisé (@Searchable(normalizedField)) : la saisie est normalisée,
+     * le champ est comparé tel quel (égalité, IN et préfixe utilisables par son index)
+     */
+    private Predicate buildNormalized(Root<E> root, CriteriaBuilder cb, FilterCriteria filter, String shadowKey) {
+        Expression<String> shadow = root.get(shadowKey);
+        return switch (filter.operator()) {
+            case EQUALS -> cb.equal(shadow, NormalizedFields.normalize(filter.value().text()));
+            case NOT_EQUALS -> cb.notEqual(shadow, NormalizedFields.normalize(filter.value().text()));
+            case IN -> buildNormalizedMembership(cb, shadow, filter);
+            case NOT_IN -> cb.not(buildNormalizedMembership(cb, shadow, filter));
+            case CONTAINS -> cb.like(shadow, LikePattern.contains(NormalizedFields.normalize(filter.value().text())), LikePattern.ESCAPE);
+            case NOT_CONTAINS -> cb.notLike(shadow, LikePattern.contains(NormalizedFields.normalize(filter.value().text())), LikePattern.ESCAPE);
+            case STARTS_WITH -> cb.like(shadow, LikePattern.startsWith(NormalizedFields.normalize(filter.value().text())), LikePattern.ESCAPE);
+            case ENDS_WITH -> cb.like(shadow, LikePattern.endsWith(NormalizedFields.normalize(filter.value().text())), LikePattern.ESCAPE);
+            default -> throw new IllegalStateException("Operator not supported on normalized field: " + filter.operator());
+        };
+    }
+
+    /**
+     * Liste IN normalisée, complétée jusqu'à la puissance de deux supérieure comme buildMembership
+     */
+    private Predicate buildNormalizedMembership(CriteriaBuilder cb, Expression<String> shadow, FilterCriteria filter) {
+        List<FilterValue> values = filter.values();
+        CriteriaBuilder.In<String> inClause = cb.in(shadow);
+        int padded = values.size() <= 1 ? values.size() : Integer.highestOneBit(values.size() - 1) << 1;
+        for (int i = 0; i < padded; i++) {
+            inClause.value(NormalizedFields.normalize(values.get(Math.min(i, values.size() - 1)).text()));
+        }
+        return inClause;
     }
 
     private Predicate buildBlank(Root<E> root, CriteriaBuilder cb,
@@ -203,28 +292,95 @@ public class GenericSpecification<E> implements Specification<E> {
 
     private Predicate buildIn(Root<E> root, CriteriaBuilder cb,
                               FilterCriteria filter, Predicate predicate) {
-        List<Object> values = filter.values();
-        CriteriaBuilder.In<Object> inClause = cb.in(root.get(filter.key()));
-        for (Object value : values) {
-            inClause.value(FieldTypeParser.parse(filter.fieldType(), value.toString()));
-        }
-        return cb.and(inClause, predicate);
+        return cb.and(buildMembership(root, cb, filter), predicate);
     }
 
     private Predicate buildNotIn(Root<E> root, CriteriaBuilder cb,
                                  FilterCriteria filter, Predicate predicate) {
-        List<Object> values = filter.values();
-        CriteriaBuilder.In<Object> inClause = cb.in(root.get(filter.key()));
-        for (Object value : values) {
-            inClause.value(FieldTypeParser.parse(filter.fieldType(), value.toString()));
+        return cb.and(cb.not(buildMembership(root, cb, filter)), predicate);
+    }
+
+    /**
+     * Appartenance à la liste de valeurs, dont le texte SQL ne doit pas dépendre du nombre exact de valeurs
+     * (cache de requêtes préparées de la base, limite du nombre de paramètres JDBC)
+     * <p>
+     * - Liste d'entiers (LongValueList) sur PostgreSQL / H2 : un seul paramètre tableau lié depuis le long[], key = any(?)
+     * - Sinon : IN (?, ?, ...) complété jusqu'à la puissance de deux supérieure en répétant la dernière valeur
+     */
+    private Predicate buildMembership(Root<E> root, CriteriaBuilder cb, FilterCriteria filter) {
+        Expression<Object> key = root.get(filter.key());
+
+        if (filter.values() instanceof LongValueList longs && cb instanceof NodeBuilder nodeBuilder && supportsArrayParameter(nodeBuilder)) {
+            return cb.isTrue(nodeBuilder.sql("(? = any(?))", Boolean.class, key, nodeBuilder.value(longs.longs())));
+        }
+
+        List<FilterValue> values = filter.values();
+        CriteriaBuilder.In<Object> inClause = cb.in(key);
+        int padded = values.size() <= 1 ? values.size() : Integer.highestOneBit(values.size() - 1) << 1;
+        for (int i = 0; i < padded; i++) {
+            inClause.value(values.get(Math.min(i, values.size() - 1)).object());
+        }
+        return inClause;
+    }
+
+    /**
+     * Comparaison insensible à la casse d'un champ à un motif de LikePattern (métacaractères échappés)
+     * - PostgreSQL / CockroachDB : champ ILIKE motif, sur la colonne elle-même (index trigrammes gin_trgm_ops)
+     * - Sinon : upper(champ) LIKE motif
+     */
+    private static Predicate like(Root<?> root, CriteriaBuilder cb, String key, String pattern, boolean negated) {
+        Expression<String> path = root.get(key);
+        if (cb instanceof NodeBuilder nodeBuilder && LikePattern.supportsIlike(dialect(nodeBuilder))) {
+            return negated
+                    ? nodeBuilder.notIlike(path, pattern, LikePattern.ESCAPE)
+                    : nodeBuilder.ilike(path, pattern, LikePattern.ESCAPE);
+        }
+        return negated
+                ? cb.notLike(cb.upper(path), pattern, LikePattern.ESCAPE)
+                : cb.like(cb.upper(path), pattern, LikePattern.ESCAPE);
+    }
+
+    /**
+     * Recherche full-text PostgreSQL de l'entité, null si la base ou l'entité ne la permettent pas
+     * (la colonne tsvector est qualifiée par l'identifiant, qui doit être simple)
+     */
+    private static PostgresFullText postgresFullText(Root<?> root, CriteriaBuilder cb) {
+        if (cb instanceof NodeBuilder nodeBuilder && identifier(root) != null) {
+            return PostgresFullText.of(root.getJavaType(), dialect(nodeBuilder));
+        }
+        return null;
+    }
+
+    private static Path<?> identifier(Root<?> root) {
+        EntityType<?> model = root.getModel();
+        if (!model.hasSingleIdAttribute() || model.getIdType() == null) {
+            return null;
         }
-        return cb.and(cb.not(inClause), predicate);
+        return root.get(model.getId(model.getIdType().getJavaType()).getName());
+    }
+
+    private static boolean supportsArrayParameter(NodeBuilder nodeBuilder) {
+        return supportsArrayParameter(dialect(nodeBuilder));
+    }
+
+    private static Dialect dialect(NodeBuilder nodeBuilder) {
+        return nodeBuilder.getSessionFactory().getJdbcServices().getDialect();
+    }
+
+    /**
+     * Bases acceptant une liste d'entiers liée en un seul paramètre tableau (key = any(?))
+     *
+     * @param dialect Dialecte Hibernate de la base
+     * @return true pour PostgreSQL, CockroachDB et H2
+     */
+    public static boolean supportsArrayParameter(Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect || dialect instanceof H2Dialect;
     }
 
     private Predicate buildBetween(Root<E> root, CriteriaBuilder cb,
                                    FilterCriteria filter, Predicate predicate) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-        Object valueTo = FieldTypeParser.parse(filter.fieldType(), filter.valueTo().toString());
+        Object value = filter.value().object();
+        Object valueTo = filter.valueTo().object();
 
         switch (filter.fieldType()) {
             case DATE:
@@ -246,8 +402,64 @@ public class GenericSpecification<E> implements Specification<E> {
         }
     }
 
+    /**
+     * Construit le prédicat de seek : (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...
+     * Le sens de comparaison de chaque clé suit la direction de son tri.
+     * Les clés nullable sont triées nulls en dernier en ASC, en premier en DESC (voir buildOrder) :
+     * - ASC, valeur non nulle : k > v OR k IS NULL ; valeur nulle : aucune ligne stricte après
+     * - DESC, valeur non nulle : k < v ; valeur nulle : k IS NOT NULL
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate buildSeekPredicate(Root<E> root, CriteriaBuilder cb, List<Object> cursorValues) {
+        FilterIndex filterIndex = FilterMetadataExtractor.index(root.getJavaType());
+        List<Predicate> branches = new ArrayList<>();
+
+        for (int i = 0; i < keysetSorts.size(); i++) {
+            Predicate strict = buildStrictSeek(root, cb, keysetSorts.get(i), cursorValues.get(i), filterIndex.isNullable(keysetSorts.get(i).key()));
+            if (strict == null) {
+                continue;
+            }
+
+            List<Predicate> branch = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                Expression<?> previousKey = root.get(keysetSorts.get(j).key());
+                Object previousValue = cursorValues.get(j);
+                branch.add(previousValue == null ? cb.isNull(previousKey) : cb.equal(previousKey, previousValue));
+            }
+            branch.add(strict);
+
+            branches.add(cb.and(branch.toArray(new Predicate[0])));
+        }
+
+        return cb.or(branches.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Lignes strictement après la valeur du curseur sur une clé de tri, null si aucune
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate buildStrictSeek(Root<E> root, CriteriaBuilder cb, SortCriteria sort, Object value, boolean nullable) {
+        Expression<Comparable> key = root.get(sort.key());
+        boolean descending = SortDirection.DESC.equals(sort.direction());
+
+        if (value == null) {
+            return descending && nullable ? cb.isNotNull(key) : null;
+        }
+        if (descending) {
+            return cb.lessThan(key, (Comparable) value);
+        }
+        Predicate greater = cb.greaterThan(key, (Comparable) value);
+        return nullable ? cb.or(greater, cb.isNull(key)) : greater;
+    }
+
     private Order buildOrder(Root<E> root, CriteriaBuilder cb, SortCriteria sort) {
-        if (SortDirection.DESC.equals(sort.direction())) {
+        boolean descending = SortDirection.DESC.equals(sort.direction());
+        if (keysetSorts != null && FilterMetadataExtractor.index(root.getJavaType()).isNullable(sort.key())) {
+            // Position des nulls explicite en keyset : le seek en dépend, quel que soit l'ordre par défaut de la base
+            NodeBuilder nodeBuilder = (NodeBuilder) cb;
+            return descending ? nodeBuilder.desc(root.get(sort.key()), true) : nodeBuilder.asc(root.get(sort.key()), false);
+        }
+        if (descending) {
             return cb.desc(root.get(sort.key()));
         } else {
             return cb.asc(root.get(sort.key()));
@@ -0,0 +1,69 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.specification;
+
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+/**
+ * Motifs LIKE des opérateurs textuels (CONTAINS, NOT_CONTAINS, STARTS_WITH, ENDS_WITH et full-text sans tsvector)
+ * <p>
+ * - La saisie est échappée : %, _ et \ sont cherchés tels quels, le motif ne dépend que de l'opérateur
+ *   (un préfixe saisi reste un préfixe, donc utilisable par un index)
+ * - La casse de la saisie est conservée : l'appelant la met en majuscules pour comparer à upper(champ),
+ *   ou la normalise pour comparer à un champ normalisé (NormalizedFields)
+ * - PostgreSQL : ILIKE sur la colonne elle-même, servi par un index GIN trigrammes (gin_trgm_ops)
+ *   quelle que soit la position du motif ; upper(champ) LIKE n'utiliserait qu'un index sur l'expression upper(champ)
+ */
+public final class LikePattern {
+
+    /**
+     * Caractère d'échappement déclaré dans la clause ESCAPE
+     */
+    public static final char ESCAPE = '\\';
+
+    private LikePattern() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    public static String contains(String value) {
+        return "%" + escape(value) + "%";
+    }
+
+    public static String startsWith(String value) {
+        return escape(value) + "%";
+    }
+
+    public static String endsWith(String value) {
+        return "%" + escape(value);
+    }
+
+    /**
+     * Bases comparant avec ILIKE plutôt qu'avec upper(champ) LIKE
+     *
+     * @param dialect Dialecte Hibernate de la base
+     * @return true pour PostgreSQL et CockroachDB
+     */
+    public static boolean supportsIlike(Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect;
+    }
+
+    /**
+     * Saisie dont les métacaractères LIKE sont échappés
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(value.length() + 4).append(value, 0, i);
+                }
+                escaped.append(ESCAPE);
+            }
+            if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.sql;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchShape;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Préfixe le SQL des recherches dynamiques d'un commentaire portant la forme de la recherche :
+ * <pre>
+ * /* dynamic-search shape=8b027d15 Product.search *&#47; select ...
+ * </pre>
+ * L'empreinte est celle du journal des recherches lentes et des traces (dynamic.search.shape) : elle permet de
+ * rapprocher une entrée de pg_stat_statements ou du journal PostgreSQL de la recherche qui l'a produite.
+ * pg_stat_statements ignorant les commentaires dans l'identifiant des requêtes, le texte conservé est celui
+ * de la première exécution, donc le commentaire de la première forme ayant produit ce SQL.
+ * <p>
+ * Le SQL exécuté hors d'une recherche dynamique n'est pas modifié.
+ */
+public class SearchShapeStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<ShapeComment> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Exécute une recherche dont le SQL sera commenté avec sa forme
+     *
+     * @param operation   Type d'opération (search, projection, stream)
+     * @param entityClass Classe de l'entité recherchée
+     * @param criteria    Critères de la recherche
+     * @param search      Exécution de la recherche
+     * @param <R>         Type du résultat
+     * @return Résultat de la recherche
+     */
+    public static <R> R tagged(String operation, Class<?> entityClass, SearchCriteria criteria, Supplier<R> search) {
+        ShapeComment previous = CURRENT.get();
+        CURRENT.set(new ShapeComment(operation, entityClass, criteria));
+        try {
+            return search.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        ShapeComment comment = CURRENT.get();
+        return comment == null ? sql : comment.get() + sql;
+    }
+
+    /**
+     * Commentaire d'une recherche, calculé au premier ordre SQL (aucun coût si la recherche n'atteint pas la base)
+     */
+    private static final class ShapeComment {
+        private final String operation;
+        private final Class<?> entityClass;
+        private final SearchCriteria criteria;
+        private String comment;
+
+        ShapeComment(String operation, Class<?> entityClass, SearchCriteria criteria) {
+            this.operation = operation;
+            this.entityClass = entityClass;
+            this.criteria = criteria;
+        }
+
+        String get() {
+            if (comment == null) {
+                String fingerprint = SearchShape.of(operation, entityClass, List.of(criteria)).fingerprint();
+                comment = "/* dynamic-search shape=" + fingerprint + " " + entityClass.getSimpleName() + "." + operation + " */ ";
+            }
+            return comment;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.template;
+
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.PostgresFullText;
+
+/**
+ * Entité interrogée par les requêtes compilées, avec ce que sa base permet - résolu une fois par entité
+ *
+ * @param entityName      Nom HQL de l'entité
+ * @param entityClass     Classe de l'entité
+ * @param idKey           Attribut identifiant (null pour un identifiant composé)
+ * @param arrayParameters true si une liste d'entiers est liée en un seul paramètre tableau
+ * @param ilike           true si les opérateurs textuels comparent avec ILIKE plutôt qu'avec upper(champ) LIKE
+ * @param fullText        Recherche full-text PostgreSQL (null : CONTAINS sur chaque champ STRING)
+ */
+public record JpaQueryTarget(String entityName, Class<?> entityClass, String idKey, boolean arrayParameters, boolean ilike,
+                             PostgresFullText fullText) {
+
+    public JpaQueryTarget {
+        // La colonne tsvector est qualifiée par l'identifiant de l'entité
+        if (idKey == null) {
+            fullText = null;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.template;
+
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterIndex;
+import io.github.cnadjim.dynamic.search.model.FilterValue;
+import io.github.cnadjim.dynamic.search.model.LongValueList;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import io.github.cnadjim.dynamic.search.spring.jpa.fulltext.PostgresFullText;
+import io.github.cnadjim.dynamic.search.spring.jpa.specification.LikePattern;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Requête HQL paramétrée compilée pour une forme de recherche : clés et opérateurs des filtres, variante des valeurs
+ * (date sans heure, liste IN en tableau), full-text, tris, sélection et curseur keyset.
+ * <p>
+ * Deux recherches de même forme produisent le même texte HQL : Hibernate réutilise son plan de requête et le SQL
+ * généré est identique, donc réutilisable par le cache de requêtes préparées. Seules les valeurs sont liées
+ * à chaque exécution (bind).
+ * <p>
+ * Les prédicats reproduisent ceux de GenericSpecification.
+ */
+@Slf4j
+public final class JpaQueryTemplate {
+
+    private static final String ALIAS = "e";
+
+    /**
+     * Requête de lecture (sélection, filtres, seek keyset et tri)
+     */
+    private final String select;
+
+    /**
+     * Requête COUNT sur les seuls filtres (ni seek, ni tri)
+     */
+    private final String count;
+
+    private final List<Slot> slots;
+
+    /**
+     * Nombre de paramètres de la requête COUNT : les premiers de slots (ceux du seek et du tri viennent ensuite)
+     */
+    private final int countParameters;
+
+    private JpaQueryTemplate(String select, String count, List<Slot> slots, int countParameters) {
+        this.select = select;
+        this.count = count;
+        this.slots = slots;
+        this.countParameters = countParameters;
+    }
+
+    public String select() {
+        return select;
+    }
+
+    public String count() {
+        return count;
+    }
+
+    /**
+     * Lie les valeurs d'une recherche de même forme aux paramètres de la requête de lecture
+     *
+     * @param query        Requête créée à partir de select()
+     * @param criteria     Critères de la recherche
+     * @param cursorValues Valeurs du curseur keyset décodé (null sans curseur)
+     * @param <Q>          Type de la requête
+     * @return La requête
+     */
+    public <Q extends Query> Q bind(Q query, SearchCriteria criteria, List<Object> cursorValues) {
+        for (Slot slot : slots) {
+            setParameter(query, slot.name(), slot.source() == Source.CURSOR ? cursorValues.get(slot.index()) : slot.value(criteria));
+        }
+        return query;
+    }
+
+    /**
+     * Lie les valeurs des filtres aux paramètres de la requête COUNT
+     *
+     * @param query    Requête créée à partir de count()
+     * @param criteria Critères de la recherche
+     * @param <Q>      Type de la requête
+     * @return La requête
+     */
+    public <Q extends Query> Q bindCount(Q query, SearchCriteria criteria) {
+        for (Slot slot : slots.subList(0, countParameters)) {
+            setParameter(query, slot.name(), slot.value(criteria));
+        }
+        return query;
+    }
+
+    /**
+     * Une date est liée avec son propre type, comme avec l'API Criteria : une valeur LocalDateTime
+     * reste comparable à un champ LocalDate (la conversion est faite par la base)
+     */
+    @SuppressWarnings("unchecked")
+    private static void setParameter(Query query, String name, Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            query.unwrap(org.hibernate.query.Query.class).setParameter(name, dateTime, LocalDateTime.class);
+        } else {
+            query.setParameter(name, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return select;
+    }
+
+    /**
+     * Forme d'une recherche, identifiant sa requête compilée
+     * Chaque élément influant sur le texte HQL y figure, aucune valeur n'y figure
+     *
+     * @param criteria        Critères de la recherche
+     * @param sorts           Tris effectifs (tris keyset avec départage en pagination keyset)
+     * @param cursorValues    Valeurs du curseur keyset décodé (null sans curseur)
+     * @param columns         Colonnes sélectionnées (null pour l'entité complète)
+     * @param arrayParameters true si une liste d'entiers est liée en un seul paramètre tableau
+     * @return La forme, sous forme textuelle compacte
+     */
+    static String shape(SearchCriteria criteria, List<SortCriteria> sorts, List<Object> cursorValues,
+                        List<String> columns, boolean arrayParameters) {
+        StringBuilder shape = new StringBuilder(64);
+        shape.append(columns == null ? "*" : String.join(",", columns)).append('|');
+
+        for (FilterCriteria filter : criteria.filters()) {
+            shape.append(filter.key()).append(':').append(filter.operator().ordinal()).append(':').append(variant(filter, arrayParameters)).append(';');
+        }
+
+        shape.append('|').append(criteria.hasFullTextSearch() ? 'T' : '-').append('|');
+
+        for (SortCriteria sort : sorts) {
+            shape.append(sort.key()).append(SortDirection.DESC.equals(sort.direction()) ? '-' : '+').append(';');
+        }
+
+        // En keyset, la position des nulls des clés nullable est explicite dans le tri
+        shape.append(criteria.page().isKeyset() ? 'K' : 'O');
+
+        if (cursorValues != null) {
+            // Une valeur de curseur nulle change la structure du seek
+            shape.append('|');
+            for (Object value : cursorValues) {
+                shape.append(value == null ? '0' : '1');
+            }
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Variante d'un filtre dans la forme : ce qui, au-delà de la clé et de l'opérateur, détermine son prédicat
+     */
+    private static String variant(FilterCriteria filter, boolean arrayParameters) {
+        return switch (filter.operator()) {
+            case EQUALS -> isWholeDay(filter.value()) ? "day" : "";
+            case LESS_THAN, GREATER_THAN, BETWEEN -> isComparable(filter.fieldType()) ? "" : "none";
+            // La liste est liée à un seul paramètre (key in (:pN)) : sa taille ne change pas le texte HQL
+            case IN, NOT_IN -> isArray(filter, arrayParameters) ? "array" : "";
+            default -> "";
+        };
+    }
+
+    /**
+     * Vérifie que chaque clé de filtre, de tri et de colonne est un champ searchable de l'entité
+     * (ou son identifiant, départage des tris keyset)
+     *
+     * @throws IllegalArgumentException pour la première clé inconnue
+     */
+    static void checkKeys(JpaQueryTarget target, SearchCriteria criteria, List<SortCriteria> sorts, List<String> columns) {
+        FilterIndex filterIndex = FilterMetadataExtractor.index(target.entityClass());
+        for (FilterCriteria filter : criteria.filters()) {
+            checkKey(target, filterIndex, filter.key());
+        }
+        for (SortCriteria sort : sorts) {
+            checkKey(target, filterIndex, sort.key());
+        }
+        if (columns != null) {
+            for (String column : columns) {
+                checkKey(target, filterIndex, column);
+            }
+        }
+    }
+
+    private static void checkKey(JpaQueryTarget target, FilterIndex filterIndex, String key) {
+        if (!filterIndex.contains(key) && !key.equals(target.idKey())) {
+            throw new IllegalArgumentException("Unknown key " + key + " for " + target.entityClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Compile la requête d'une forme de recherche
+     *
+     * @param target       Entité interrogée
+     * @param criteria     Critères d'une recherche de cette forme
+     * @param sorts        Tris effectifs
+     * @param cursorValues Valeurs du curseur keyset décodé (null sans curseur)
+     * @param columns      Colonnes sélectionnées (null pour l'entité complète)
+     * @return La requête compilée
+     */
+    static JpaQueryTemplate compile(JpaQueryTarget target, SearchCriteria criteria, List<SortCriteria> sorts,
+                                    List<Object> cursorValues, List<String> columns) {
+        List<Slot> slots = new ArrayList<>();
+        List<String> predicates = new ArrayList<>();
+
+        List<FilterCriteria> filters = criteria.filters();
+        for (int index = 0; index < filters.size(); index++) {
+            String predicate = filterPredicate(filters.get(index), index, target, slots);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (criteria.hasFullTextSearch()) {
+            String predicate = fullTextPredicate(target, slots);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        String from = " from " + target.entityName() + " " + ALIAS;
+        String where = predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+        String count = "select count(" + ALIAS + ")" + from + where;
+        int countParameters = slots.size();
+
+        FilterIndex filterIndex = FilterMetadataExtractor.index(target.entityClass());
+        if (cursorValues != null) {
+            predicates.add(seekPredicate(sorts, cursorValues, filterIndex, slots));
+            where = " where " + String.join(" and ", predicates);
+        }
+
+        String selection = columns == null
+                ? ALIAS
+                : String.join(", ", columns.stream().map(JpaQueryTemplate::path).toList());
+        String orderBy = orderBy(sorts, criteria.page().isKeyset() ? filterIndex : null);
+        if (sorts.isEmpty() && criteria.hasFullTextSearch() && target.fullText() != null && target.fullText().ranking()) {
+            // Sans tri demandé, tri par pertinence de la recherche full-text PostgreSQL
+            orderBy = " order by " + target.fullText().rankHql(path(target.idKey()), parameter(slots, -1, Source.TEXT_QUERY)) + " desc";
+        }
+        String select = "select " + selection + from + where + orderBy;
+
+        return new JpaQueryTemplate(select, count, List.copyOf(slots), countParameters);
+    }
+
+    private static String filterPredicate(FilterCriteria filter, int index, JpaQueryTarget target, List<Slot> slots) {
+        String shadowKey = NormalizedFields.of(target.entityClass()).shadowKey(filter.key(), filter.operator());
+        if (shadowKey != null) {
+            return normalizedPredicate(filter, index, path(shadowKey), slots);
+        }
+
+        String key = path(filter.key());
+        boolean arrayParameters = target.arrayParameters();
+
+        return switch (filter.operator()) {
+            case EQUALS -> {
+                if (isWholeDay(filter.value())) {
+                    // Date sans heure : toute la journée, de 00:00:00 à 23:59:59.999999999
+                    yield key + " >= " + parameter(slots, index, Source.VALUE) + " and " + key + " <= " + parameter(slots, index, Source.END_OF_DAY);
+                }
+                yield key + " = " + parameter(slots, index, Source.VALUE);
+            }
+            case NOT_EQUALS -> key + " <> " + parameter(slots, index, Source.VALUE);
+            case LESS_THAN -> isComparable(filter) ? key + " < " + parameter(slots, index, Source.VALUE) : null;
+            case GREATER_THAN -> isComparable(filter) ? key + " > " + parameter(slots, index, Source.VALUE) : null;
+            case BETWEEN -> isComparable(filter)
+                    ? key + " >= " + parameter(slots, index, Source.VALUE) + " and " + key + " <= " + parameter(slots, index, Source.VALUE_TO)
+                    : null;
+            case CONTAINS -> like(target, key, false, parameter(slots, index, Source.CONTAINS));
+            case NOT_CONTAINS -> like(target, key, true, parameter(slots, index, Source.CONTAINS));
+            case STARTS_WITH -> like(target, key, false, parameter(slots, index, Source.STARTS_WITH));
+            case ENDS_WITH -> like(target, key, false, parameter(slots, index, Source.ENDS_WITH));
+            case IN -> membership(filter, index, arrayParameters, slots);
+            case NOT_IN -> "not (" + membership(filter, index, arrayParameters, slots) + ")";
+            case BLANK -> "(" + key + " is null or length(" + key + ") = 0)";
+            case NOT_BLANK -> "(" + key + " is not null and length(" + key + ") > 0)";
+        };
+    }
+
+    /**
+     * Filtre textuel sur le champ normalisé, comparé tel quel à la saisie normalisée (comme GenericSpecification)
+     */
+    private static String normalizedPredicate(FilterCriteria filter, int index, String shadow, List<Slot> slots) {
+        String escape = " escape '" + LikePattern.ESCAPE + "'";
+        return switch (filter.operator()) {
+            case EQUALS -> shadow + " = " + parameter(slots, index, Source.NORMALIZED);
+            case NOT_EQUALS -> shadow + " <> " + parameter(slots, index, Source.NORMALIZED);
+            case IN -> shadow + " in (" + parameter(slots, index, Source.NORMALIZED_LIST) + ")";
+            case NOT_IN -> "not (" + shadow + " in (" + parameter(slots, index, Source.NORMALIZED_LIST) + "))";
+            case CONTAINS -> shadow + " like " + parameter(slots, index, Source.NORMALIZED_CONTAINS) + escape;
+            case NOT_CONTAINS -> shadow + " not like " + parameter(slots, index, Source.NORMALIZED_CONTAINS) + escape;
+            case STARTS_WITH -> shadow + " like " + parameter(slots, index, Source.NORMALIZED_STARTS_WITH) + escape;
+            case ENDS_WITH -> shadow + " like " + parameter(slots, index, Source.NORMALIZED_ENDS_WITH) + escape;
+            default -> throw new IllegalStateException("Operator not supported on normalized field: " + filter.operator());
+        };
+    }
+
+    /**
+     * Les comparaisons d'ordre sont réservées aux champs DATE et NUMBER (ignorées pour les autres types, comme GenericSpecification)
+     */
+    private static boolean isComparable(FilterCriteria filter) {
+        if (isComparable(filter.fieldType())) {
+            return true;
+        }
+        log.warn("{} operator not supported for {} field type", filter.operator(), filter.fieldType());
+        return false;
+    }
+
+    private static String membership(FilterCriteria filter, int index, boolean arrayParameters, List<Slot> slots) {
+        String key = path(filter.key());
+        if (isArray(filter, arrayParameters)) {
+            // Le cast typé booléen est retiré par la base : le prédicat reste key = any(?), utilisable par un index
+            return "cast(sql('(? = any(?))', " + key + ", " + parameter(slots, index, Source.LONGS) + ") as Boolean) = true";
+        }
+        return key + " in (" + parameter(slots, index, Source.LIST) + ")";
+    }
+
+    /**
+     * Colonne tsvector sur PostgreSQL, sinon OR de CONTAINS insensibles à la casse sur les champs STRING searchable
+     */
+    private static String fullTextPredicate(JpaQueryTarget target, List<Slot> slots) {
+        PostgresFullText fullText = target.fullText();
+        if (fullText != null) {
+            return fullText.matchHql(path(target.idKey()), parameter(slots, -1, Source.TEXT_QUERY));
+        }
+
+        List<String> keys = FilterMetadataExtractor.index(target.entityClass()).stringFieldKeys();
+        if (keys.isEmpty()) {
+            log.warn("No searchable STRING fields found for full-text search on entity: {}", target.entityClass().getSimpleName());
+            return null;
+        }
+        String pattern = parameter(slots, -1, Source.FULL_TEXT);
+        return "(" + String.join(" or ", keys.stream().map(key -> like(target, path(key), false, pattern)).toList()) + ")";
+    }
+
+    /**
+     * Comparaison insensible à la casse à un motif de LikePattern, comme GenericSpecification :
+     * ILIKE sur la colonne elle-même si la base le permet (index trigrammes), sinon upper(champ) LIKE
+     */
+    private static String like(JpaQueryTarget target, String key, boolean negated, String pattern) {
+        String operator = (negated ? " not " : " ") + (target.ilike() ? "ilike " : "like ");
+        return (target.ilike() ? key : "upper(" + key + ")") + operator + pattern + " escape '" + LikePattern.ESCAPE + "'";
+    }
+
+    /**
+     * Seek keyset : (k1 > c0) or (k1 = c0 and k2 > c1) or ..., le sens suivant la direction de chaque tri
+     * Les clés nullable sont triées nulls en dernier en ASC, en premier en DESC (voir orderBy) :
+     * - ASC, valeur non nulle : (k > c or k is null) ; valeur nulle : aucune ligne stricte après, branche omise
+     * - DESC, valeur non nulle : k < c ; valeur nulle : k is not null
+     */
+    private static String seekPredicate(List<SortCriteria> sorts, List<Object> cursorValues, FilterIndex filterIndex, List<Slot> slots) {
+        List<String> cursorParameters = new ArrayList<>(sorts.size());
+        for (int i = 0; i < sorts.size(); i++) {
+            cursorParameters.add(cursorValues.get(i) == null ? null : parameter(slots, i, Source.CURSOR));
+        }
+
+        List<String> branches = new ArrayList<>();
+        for (int i = 0; i < sorts.size(); i++) {
+            String strict = strictSeek(sorts.get(i), cursorParameters.get(i), filterIndex.isNullable(sorts.get(i).key()));
+            if (strict == null) {
+                continue;
+            }
+            List<String> branch = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                String previousKey = path(sorts.get(j).key());
+                branch.add(cursorParameters.get(j) == null ? previousKey + " is null" : previousKey + " = " + cursorParameters.get(j));
+            }
+            branch.add(strict);
+            branches.add("(" + String.join(" and ", branch) + ")");
+        }
+
+        return branches.isEmpty() ? "1 = 0" : "(" + String.join(" or ", branches) + ")";
+    }
+
+    /**
+     * Lignes strictement après le paramètre du curseur sur une clé de tri (null pour une valeur nulle), null si aucune
+     */
+    private static String strictSeek(SortCriteria sort, String cursorParameter, boolean nullable) {
+        String key = path(sort.key());
+        boolean descending = SortDirection.DESC.equals(sort.direction());
+
+        if (cursorParameter == null) {
+            return descending && nullable ? key + " is not null" : null;
+        }
+        if (descending) {
+            return key + " < " + cursorParameter;
+        }
+        return nullable ? "(" + key + " > " + cursorParameter + " or " + key + " is null)" : key + " > " + cursorParameter;
+    }
+
+    /**
+     * @param filterIndex Index des filtres en pagination keyset, pour expliciter la position des nulls des clés nullable
+     *                    (null en pagination par décalage : ordre par défaut de la base)
+     */
+    private static String orderBy(List<SortCriteria> sorts, FilterIndex filterIndex) {
+        if (sorts.isEmpty()) {
+            return "";
+        }
+        return " order by " + String.join(", ", sorts.stream()
+                .map(sort -> {
+                    boolean descending = SortDirection.DESC.equals(sort.direction());
+                    String order = path(sort.key()) + (descending ? " desc" : " asc");
+                    if (filterIndex != null && filterIndex.isNullable(sort.key())) {
+                        order += descending ? " nulls first" : " nulls last";
+                    }
+                    return order;
+                })
+                .toList());
+    }
+
+    private static String path(String key) {
+        return ALIAS + "." + key;
+    }
+
+    private static String parameter(List<Slot> slots, int index, Source source) {
+        String name = "p" + slots.size();
+        slots.add(new Slot(name, index, source));
+        return ":" + name;
+    }
+
+    private static boolean isWholeDay(FilterValue value) {
+        return value instanceof FilterValue.DateTimeValue date && date.wholeDay();
+    }
+
+    private static boolean isComparable(FieldType fieldType) {
+        return fieldType == FieldType.DATE || fieldType == FieldType.NUMBER;
+    }
+
+    private static boolean isArray(FilterCriteria filter, boolean arrayParameters) {
+        return arrayParameters && filter.values() instanceof LongValueList;
+    }
+
+    /**
+     * Taille de liste IN arrondie à la puissance de deux supérieure, comme GenericSpecification
+     */
+    private static int paddedSize(int size) {
+        return size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Origine de la valeur d'un paramètre
+     */
+    private enum Source {
+        VALUE,
+        VALUE_TO,
+        END_OF_DAY,
+        CONTAINS,
+        STARTS_WITH,
+        ENDS_WITH,
+        LONGS,
+        LIST,
+        NORMALIZED,
+        NORMALIZED_CONTAINS,
+        NORMALIZED_STARTS_WITH,
+        NORMALIZED_ENDS_WITH,
+        NORMALIZED_LIST,
+        FULL_TEXT,
+        TEXT_QUERY,
+        CURSOR
+    }
+
+    /**
+     * Paramètre nommé de la requête
+     *
+     * @param name   Nom du paramètre
+     * @param index  Index du filtre (ou de la valeur du curseur pour CURSOR)
+     * @param source Origine de la valeur
+     */
+    private record Slot(String name, int index, Source source) {
+
+        Object value(SearchCriteria criteria) {
+            if (source == Source.FULL_TEXT) {
+                return LikePattern.contains(criteria.fullText().query().toUpperCase(Locale.ROOT));
+            }
+            if (source == Source.TEXT_QUERY) {
+                return criteria.fullText().query();
+            }
+
+            FilterCriteria filter = criteria.filters().get(index);
+            return switch (source) {
+                case VALUE -> filter.value().object();
+                case VALUE_TO -> filter.valueTo().object();
+                case END_OF_DAY -> ((FilterValue.DateTimeValue) filter.value()).value().plusDays(1).minusNanos(1);
+                case CONTAINS -> LikePattern.contains(filter.value().text().toUpperCase(Locale.ROOT));
+                case STARTS_WITH -> LikePattern.startsWith(filter.value().text().toUpperCase(Locale.ROOT));
+                case ENDS_WITH -> LikePattern.endsWith(filter.value().text().toUpperCase(Locale.ROOT));
+                case LONGS -> ((LongValueList) filter.values()).longs();
+                case LIST -> padded(filter.values(), FilterValue::object);
+                case NORMALIZED -> NormalizedFields.normalize(filter.value().text());
+                case NORMALIZED_CONTAINS -> LikePattern.contains(NormalizedFields.normalize(filter.value().text()));
+                case NORMALIZED_STARTS_WITH -> LikePattern.startsWith(NormalizedFields.normalize(filter.value().text()));
+                case NORMALIZED_ENDS_WITH -> LikePattern.endsWith(NormalizedFields.normalize(filter.value().text()));
+                case NORMALIZED_LIST -> padded(filter.values(), value -> NormalizedFields.normalize(value.text()));
+                default -> throw new IllegalStateException("Unexpected parameter source: " + source);
+            };
+        }
+
+        /**
+         * Valeurs de la liste IN complétées en répétant la dernière, pour que la taille ne change qu'aux puissances de deux
+         */
+        private static List<Object> padded(List<FilterValue> values, Function<FilterValue, Object> mapper) {
+            Object[] padded = new Object[paddedSize(values.size())];
+            for (int i = 0; i < padded.length; i++) {
+                padded[i] = mapper.apply(values.get(Math.min(i, values.size() - 1)));
+            }
+            return Arrays.asList(padded);
+        }
+    }
+}
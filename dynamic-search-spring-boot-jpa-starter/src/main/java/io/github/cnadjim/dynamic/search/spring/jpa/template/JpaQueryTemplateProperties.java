@@ -0,0 +1,31 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.template;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration du cache des requêtes HQL compilées par forme de recherche (préfixe dynamic-search.jpa.query-templates)
+ *
+ * <pre>
+ * dynamic-search:
+ *   jpa:
+ *     query-templates:
+ *       enabled: true
+ *       maximum-size: 1000
+ * </pre>
+ *
+ * @param enabled     Active les requêtes compilées (activé par défaut, sinon chaque recherche passe par l'API Criteria)
+ * @param maximumSize Nombre maximal de formes conservées, toutes entités confondues
+ */
+@ConfigurationProperties("dynamic-search.jpa.query-templates")
+public record JpaQueryTemplateProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") long maximumSize
+) {
+
+    public JpaQueryTemplateProperties {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be positive or zero");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+
+import java.util.List;
+
+/**
+ * Cache borné des requêtes HQL compilées, indexé par entité et forme de recherche
+ * <p>
+ * Une forme n'est compilée qu'à sa première recherche ; les suivantes ne font que lier leurs valeurs.
+ * Le nombre de formes d'une application étant limité (écrans, API), la borne n'évince en pratique
+ * que des formes construites à la volée (listes IN de tailles très variées sans tableau, combinaisons rares).
+ */
+public class JpaQueryTemplates {
+
+    private final Cache<TemplateKey, JpaQueryTemplate> cache;
+
+    public JpaQueryTemplates(JpaQueryTemplateProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .build();
+    }
+
+    /**
+     * Retourne la requête compilée de la forme de la recherche, en la compilant à la première demande
+     *
+     * @param target       Entité interrogée
+     * @param criteria     Critères de la recherche
+     * @param sorts        Tris effectifs (tris keyset avec départage en pagination keyset)
+     * @param cursorValues Valeurs du curseur keyset décodé (null sans curseur)
+     * @param columns      Colonnes sélectionnées (null pour l'entité complète)
+     * @return La requête compilée
+     * @throws IllegalArgumentException si une clé de filtre, de tri ou de colonne n'est pas un champ searchable de l'entité
+     */
+    public JpaQueryTemplate template(JpaQueryTarget target, SearchCriteria criteria, List<SortCriteria> sorts,
+                                     List<Object> cursorValues, List<String> columns) {
+        // Les clés sont écrites telles quelles dans le HQL et dans la clé du cache : seules les clés connues y entrent
+        JpaQueryTemplate.checkKeys(target, criteria, sorts, columns);
+        TemplateKey key = new TemplateKey(target.entityClass(), JpaQueryTemplate.shape(criteria, sorts, cursorValues, columns, target.arrayParameters()));
+        return cache.get(key, ignored -> JpaQueryTemplate.compile(target, criteria, sorts, cursorValues, columns));
+    }
+
+    /**
+     * Nombre de formes actuellement conservées
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record TemplateKey(Class<?> entityClass, String shape) {
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.cnadjim.dynamic.search.spring.jpa.sql;
+
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterOperator;
+import io.github.cnadjim.dynamic.search.model.PageCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchShape;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.port.stub.InMemoryEntityDescriptorStorage;
+import io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Commentaire de forme ajouté au SQL des recherches, rapproché de l'étiquette dynamic.search.shape des traces
+ */
+class SearchShapeStatementInspectorTest {
+
+    private static final String SQL = "select p1_0.id,p1_0.name from product p1_0 where p1_0.name=?";
+
+    private final SearchShapeStatementInspector inspector = new SearchShapeStatementInspector();
+
+    @Test
+    void shouldPrefixSqlWithTheShapeOfTheTracedSearch() {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        SearchMetrics searchMetrics = ObservationSearchMetrics.decorate(null, observationRegistry, new InMemoryEntityDescriptorStorage());
+        SearchCriteria criteria = criteria();
+
+        String inspected = searchMetrics.timeSearch("search", Product.class, List.of(criteria),
+                () -> SearchShapeStatementInspector.tagged("search", Product.class, criteria, () -> inspector.inspect(SQL)));
+
+        String fingerprint = SearchShape.of("search", Product.class, List.of(criteria)).fingerprint();
+        assertThat(inspected).isEqualTo("/* dynamic-search shape=" + fingerprint + " Product.search */ " + SQL);
+        assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo(ObservationSearchMetrics.EXECUTION_OBSERVATION).that()
+                .hasHighCardinalityKeyValue(ObservationSearchMetrics.SHAPE_KEY, fingerprint);
+    }
+
+    @Test
+    void shouldLeaveSqlOutsideSearchesUntouched() {
+        SearchShapeStatementInspector.tagged("search", Product.class, criteria(), () -> inspector.inspect(SQL));
+
+        assertThat(inspector.inspect(SQL)).isEqualTo(SQL);
+    }
+
+    private static SearchCriteria criteria() {
+        return SearchCriteria.builder()
+                .filters(List.of(FilterCriteria.builder()
+                        .key("name")
+                        .operator(FilterOperator.EQUALS)
+                        .fieldType(FieldType.STRING)
+                        .value("laptop")
+                        .build()))
+                .pageCriteria(new PageCriteria(0, 10))
+                .build();
+    }
+
+    static class Product {
+    }
+}
@@ -1,21 +1,43 @@
 package io.github.cnadjim.dynamic.search.spring.mongo.adapter;
 
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.CountResult;
+import io.github.cnadjim.dynamic.search.model.FacetBucket;
+import io.github.cnadjim.dynamic.search.model.FacetCriteria;
+import io.github.cnadjim.dynamic.search.model.FacetResult;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
 import io.github.cnadjim.dynamic.search.spring.mongo.criteria.MongoCriteriaBuilder;
 import io.github.cnadjim.dynamic.search.spring.starter.mapper.PageToSearchResultMapper;
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
+import io.github.cnadjim.dynamic.search.spring.starter.util.KeysetCursorCodec;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.CriteriaDefinition;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adaptateur de Repository générique pour MongoDB
@@ -32,16 +54,46 @@ public class MongoEntityRepositoryAdapter<T> implements EntityRepository<T> {
     private final MongoTemplate mongoTemplate;
     private final Class<T> entityClass;
 
+    /**
+     * Nom de la propriété identifiant, utilisée comme départage de la pagination keyset (peut être null)
+     */
+    private final String idKey;
+
+    /**
+     * Mesures des phases de recherche (SearchMetrics.none() : pas de mesure)
+     */
+    private final SearchMetrics searchMetrics;
+
     public MongoEntityRepositoryAdapter(MongoTemplate mongoTemplate, Class<T> entityClass) {
+        this(mongoTemplate, entityClass, null);
+    }
+
+    public MongoEntityRepositoryAdapter(MongoTemplate mongoTemplate, Class<T> entityClass, SearchMetrics searchMetrics) {
         this.mongoTemplate = mongoTemplate;
         this.entityClass = entityClass;
+        this.idKey = resolveIdKey(mongoTemplate, entityClass);
+        this.searchMetrics = SearchMetrics.orNone(searchMetrics);
+    }
+
+    @Override
+    public String backend() {
+        return "mongo";
     }
 
     @Override
     public SearchResult<T> findByCriteria(SearchCriteria criteria) {
+        SearchResult<T> result = findPage(criteria);
+        return criteria.hasFacets() ? result.withFacets(countFacets(criteria)) : result;
+    }
+
+    private SearchResult<T> findPage(SearchCriteria criteria) {
+        if (criteria.page().isKeyset()) {
+            return findByKeyset(criteria);
+        }
+
         // Création de la Query MongoDB à partir des critères du domaine
         // Utilise la version avec entityClass pour supporter la recherche full-text
-        Query query = MongoCriteriaBuilder.buildQuery(criteria, entityClass);
+        Query query = buildQuery(criteria);
 
         // Création du tri Spring Data depuis les critères de tri du domaine
         Sort sort = createSort(criteria.sorts());
@@ -52,11 +104,16 @@ public class MongoEntityRepositoryAdapter<T> implements EntityRepository<T> {
         // Application de la pagination à la query
         query.with(pageable);
 
+        if (criteria.page().countMode() != CountMode.EXACT) {
+            return findSlice(criteria, query, pageable);
+        }
+
         // Exécution de la requête MongoDB
-        List<T> content = mongoTemplate.find(query, entityClass);
+        List<T> content = searchMetrics.timePhase(SearchPhase.FETCH, entityClass, () -> mongoTemplate.find(query, entityClass));
 
         // Compte total pour la pagination
-        long total = mongoTemplate.count(Query.of(query).limit(-1).skip(-1), entityClass);
+        long total = searchMetrics.timePhase(SearchPhase.COUNT, entityClass,
+                () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), entityClass));
 
         // Création de la Page
         Page<T> page = PageableExecutionUtils.getPage(content, pageable, () -> total);
@@ -65,7 +122,214 @@ public class MongoEntityRepositoryAdapter<T> implements EntityRepository<T> {
         return PageToSearchResultMapper.toSearchResult(page);
     }
 
-    private Sort createSort(List<io.github.cnadjim.dynamic.search.model.SortCriteria> sortCriteria) {
+    /**
+     * Lecture de size + 1 documents sans comptage complet, le total provient de la stratégie de comptage demandée
+     */
+    private SearchResult<T> findSlice(SearchCriteria criteria, Query query, Pageable pageable) {
+        List<T> rows = searchMetrics.timePhase(SearchPhase.FETCH, entityClass,
+                () -> mongoTemplate.find(Query.of(query).limit(pageable.getPageSize() + 1), entityClass));
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return PageToSearchResultMapper.toSearchResult(new SliceImpl<>(content, pageable, hasNext), count(criteria));
+    }
+
+    /**
+     * Compte les documents correspondant aux filtres selon la stratégie demandée
+     * - CAPPED : count avec limit, le serveur s'arrête dès que la limite est atteinte
+     * - ESTIMATED : métadonnées de la collection (estimatedDocumentCount) sans filtre, repli sur CAPPED sinon
+     * - NONE : aucun comptage
+     */
+    private CountResult count(SearchCriteria criteria) {
+        return searchMetrics.timePhase(SearchPhase.COUNT, entityClass, () -> countTotal(criteria));
+    }
+
+    private CountResult countTotal(SearchCriteria criteria) {
+        int limit = criteria.page().effectiveCountLimit();
+
+        return switch (criteria.page().countMode()) {
+            case EXACT -> CountResult.exact(mongoTemplate.count(MongoCriteriaBuilder.buildQuery(criteria, entityClass), entityClass));
+            case ESTIMATED -> criteria.filters().isEmpty() && !criteria.hasFullTextSearch()
+                    ? CountResult.estimated(mongoTemplate.estimatedCount(entityClass))
+                    : countCapped(criteria, limit);
+            case CAPPED -> countCapped(criteria, limit);
+            case NONE -> CountResult.none();
+        };
+    }
+
+    private CountResult countCapped(SearchCriteria criteria, int limit) {
+        long count = mongoTemplate.count(MongoCriteriaBuilder.buildQuery(criteria, entityClass).limit(limit + 1), entityClass);
+        return count > limit ? CountResult.capped(limit) : CountResult.exact(count);
+    }
+
+    /**
+     * Pagination keyset : le curseur est traduit en critère de seek, la requête ne lit que size + 1 documents
+     * sans skip, son coût est donc identique quelle que soit la profondeur de la page
+     */
+    private SearchResult<T> findByKeyset(SearchCriteria criteria) {
+        List<SortCriteria> keysetSorts = KeysetCursorCodec.withTieBreaker(criteria.sorts(), idKey);
+        int pageSize = Objects.requireNonNullElse(criteria.page().size(), 100);
+
+        Query query = buildKeysetQuery(criteria, keysetSorts)
+                .with(createSort(keysetSorts))
+                .limit(pageSize + 1);
+
+        List<T> rows = searchMetrics.timePhase(SearchPhase.FETCH, entityClass, () -> mongoTemplate.find(query, entityClass));
+
+        // Le total ne dépend pas du curseur : seuls les filtres sont appliqués
+        return PageToSearchResultMapper.toKeysetSearchResult(rows, criteria.page(), count(criteria), keysetSorts);
+    }
+
+    /**
+     * Projection : seules les propriétés demandées sont transférées par le serveur (fields().include).
+     * En pagination keyset, les clés de tri sont ajoutées à la projection pour construire le curseur.
+     */
+    @Override
+    public SearchResult<Map<String, Object>> findProjectionByCriteria(SearchCriteria criteria) {
+        SearchResult<Map<String, Object>> result = findProjectionPage(criteria);
+        return criteria.hasFacets() ? result.withFacets(countFacets(criteria)) : result;
+    }
+
+    private SearchResult<Map<String, Object>> findProjectionPage(SearchCriteria criteria) {
+        boolean keyset = criteria.page().isKeyset();
+        List<SortCriteria> keysetSorts = keyset ? KeysetCursorCodec.withTieBreaker(criteria.sorts(), idKey) : null;
+
+        Set<String> columns = new LinkedHashSet<>(criteria.fields());
+        if (keyset) {
+            keysetSorts.forEach(sort -> columns.add(sort.key()));
+        }
+
+        Pageable pageable = createPageable(criteria.page().number(), criteria.page().size(), createSort(keyset ? keysetSorts : criteria.sorts()));
+
+        Query query = keyset
+                ? buildKeysetQuery(criteria, keysetSorts).with(pageable.getSort())
+                : buildQuery(criteria).with(pageable);
+        query.limit(pageable.getPageSize() + 1);
+        query.fields().include(columns.toArray(String[]::new));
+
+        List<Map<String, Object>> rows = searchMetrics.timePhase(SearchPhase.FETCH, entityClass, () -> mongoTemplate.find(query, entityClass))
+                .stream()
+                .map(document -> EntityFieldReader.toMap(document, columns))
+                .collect(Collectors.toList());
+
+        if (keyset) {
+            return PageToSearchResultMapper.toKeysetSearchResult(rows, criteria.page(), count(criteria), keysetSorts);
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return PageToSearchResultMapper.toSearchResult(new SliceImpl<>(content, pageable, hasNext), count(criteria));
+    }
+
+    /**
+     * Calcule toutes les facettes en un seul aller-retour : $match sur les filtres courants
+     * puis un pipeline $facet contenant une branche $group / $sort / $limit par facette
+     */
+    private List<FacetResult> countFacets(SearchCriteria criteria) {
+        return searchMetrics.timePhase(SearchPhase.FACETS, entityClass, () -> aggregateFacets(criteria));
+    }
+
+    private List<FacetResult> aggregateFacets(SearchCriteria criteria) {
+        Document filter = MongoCriteriaBuilder.buildQuery(criteria, entityClass).getQueryObject();
+        List<FacetCriteria> facets = criteria.facets();
+
+        List<AggregationOperation> operations = new ArrayList<>();
+        if (!filter.isEmpty()) {
+            operations.add(match(filter));
+        }
+
+        FacetOperation facetOperation = null;
+        for (int index = 0; index < facets.size(); index++) {
+            FacetCriteria facet = facets.get(index);
+            AggregationOperation[] branch = {
+                    Aggregation.group(facet.key()).count().as("count"),
+                    Aggregation.sort(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id"))),
+                    Aggregation.limit(facet.effectiveSize())
+            };
+            // Les clés de facette peuvent contenir des points, interdits dans les noms de sortie de $facet
+            facetOperation = (facetOperation == null ? Aggregation.facet(branch) : facetOperation.and(branch)).as("f" + index);
+        }
+        operations.add(facetOperation);
+
+        Document output = mongoTemplate.aggregate(Aggregation.newAggregation(entityClass, operations), Document.class)
+                .getUniqueMappedResult();
+
+        List<FacetResult> results = new ArrayList<>();
+        for (int index = 0; index < facets.size(); index++) {
+            List<FacetBucket> buckets = output == null ? List.of() : output.getList("f" + index, Document.class, List.of())
+                    .stream()
+                    .map(bucket -> new FacetBucket(bucket.get("_id"), ((Number) bucket.get("count")).longValue()))
+                    .toList();
+            results.add(new FacetResult(facets.get(index).key(), buckets));
+        }
+        return results;
+    }
+
+    /**
+     * Étape $match à partir d'un filtre déjà construit par MongoCriteriaBuilder
+     */
+    private static AggregationOperation match(Document filter) {
+        return Aggregation.match(new CriteriaDefinition() {
+            @Override
+            public Document getCriteriaObject() {
+                return filter;
+            }
+
+            @Override
+            public String getKey() {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Parcours par curseur MongoDB : les documents sont lus par lots de batchSize, la mémoire reste constante
+     * quel que soit le nombre de résultats. Le curseur est fermé avec le flux.
+     */
+    @Override
+    public Stream<T> streamByCriteria(SearchCriteria criteria) {
+        int batchSize = Objects.requireNonNullElse(criteria.page().size(), 100);
+
+        Query query = buildQuery(criteria)
+                .with(createSort(criteria.sorts()))
+                .cursorBatchSize(batchSize);
+
+        return mongoTemplate.stream(query, entityClass);
+    }
+
+    /**
+     * Traduction des critères en Query MongoDB (phase QUERY)
+     */
+    private Query buildQuery(SearchCriteria criteria) {
+        return reported(searchMetrics.timePhase(SearchPhase.QUERY, entityClass, () -> MongoCriteriaBuilder.buildQuery(criteria, entityClass)));
+    }
+
+    /**
+     * Traduction des critères en Query MongoDB positionnée après le curseur keyset (phase QUERY)
+     */
+    private Query buildKeysetQuery(SearchCriteria criteria, List<SortCriteria> keysetSorts) {
+        return reported(searchMetrics.timePhase(SearchPhase.QUERY, entityClass,
+                () -> MongoCriteriaBuilder.buildKeysetQuery(criteria, entityClass, keysetSorts)));
+    }
+
+    /**
+     * Signale la requête aux mesures ; son rendu, tri et limite inclus, n'a lieu que si elle est exploitée (recherche lente)
+     */
+    private Query reported(Query query) {
+        searchMetrics.nativeQuery(query::toString);
+        return query;
+    }
+
+    private static String resolveIdKey(MongoTemplate mongoTemplate, Class<?> entityClass) {
+        MongoPersistentEntity<?> persistentEntity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(entityClass);
+        return persistentEntity != null && persistentEntity.getIdProperty() != null
+                ? persistentEntity.getIdProperty().getName()
+                : null;
+    }
+
+    private Sort createSort(List<SortCriteria> sortCriteria) {
         if (sortCriteria == null || sortCriteria.isEmpty()) {
             return Sort.unsorted();
         }
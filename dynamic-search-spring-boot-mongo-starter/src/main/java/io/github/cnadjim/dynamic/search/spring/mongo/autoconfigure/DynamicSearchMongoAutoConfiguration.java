@@ -1,9 +1,12 @@
 package io.github.cnadjim.dynamic.search.spring.mongo.autoconfigure;
 
+import io.github.cnadjim.dynamic.search.spring.mongo.callback.NormalizedFieldsMongoCallback;
 import io.github.cnadjim.dynamic.search.spring.mongo.config.SearchableMongoBeanRegistrar;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -19,6 +22,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * 1. Annoter votre document avec @EnableSearchable
  * 2. Annoter les champs filtrables avec @Searchable
  * 3. Les beans SearchUseCase<T> et GetAvailableFiltersUseCase<T> sont créés automatiquement
+ *
+ * Les champs normalisés (@Searchable(normalizedField)) sont recopiés à chaque écriture par NormalizedFieldsMongoCallback
  */
 @Slf4j
 @AutoConfiguration
@@ -30,4 +35,15 @@ public class DynamicSearchMongoAutoConfiguration {
         log.info("✅ DynamicSearchMongoAutoConfiguration activated - Ready to scan @EnableSearchable documents");
     }
 
+    /**
+     * Crée le callback maintenant les champs normalisés des documents
+     *
+     * @return Callback d'écriture MongoDB
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public NormalizedFieldsMongoCallback normalizedFieldsMongoCallback() {
+        return new NormalizedFieldsMongoCallback();
+    }
+
 }
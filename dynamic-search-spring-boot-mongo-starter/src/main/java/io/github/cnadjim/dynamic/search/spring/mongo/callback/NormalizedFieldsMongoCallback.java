@@ -0,0 +1,25 @@
+package io.github.cnadjim.dynamic.search.spring.mongo.callback;
+
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
+import org.springframework.core.Ordered;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+
+/**
+ * Callback MongoDB maintenant les champs normalisés déclarés par @Searchable(normalizedField)
+ * Appelé avant la conversion de chaque document écrit par MongoTemplate (save, insert) : le document
+ * enregistré porte toujours la valeur normalisée de son champ d'origine
+ */
+public class NormalizedFieldsMongoCallback implements BeforeConvertCallback<Object>, Ordered {
+
+    @Override
+    public Object onBeforeConvert(Object entity, String collection) {
+        NormalizedFields.of(entity.getClass()).apply(entity);
+        return entity;
+    }
+
+    @Override
+    public int getOrder() {
+        // Après les callbacks de l'application, qui peuvent encore modifier le champ d'origine
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -1,12 +1,18 @@
 package io.github.cnadjim.dynamic.search.spring.mongo.criteria;
 
 import io.github.cnadjim.dynamic.search.metadata.FilterMetadataExtractor;
-import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.metadata.NormalizedFields;
 import io.github.cnadjim.dynamic.search.model.FilterCriteria;
-import io.github.cnadjim.dynamic.search.model.FilterDescriptor;
+import io.github.cnadjim.dynamic.search.model.FilterIndex;
+import io.github.cnadjim.dynamic.search.model.FilterValue;
+import io.github.cnadjim.dynamic.search.model.LongValueList;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
-import io.github.cnadjim.dynamic.search.spring.starter.util.FieldTypeParser;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import io.github.cnadjim.dynamic.search.spring.starter.util.KeysetCursorCodec;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.BasicQuery;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
@@ -32,11 +38,12 @@ public final class MongoCriteriaBuilder {
      */
     public static Query buildQuery(SearchCriteria searchCriteria, Class<?> entityClass) {
         Query query = new Query();
+        NormalizedFields normalizedFields = NormalizedFields.of(entityClass);
 
-        // Application des filtres standards
+        // Application des filtres standards (filtres textuels des champs normalisés sur leur champ normalisé)
         for (FilterCriteria filter : searchCriteria.filters()) {
-            log.info("Filter: {} {} {}", filter.key(), filter.operator(), filter.value());
-            Criteria criteria = buildCriteria(filter);
+            String shadowKey = normalizedFields.shadowKey(filter.key(), filter.operator());
+            Criteria criteria = shadowKey != null ? buildNormalizedCriteria(filter, shadowKey) : buildCriteria(filter);
             if (criteria != null) {
                 query.addCriteria(criteria);
             }
@@ -44,7 +51,6 @@ public final class MongoCriteriaBuilder {
 
         // Application de la recherche full-text si présente
         if (searchCriteria.hasFullTextSearch()) {
-            log.info("Full-text search: {}", searchCriteria.fullText().query());
             Criteria fullTextCriteria = buildFullTextCriteria(searchCriteria.fullText().query(), entityClass);
             if (fullTextCriteria != null) {
                 query.addCriteria(fullTextCriteria);
@@ -54,27 +60,94 @@ public final class MongoCriteriaBuilder {
         return query;
     }
 
+    /**
+     * Construit une Query MongoDB pour la pagination keyset
+     * Ajoute aux filtres le critère de seek dérivé du curseur de la page précédente
+     *
+     * @param searchCriteria Critères de recherche
+     * @param entityClass    Classe de l'entité pour extraire les champs searchable
+     * @param keysetSorts    Tris effectifs, identifiant de départage inclus
+     */
+    public static Query buildKeysetQuery(SearchCriteria searchCriteria, Class<?> entityClass, List<SortCriteria> keysetSorts) {
+        Query query = buildQuery(searchCriteria, entityClass);
+
+        if (!searchCriteria.page().hasCursor()) {
+            return query;
+        }
+
+        List<Object> cursorValues = KeysetCursorCodec.decode(searchCriteria.page().cursor(), entityClass, keysetSorts);
+        Document seekDocument = buildSeekCriteria(keysetSorts, cursorValues, FilterMetadataExtractor.index(entityClass)).getCriteriaObject();
+        Document filterDocument = query.getQueryObject();
+
+        // Un critère $or peut déjà exister (full-text) : filtres et seek sont combinés dans un $and
+        return new BasicQuery(filterDocument.isEmpty()
+                ? seekDocument
+                : new Document("$and", List.of(filterDocument, seekDocument)));
+    }
+
+    /**
+     * Construit le critère de seek : (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...
+     * Le sens de comparaison de chaque clé suit la direction de son tri.
+     * MongoDB trie null (et les champs absents) avant toute autre valeur, et $gt / $lt ne les sélectionnent jamais :
+     * - ASC, valeur non nulle : k > v ; valeur nulle : k != null
+     * - DESC, valeur non nulle : k < v OR k = null (clé nullable) ; valeur nulle : aucune ligne stricte après, branche omise
+     */
+    private static Criteria buildSeekCriteria(List<SortCriteria> keysetSorts, List<Object> cursorValues, FilterIndex filterIndex) {
+        List<Criteria> branches = new ArrayList<>();
+
+        for (int i = 0; i < keysetSorts.size(); i++) {
+            Criteria strict = buildStrictSeek(keysetSorts.get(i), cursorValues.get(i), filterIndex.isNullable(keysetSorts.get(i).key()));
+            if (strict == null) {
+                continue;
+            }
+
+            List<Criteria> branch = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                branch.add(Criteria.where(keysetSorts.get(j).key()).is(cursorValues.get(j)));
+            }
+            branch.add(strict);
+
+            branches.add(new Criteria().andOperator(branch));
+        }
+
+        return branches.isEmpty()
+                ? Criteria.where("_id").exists(false)
+                : new Criteria().orOperator(branches);
+    }
+
+    /**
+     * Documents strictement après la valeur du curseur sur une clé de tri, null si aucun
+     */
+    private static Criteria buildStrictSeek(SortCriteria sort, Object value, boolean nullable) {
+        String key = sort.key();
+        boolean descending = SortDirection.DESC.equals(sort.direction());
+
+        if (value == null) {
+            return descending ? null : Criteria.where(key).ne(null);
+        }
+        if (!descending) {
+            return Criteria.where(key).gt(value);
+        }
+        return nullable
+                ? new Criteria().orOperator(Criteria.where(key).lt(value), Criteria.where(key).is(null))
+                : Criteria.where(key).lt(value);
+    }
+
     /**
      * Construit un critère full-text qui cherche dans tous les champs STRING searchable
      * Utilise un OR entre tous les champs avec une recherche REGEX case-insensitive
      */
     private static Criteria buildFullTextCriteria(String searchQuery, Class<?> entityClass) {
-        // Extraire les métadonnées des champs searchable
-        List<FilterDescriptor> searchableFields = FilterMetadataExtractor.extractFilters(entityClass);
-
-        // Filtrer uniquement les champs de type STRING (les seuls où on peut faire du full-text)
-        List<String> stringFields = searchableFields.stream()
-                .filter(field -> field.fieldType() == FieldType.STRING)
-                .map(FilterDescriptor::key)
-                .toList();
+        // Champs STRING searchable (les seuls où on peut faire du full-text), issus de l'index compilé
+        List<String> stringFields = FilterMetadataExtractor.index(entityClass).stringFieldKeys();
 
         if (stringFields.isEmpty()) {
             log.warn("No searchable STRING fields found for full-text search on entity: {}", entityClass.getSimpleName());
             return null;
         }
 
-        // Construire un regex case-insensitive pour la recherche
-        String regex = ".*" + searchQuery + ".*";
+        // Regex case-insensitive non ancrée : la saisie est échappée, cherchée telle quelle
+        String regex = quote(searchQuery);
 
         // Créer un critère OR sur tous les champs STRING
         List<Criteria> fieldCriteria = new ArrayList<>();
@@ -109,25 +182,58 @@ public final class MongoCriteriaBuilder {
         };
     }
 
-    private static Criteria buildEquals(FilterCriteria filter) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
+    /**
+     * Filtre textuel sur le champ normalisé (@Searchable(normalizedField)) : la saisie normalisée est comparée
+     * sans option "i", donc par l'index du champ pour l'égalité, $in et l'expression régulière de préfixe (^...)
+     */
+    private static Criteria buildNormalizedCriteria(FilterCriteria filter, String shadowKey) {
+        return switch (filter.operator()) {
+            case EQUALS -> Criteria.where(shadowKey).is(normalized(filter));
+            case NOT_EQUALS -> Criteria.where(shadowKey).ne(normalized(filter));
+            case IN -> Criteria.where(shadowKey).in(normalizedValues(filter));
+            case NOT_IN -> Criteria.where(shadowKey).nin(normalizedValues(filter));
+            case CONTAINS -> Criteria.where(shadowKey).regex(quote(normalized(filter)));
+            case NOT_CONTAINS -> Criteria.where(shadowKey).not().regex(quote(normalized(filter)));
+            case STARTS_WITH -> Criteria.where(shadowKey).regex("^" + quote(normalized(filter)));
+            case ENDS_WITH -> Criteria.where(shadowKey).regex(quote(normalized(filter)) + "$");
+            default -> throw new IllegalStateException("Operator not supported on normalized field: " + filter.operator());
+        };
+    }
 
-        // Si c'est un champ DATE et que la valeur fournie est une date sans heure (format yyyy-MM-dd),
-        // on transforme automatiquement en BETWEEN pour matcher toute la journée
-        if (filter.fieldType() == FieldType.DATE && isDateWithoutTime(filter.value().toString())) {
-            return buildDateRangeForWholeDay(filter, (LocalDateTime) value);
-        }
+    private static String normalized(FilterCriteria filter) {
+        return NormalizedFields.normalize(filter.value().text());
+    }
 
-        return Criteria.where(filter.key()).is(value);
+    private static List<String> normalizedValues(FilterCriteria filter) {
+        return filter.values().stream()
+                .map(value -> NormalizedFields.normalize(value.text()))
+                .toList();
     }
 
     /**
-     * Vérifie si la chaîne de date est au format date seule (yyyy-MM-dd) sans heure
+     * Échappe les métacaractères d'expression régulière : la saisie est cherchée telle quelle
+     * (échappement caractère par caractère plutôt que \Q...\E, que MongoDB ne reconnaît pas comme préfixe indexable)
      */
-    private static boolean isDateWithoutTime(String dateString) {
-        // Format date seule : yyyy-MM-dd (10 caractères)
-        // Format avec heure : yyyy-MM-ddTHH:mm:ss (au moins 19 caractères)
-        return dateString != null && dateString.length() == 10 && dateString.matches("\\d{4}-\\d{2}-\\d{2}");
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                quoted.append('\\');
+            }
+            quoted.append(c);
+        }
+        return quoted.toString();
+    }
+
+    private static Criteria buildEquals(FilterCriteria filter) {
+        // Si la valeur fournie est une date sans heure (format yyyy-MM-dd),
+        // on transforme automatiquement en BETWEEN pour matcher toute la journée
+        if (filter.value() instanceof FilterValue.DateTimeValue date && date.wholeDay()) {
+            return buildDateRangeForWholeDay(filter, date.value());
+        }
+
+        return Criteria.where(filter.key()).is(filter.value().object());
     }
 
     /**
@@ -144,59 +250,56 @@ public final class MongoCriteriaBuilder {
     }
 
     private static Criteria buildNotEquals(FilterCriteria filter) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-        return Criteria.where(filter.key()).ne(value);
+        return Criteria.where(filter.key()).ne(filter.value().object());
     }
 
     private static Criteria buildLessThan(FilterCriteria filter) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-        return Criteria.where(filter.key()).lt(value);
+        return Criteria.where(filter.key()).lt(filter.value().object());
     }
 
     private static Criteria buildGreaterThan(FilterCriteria filter) {
-        Object value = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-        return Criteria.where(filter.key()).gt(value);
+        return Criteria.where(filter.key()).gt(filter.value().object());
     }
 
     private static Criteria buildContains(FilterCriteria filter) {
-        // MongoDB regex pour recherche case insensitive
-        String regex = ".*" + filter.value().toString() + ".*";
-        return Criteria.where(filter.key()).regex(regex, "i");
+        // MongoDB regex non ancrée pour recherche case insensitive, saisie échappée
+        return Criteria.where(filter.key()).regex(quote(filter.value().text()), "i");
     }
 
     private static Criteria buildNotContains(FilterCriteria filter) {
-        String regex = ".*" + filter.value().toString() + ".*";
-        return Criteria.where(filter.key()).not().regex(regex, "i");
+        return Criteria.where(filter.key()).not().regex(quote(filter.value().text()), "i");
     }
 
     private static Criteria buildStartsWith(FilterCriteria filter) {
-        String regex = "^" + filter.value().toString() + ".*";
-        return Criteria.where(filter.key()).regex(regex, "i");
+        return Criteria.where(filter.key()).regex("^" + quote(filter.value().text()), "i");
     }
 
     private static Criteria buildEndsWith(FilterCriteria filter) {
-        String regex = ".*" + filter.value().toString() + "$";
-        return Criteria.where(filter.key()).regex(regex, "i");
+        return Criteria.where(filter.key()).regex(quote(filter.value().text()) + "$", "i");
     }
 
     private static Criteria buildIn(FilterCriteria filter) {
-        List<Object> values = filter.values().stream()
-                .map(value -> FieldTypeParser.parse(filter.fieldType(), value.toString()))
-                .toList();
-        return Criteria.where(filter.key()).in(values);
+        return Criteria.where(filter.key()).in(inValues(filter));
     }
 
     private static Criteria buildNotIn(FilterCriteria filter) {
-        List<Object> values = filter.values().stream()
-                .map(value -> FieldTypeParser.parse(filter.fieldType(), value.toString()))
+        return Criteria.where(filter.key()).nin(inValues(filter));
+    }
+
+    /**
+     * Valeurs de $in / $nin : une liste d'entiers est encodée directement depuis son long[], sans liste intermédiaire
+     */
+    private static List<?> inValues(FilterCriteria filter) {
+        if (filter.values() instanceof LongValueList longs) {
+            return longs.boxed();
+        }
+        return filter.values().stream()
+                .map(FilterValue::object)
                 .toList();
-        return Criteria.where(filter.key()).nin(values);
     }
 
     private static Criteria buildBetween(FilterCriteria filter) {
-        Object start = FieldTypeParser.parse(filter.fieldType(), filter.value().toString());
-        Object end = FieldTypeParser.parse(filter.fieldType(), filter.valueTo().toString());
-        return Criteria.where(filter.key()).gte(start).lte(end);
+        return Criteria.where(filter.key()).gte(filter.value().object()).lte(filter.valueTo().object());
     }
 
     private static Criteria buildBlank(FilterCriteria filter) {
@@ -1,25 +1,29 @@
 package io.github.cnadjim.dynamic.search.spring.mongo.processor;
 
-import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
 import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
 import io.github.cnadjim.dynamic.search.port.in.RegisterEntityUseCase;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
 import io.github.cnadjim.dynamic.search.spring.mongo.adapter.MongoEntityRepositoryAdapter;
+import io.github.cnadjim.dynamic.search.spring.starter.discovery.SearchableTypeDiscovery;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationListener;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.context.event.ContextRefreshedEvent;
-import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Processor responsable de scanner les documents MongoDB annotés @EnableSearchable
+ * Processor responsable de découvrir les documents MongoDB annotés @EnableSearchable
  * et de les enregistrer auprès du SearchService unique.
  * <p>
+ * Les documents sont lus dans le MappingContext MongoDB (entités initiales détectées par Spring Boot,
+ * aucun scan du classpath), complété par la découverte partagée SearchableTypeDiscovery
+ * (index de compilation ou packages de l'application).
+ * <p>
  * Utilise ApplicationListener<ContextRefreshedEvent> pour enregistrer les documents
  * après que tous les beans soient créés et disponibles.
  * <p>
@@ -30,11 +34,16 @@ public class SearchableMongoDocumentRegistrationProcessor implements Application
 
     private final RegisterEntityUseCase registerEntityUseCase;
     private final MongoTemplate mongoTemplate;
+    private final SearchableTypeDiscovery searchableTypeDiscovery;
+    private final SearchMetrics searchMetrics;
     private final AtomicBoolean registered = new AtomicBoolean(false);
 
-    public SearchableMongoDocumentRegistrationProcessor(RegisterEntityUseCase registerEntityUseCase, MongoTemplate mongoTemplate) {
+    public SearchableMongoDocumentRegistrationProcessor(RegisterEntityUseCase registerEntityUseCase, MongoTemplate mongoTemplate, SearchableTypeDiscovery searchableTypeDiscovery,
+                                                        ObjectProvider<SearchMetrics> searchMetrics) {
         this.registerEntityUseCase = registerEntityUseCase;
         this.mongoTemplate = mongoTemplate;
+        this.searchableTypeDiscovery = searchableTypeDiscovery;
+        this.searchMetrics = searchMetrics.getIfAvailable();
     }
 
     @Override
@@ -44,93 +53,37 @@ public class SearchableMongoDocumentRegistrationProcessor implements Application
             return;
         }
 
-        log.info("🔍 Scanning for @EnableSearchable MongoDB documents...");
-
-        // Scanner le classpath complet pour trouver les classes annotées @Document et @EnableSearchable
-        ClassPathScanningCandidateComponentProvider scanner = createScanner();
-
-        // Obtenir le package de base depuis le contexte (racine de l'application)
-        String basePackage = getBasePackage(event);
-        log.debug("Scanning base package: {}", basePackage);
+        log.info("🔍 Discovering @EnableSearchable MongoDB documents...");
 
-        // Scanner en partant du package de base
-        Set<BeanDefinition> candidates = scanner.findCandidateComponents(basePackage);
+        // Documents connus du MappingContext, puis ceux de la découverte partagée
+        Set<Class<?>> documentClasses = SearchableTypeDiscovery.searchable(mongoTemplate.getConverter().getMappingContext().getPersistentEntities().stream()
+                .<Class<?>>map(MongoPersistentEntity::getType)
+                .toList());
+        documentClasses.addAll(searchableTypeDiscovery.searchableTypes(Document.class));
 
         int registeredCount = 0;
-        for (BeanDefinition candidate : candidates) {
+        for (Class<?> documentClass : documentClasses) {
             try {
-                Class<?> documentClass = Class.forName(candidate.getBeanClassName());
-
-                // Vérifier que la classe a bien les deux annotations
-                if (documentClass.isAnnotationPresent(Document.class) &&
-                        documentClass.isAnnotationPresent(EnableSearchable.class)) {
-
-                    log.info("✅ Registering @EnableSearchable MongoDB document: {}", documentClass.getSimpleName());
-                    registerDocument(documentClass);
-                    registeredCount++;
-                }
-            } catch (ClassNotFoundException e) {
-                log.warn("Failed to load class: {}", candidate.getBeanClassName(), e);
+                log.info("✅ Registering @EnableSearchable MongoDB document: {}", documentClass.getSimpleName());
+                registerDocument(documentClass);
+                registeredCount++;
             } catch (Exception e) {
-                log.error("Failed to register document: {}", candidate.getBeanClassName(), e);
+                log.error("Failed to register document: {}", documentClass.getName(), e);
             }
         }
 
         log.info("📊 Successfully registered {} @EnableSearchable MongoDB documents", registeredCount);
     }
 
-    /**
-     * Crée un scanner configuré pour trouver les classes annotées @Document et @EnableSearchable
-     */
-    private ClassPathScanningCandidateComponentProvider createScanner() {
-        ClassPathScanningCandidateComponentProvider scanner =
-                new ClassPathScanningCandidateComponentProvider(false);
-
-        // Scanner les classes avec @Document ET @EnableSearchable
-        scanner.addIncludeFilter(new AnnotationTypeFilter(Document.class));
-        scanner.addIncludeFilter(new AnnotationTypeFilter(EnableSearchable.class));
-
-        return scanner;
-    }
-
     /**
      * Enregistre un document MongoDB auprès du SearchService
      * Crée un adaptateur MongoDB spécifique pour ce document
      */
     private <T> void registerDocument(Class<T> documentClass) {
         // Créer l'adaptateur
-        EntityRepository<T> repositoryAdapter = new MongoEntityRepositoryAdapter<>(mongoTemplate, documentClass);
+        EntityRepository<T> repositoryAdapter = new MongoEntityRepositoryAdapter<>(mongoTemplate, documentClass, searchMetrics);
 
         // Enregistrer le document auprès du SearchService
         registerEntityUseCase.registerEntity(documentClass, repositoryAdapter);
     }
-
-    /**
-     * Obtient le package de base de l'application depuis le contexte Spring
-     */
-    private String getBasePackage(ContextRefreshedEvent event) {
-        try {
-            // Récupérer le nom de la classe principale de l'application
-            String[] beanNames = event.getApplicationContext().getBeanDefinitionNames();
-            for (String beanName : beanNames) {
-                if (beanName.toLowerCase().contains("application")) {
-                    Object bean = event.getApplicationContext().getBean(beanName);
-                    String packageName = bean.getClass().getPackage().getName();
-                    // Remonter au package racine (ex: io.github.cnadjim)
-                    int firstDot = packageName.indexOf('.');
-                    if (firstDot > 0) {
-                        int secondDot = packageName.indexOf('.', firstDot + 1);
-                        if (secondDot > 0) {
-                            return packageName.substring(0, secondDot);
-                        }
-                    }
-                    return packageName;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Could not determine base package from context, using 'io'", e);
-        }
-        // Par défaut, scanner depuis "io" (package standard pour les projets Java)
-        return "io";
-    }
 }
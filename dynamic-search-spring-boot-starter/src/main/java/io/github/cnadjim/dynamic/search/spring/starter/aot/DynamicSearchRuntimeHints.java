@@ -0,0 +1,81 @@
+package io.github.cnadjim.dynamic.search.spring.starter.aot;
+
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadata;
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.FacetBucket;
+import io.github.cnadjim.dynamic.search.model.FacetResult;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterDescriptor;
+import io.github.cnadjim.dynamic.search.model.FilterOperator;
+import io.github.cnadjim.dynamic.search.model.GlobalSearchHit;
+import io.github.cnadjim.dynamic.search.model.GlobalSearchResult;
+import io.github.cnadjim.dynamic.search.model.SearchResult;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import io.github.cnadjim.dynamic.search.spring.starter.request.FacetRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.FilterRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.FullTextRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.GlobalSearchRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.PageRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.SortRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.response.CountModeResponse;
+import io.github.cnadjim.dynamic.search.spring.starter.response.FieldTypeResponse;
+import io.github.cnadjim.dynamic.search.spring.starter.response.FilterDescriptorResponse;
+import io.github.cnadjim.dynamic.search.spring.starter.response.FilterOperatorResponse;
+import io.github.cnadjim.dynamic.search.spring.starter.response.PageModeResponse;
+import io.github.cnadjim.dynamic.search.spring.starter.response.SortDirectionResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Hints GraalVM native-image des types exposés en REST
+ * <p>
+ * Les DTOs de requête / réponse, les énumérations Jackson (@JsonCreator / @JsonValue)
+ * et les résultats du domaine sont (dé)sérialisés par réflexion : leurs constructeurs,
+ * champs et accesseurs sont enregistrés via BindingReflectionHintsRegistrar.
+ * Les hints propres aux entités sont contribués par SearchableTypesAotProcessor.
+ */
+public class DynamicSearchRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] BINDING_TYPES = {
+            // Requêtes
+            SearchRequest.class,
+            FilterRequest.class,
+            SortRequest.class,
+            PageRequest.class,
+            FullTextRequest.class,
+            FacetRequest.class,
+            GlobalSearchRequest.class,
+            // Réponses et énumérations Jackson
+            FilterDescriptorResponse.class,
+            FilterOperatorResponse.class,
+            FieldTypeResponse.class,
+            SortDirectionResponse.class,
+            PageModeResponse.class,
+            CountModeResponse.class,
+            // Résultats du domaine retournés tels quels par les contrôleurs
+            SearchResult.class,
+            SortCriteria.class,
+            SortDirection.class,
+            CountMode.class,
+            FacetResult.class,
+            FacetBucket.class,
+            GlobalSearchResult.class,
+            GlobalSearchHit.class,
+            FilterDescriptor.class,
+            FieldType.class,
+            FilterOperator.class
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), BINDING_TYPES);
+
+        // Index des classes @EnableSearchable écrit à la compilation
+        hints.resources().registerPattern(FilterMetadata.INDEX_RESOURCE);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.cnadjim.dynamic.search.spring.starter.aot;
+
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadata;
+import io.github.cnadjim.dynamic.search.spring.starter.discovery.SearchableTypeDiscovery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Précalcule à la compilation AOT la découverte des classes @EnableSearchable
+ * <p>
+ * - écrit l'index des classes découvertes dans les ressources générées : au démarrage natif,
+ *   SearchableTypeDiscovery le lit au lieu de scanner le classpath (impossible dans une image native)
+ * - enregistre les hints de réflexion nécessaires à l'extraction des filtres et à la lecture des champs
+ *   (champs déclarés de l'entité et de ses superclasses, classe _SearchableFilters générée)
+ * <p>
+ * Partagé par tous les starters : les adaptateurs JPA, MongoDB et Elasticsearch ne font pas d'autre réflexion.
+ */
+@Slf4j
+public class SearchableTypesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> searchableTypes = new SearchableTypeDiscovery(beanFactory.getBeanClassLoader(), basePackages(beanFactory))
+                .searchableTypes();
+
+        if (searchableTypes.isEmpty()) {
+            return null;
+        }
+
+        return (generationContext, beanFactoryInitializationCode) -> contribute(generationContext, searchableTypes, beanFactory.getBeanClassLoader());
+    }
+
+    private void contribute(GenerationContext generationContext, Set<Class<?>> searchableTypes, ClassLoader classLoader) {
+        ReflectionHints reflection = generationContext.getRuntimeHints().reflection();
+
+        for (Class<?> type : searchableTypes) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                reflection.registerType(current, MemberCategory.DECLARED_FIELDS);
+            }
+
+            String generatedName = FilterMetadata.generatedClassName(type.getName());
+            if (ClassUtils.isPresent(generatedName, classLoader)) {
+                reflection.registerType(ClassUtils.resolveClassName(generatedName, classLoader), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+
+        String index = searchableTypes.stream()
+                .map(Class::getName)
+                .sorted()
+                .collect(Collectors.joining("\n", "", "\n"));
+        generationContext.getGeneratedFiles().addResourceFile(FilterMetadata.INDEX_RESOURCE, index);
+
+        log.info("Contributed AOT index and reflection hints for {} @EnableSearchable classes", searchableTypes.size());
+    }
+
+    /**
+     * Mêmes packages que le bean SearchableTypeDiscovery : dynamic-search.discovery.base-packages,
+     * à défaut les packages de l'application
+     */
+    private List<String> basePackages(ConfigurableListableBeanFactory beanFactory) {
+        List<String> configured = beanFactory.containsBean("environment")
+                ? Binder.get(beanFactory.getBean(Environment.class))
+                        .bind("dynamic-search.discovery.base-packages", Bindable.listOf(String.class))
+                        .orElse(List.of())
+                : List.of();
+
+        if (configured.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            return AutoConfigurationPackages.get(beanFactory);
+        }
+        return configured;
+    }
+}
@@ -1,24 +1,51 @@
 package io.github.cnadjim.dynamic.search.spring.starter.autoconfigure;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.cnadjim.dynamic.search.port.in.GetAvailableFiltersUseCase;
 import io.github.cnadjim.dynamic.search.port.in.GetFieldTypeUseCase;
 import io.github.cnadjim.dynamic.search.port.in.SearchUseCase;
 import io.github.cnadjim.dynamic.search.port.out.EntityDescriptorStorage;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.port.out.SearchResultCache;
 import io.github.cnadjim.dynamic.search.port.stub.InMemoryEntityDescriptorStorage;
 import io.github.cnadjim.dynamic.search.service.SearchService;
+import io.github.cnadjim.dynamic.search.spring.starter.aot.DynamicSearchRuntimeHints;
+import io.github.cnadjim.dynamic.search.spring.starter.cache.CaffeineSearchResultCache;
+import io.github.cnadjim.dynamic.search.spring.starter.cache.SearchCacheProperties;
+import io.github.cnadjim.dynamic.search.spring.starter.discovery.SearchDiscoveryProperties;
+import io.github.cnadjim.dynamic.search.spring.starter.discovery.SearchableTypeDiscovery;
 import io.github.cnadjim.dynamic.search.spring.starter.gateway.DefaultSearchGateway;
 import io.github.cnadjim.dynamic.search.spring.starter.gateway.SearchGateway;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Auto-configuration pour le SearchGateway et SearchService
  *
  * Crée automatiquement les beans nécessaires pour la recherche dynamique :
  * - EntityDescriptorStorage : Stockage en mémoire des métadonnées des entités
+ * - SearchableTypeDiscovery : Découverte des classes @EnableSearchable partagée par les starters
+ * - SearchResultCache : Cache des résultats (si dynamic-search.cache.enabled=true et Caffeine présent)
+ * - SearchMetrics : Mesures Micrometer (si un MeterRegistry est présent, voir SearchMetricsAutoConfiguration)
+ * - dynamicSearchExecutor : Exécuteur des recherches asynchrones (threads virtuels)
  * - SearchService : Service unique qui gère toutes les entités enregistrées
  * - SearchGateway : Façade REST pour les opérations de recherche
  *
@@ -46,6 +73,8 @@ import org.springframework.context.annotation.Bean;
  */
 @Slf4j
 @AutoConfiguration
+@EnableConfigurationProperties({SearchCacheProperties.class, SearchDiscoveryProperties.class})
+@ImportRuntimeHints(DynamicSearchRuntimeHints.class)
 public class SearchGatewayAutoConfiguration {
 
     public SearchGatewayAutoConfiguration() {
@@ -63,18 +92,62 @@ public class SearchGatewayAutoConfiguration {
         return new InMemoryEntityDescriptorStorage();
     }
 
+    /**
+     * Crée le bean SearchableTypeDiscovery
+     * Sans packages configurés, scanne les packages de l'application (ceux de @SpringBootApplication)
+     * lorsque l'index de compilation est absent
+     *
+     * @param properties  Configuration dynamic-search.discovery
+     * @param beanFactory Fabrique de beans, pour les packages de l'application
+     * @return SearchableTypeDiscovery partagé par les starters
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SearchableTypeDiscovery searchableTypeDiscovery(SearchDiscoveryProperties properties, BeanFactory beanFactory) {
+        List<String> basePackages = properties.basePackages();
+        if (basePackages.isEmpty() && AutoConfigurationPackages.has(beanFactory)) {
+            basePackages = AutoConfigurationPackages.get(beanFactory);
+        }
+        log.debug("Creating SearchableTypeDiscovery bean (basePackages={})", basePackages);
+        return new SearchableTypeDiscovery(beanFactory instanceof ConfigurableBeanFactory configurable ? configurable.getBeanClassLoader() : null, basePackages);
+    }
+
+    /**
+     * Crée l'exécuteur des recherches asynchrones : un thread virtuel par recherche
+     * Les threads bloqués sur les I/O du backend ne consomment pas de thread plateforme
+     * Remplaçable en déclarant un bean nommé dynamicSearchExecutor
+     *
+     * @return ExecutorService à threads virtuels, fermé avec le contexte
+     */
+    @Bean(name = "dynamicSearchExecutor")
+    @ConditionalOnMissingBean(name = "dynamicSearchExecutor")
+    public ExecutorService dynamicSearchExecutor() {
+        log.debug("Creating virtual thread dynamicSearchExecutor bean");
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dynamic-search-", 0).factory());
+    }
+
     /**
      * Crée le bean SearchService unique
      * Ce service gère toutes les entités enregistrées via registerEntity()
      *
      * @param descriptorStorage Le storage des descripteurs d'entités
+     * @param searchResultCache Le cache des résultats, s'il est configuré
+     * @param dynamicSearchExecutor L'exécuteur des recherches asynchrones
+     * @param searchMetrics Les mesures des recherches, si un MeterRegistry est présent
      * @return SearchService configuré
      */
     @Bean
     @ConditionalOnMissingBean
-    public SearchService searchService(EntityDescriptorStorage descriptorStorage) {
+    public SearchService searchService(EntityDescriptorStorage descriptorStorage,
+                                       ObjectProvider<SearchResultCache> searchResultCache,
+                                       @Qualifier("dynamicSearchExecutor") Executor dynamicSearchExecutor,
+                                       ObjectProvider<SearchMetrics> searchMetrics) {
         log.debug("Creating SearchService bean");
-        return new SearchService(descriptorStorage);
+        return SearchService.builder(descriptorStorage)
+                .searchResultCache(searchResultCache.getIfAvailable())
+                .searchExecutor(dynamicSearchExecutor)
+                .searchMetrics(searchMetrics.getIfAvailable())
+                .build();
     }
 
     /**
@@ -86,8 +159,31 @@ public class SearchGatewayAutoConfiguration {
     @ConditionalOnMissingBean
     public SearchGateway searchGateway(SearchUseCase searchUseCase,
                                        GetAvailableFiltersUseCase getAvailableFiltersUseCase,
-                                       GetFieldTypeUseCase getFieldTypeUseCase) {
+                                       GetFieldTypeUseCase getFieldTypeUseCase,
+                                       ObjectProvider<SearchMetrics> searchMetrics) {
         log.debug("Creating SearchGateway bean");
-        return new DefaultSearchGateway(searchUseCase, getAvailableFiltersUseCase, getFieldTypeUseCase);
+        return new DefaultSearchGateway(searchUseCase, getAvailableFiltersUseCase, getFieldTypeUseCase, searchMetrics.getIfAvailable());
+    }
+
+    /**
+     * Cache des résultats basé sur Caffeine, dépendance optionnelle du starter
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Caffeine.class)
+    static class CaffeineCacheConfiguration {
+
+        /**
+         * Crée le bean SearchResultCache lorsque le cache est activé
+         *
+         * @param properties Configuration dynamic-search.cache
+         * @return SearchResultCache basé sur Caffeine
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "dynamic-search.cache", name = "enabled", havingValue = "true")
+        public SearchResultCache searchResultCache(SearchCacheProperties properties) {
+            log.debug("Creating SearchResultCache bean (maximumSize={}, defaultTtl={})", properties.maximumSize(), properties.defaultTtl());
+            return new CaffeineSearchResultCache(properties);
+        }
     }
 }
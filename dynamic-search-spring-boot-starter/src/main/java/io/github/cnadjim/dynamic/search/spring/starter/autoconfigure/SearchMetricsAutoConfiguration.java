@@ -0,0 +1,33 @@
+package io.github.cnadjim.dynamic.search.spring.starter.autoconfigure;
+
+import io.github.cnadjim.dynamic.search.spring.starter.slowlog.SlowSearchLogProperties;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Auto-configuration des mesures des recherches
+ *
+ * - Mesures Micrometer dès qu'un MeterRegistry est présent (Spring Boot Actuator par exemple) :
+ *   le SearchService, le SearchGateway et les adaptateurs mesurent alors chaque recherche et chacune de ses phases.
+ * - Traces dès qu'un ObservationRegistry est présent (micrometer-tracing par exemple) : une observation par requête,
+ *   par recherche et par phase, avec les requêtes natives attachées.
+ * - Journal des recherches lentes (dynamic-search.slow-log), avec ou sans Micrometer.
+ * Sans registre et avec le journal désactivé, aucune mesure n'est effectuée.
+ * Les configurations sont importées par ordre de priorité, la première applicable crée le bean SearchMetrics.
+ */
+@AutoConfiguration(
+        after = SearchGatewayAutoConfiguration.class,
+        afterName = {
+                "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+                "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+                "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration"
+        })
+@EnableConfigurationProperties(SlowSearchLogProperties.class)
+@Import({
+        SearchMetricsConfigurations.MicrometerMetricsConfiguration.class,
+        SearchMetricsConfigurations.ObservationMetricsConfiguration.class,
+        SearchMetricsConfigurations.SlowSearchLogConfiguration.class
+})
+public class SearchMetricsAutoConfiguration {
+}
@@ -0,0 +1,107 @@
+package io.github.cnadjim.dynamic.search.spring.starter.autoconfigure;
+
+import io.github.cnadjim.dynamic.search.port.out.EntityDescriptorStorage;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.spring.starter.metrics.MicrometerSearchMetrics;
+import io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics;
+import io.github.cnadjim.dynamic.search.spring.starter.slowlog.SlowSearchLog;
+import io.github.cnadjim.dynamic.search.spring.starter.slowlog.SlowSearchLogProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configurations du bean SearchMetrics importées par SearchMetricsAutoConfiguration, dans leur ordre de priorité
+ * (classes imbriquées d'une classe distincte : l'ordre d'import est alors respecté)
+ */
+@Slf4j
+abstract class SearchMetricsConfigurations {
+
+    /**
+     * Mesures Micrometer, décorées par les traces si un ObservationRegistry est présent
+     * et par le journal des recherches lentes s'il est activé
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MicrometerMetricsConfiguration {
+
+        /**
+         * Crée le bean SearchMetrics publiant les mesures dans le MeterRegistry
+         *
+         * @param meterRegistry           Registre Micrometer de l'application
+         * @param observationRegistry     Registre des observations, pour les traces (optionnel)
+         * @param entityDescriptorStorage Descripteurs des entités, pour l'étiquette backend
+         * @param slowSearchLogProperties Configuration du journal des recherches lentes
+         * @return SearchMetrics basé sur Micrometer
+         */
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean
+        public SearchMetrics searchMetrics(MeterRegistry meterRegistry,
+                                           ObjectProvider<ObservationRegistry> observationRegistry,
+                                           EntityDescriptorStorage entityDescriptorStorage,
+                                           SlowSearchLogProperties slowSearchLogProperties) {
+            log.debug("Creating Micrometer SearchMetrics bean");
+            SearchMetrics micrometer = new MicrometerSearchMetrics(meterRegistry, entityDescriptorStorage);
+            return SlowSearchLog.decorate(
+                    ObservationSearchMetrics.decorate(micrometer, observationRegistry.getIfAvailable(), entityDescriptorStorage),
+                    slowSearchLogProperties);
+        }
+    }
+
+    /**
+     * Traces seules, en l'absence de MeterRegistry, décorées par le journal des recherches lentes s'il est activé
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ObservationRegistry.class)
+    static class ObservationMetricsConfiguration {
+
+        /**
+         * Crée le bean SearchMetrics traçant les recherches via l'ObservationRegistry
+         *
+         * @param observationRegistry     Registre des observations de l'application
+         * @param entityDescriptorStorage Descripteurs des entités, pour l'étiquette backend
+         * @param slowSearchLogProperties Configuration du journal des recherches lentes
+         * @return SearchMetrics basé sur Micrometer Observation
+         */
+        @Bean
+        @ConditionalOnBean(ObservationRegistry.class)
+        @ConditionalOnMissingBean
+        public SearchMetrics searchMetrics(ObservationRegistry observationRegistry,
+                                           EntityDescriptorStorage entityDescriptorStorage,
+                                           SlowSearchLogProperties slowSearchLogProperties) {
+            log.debug("Creating Observation SearchMetrics bean");
+            return SlowSearchLog.decorate(
+                    ObservationSearchMetrics.decorate(null, observationRegistry, entityDescriptorStorage),
+                    slowSearchLogProperties);
+        }
+    }
+
+    /**
+     * Journal des recherches lentes seul, en l'absence de MeterRegistry
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "dynamic-search.slow-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class SlowSearchLogConfiguration {
+
+        /**
+         * Crée le bean SearchMetrics journalisant les recherches lentes, sans autre mesure
+         *
+         * @param slowSearchLogProperties Configuration du journal des recherches lentes
+         * @return SearchMetrics limité au journal des recherches lentes
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public SearchMetrics searchMetrics(SlowSearchLogProperties slowSearchLogProperties) {
+            log.debug("Creating slow search log SearchMetrics bean");
+            return new SlowSearchLog(SearchMetrics.none(), slowSearchLogProperties);
+        }
+    }
+}
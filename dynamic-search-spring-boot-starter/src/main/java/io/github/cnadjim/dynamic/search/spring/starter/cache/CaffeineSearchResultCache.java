@@ -0,0 +1,129 @@
+package io.github.cnadjim.dynamic.search.spring.starter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
+import io.github.cnadjim.dynamic.search.model.SearchCacheKey;
+import io.github.cnadjim.dynamic.search.model.SearchCacheStatistics;
+import io.github.cnadjim.dynamic.search.port.out.SearchResultCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache des résultats de recherche basé sur Caffeine
+ * <p>
+ * - Taille bornée avec la politique d'éviction W-TinyLFU de Caffeine
+ * - Durée de vie propre à chaque entité : propriété dynamic-search.cache.entities,
+ *   puis @EnableSearchable(cacheTtlSeconds), puis dynamic-search.cache.default-ttl
+ * - Une durée nulle désactive le cache pour l'entité
+ * - Statistiques de succès / échec / éviction
+ */
+@Slf4j
+public class CaffeineSearchResultCache implements SearchResultCache {
+
+    private final SearchCacheProperties properties;
+    private final Cache<SearchCacheKey, Object> cache;
+
+    /**
+     * Durée de vie résolue par entité (évite de relire l'annotation et les propriétés à chaque appel)
+     */
+    private final Map<Class<?>, Duration> ttlByEntity = new ConcurrentHashMap<>();
+
+    public CaffeineSearchResultCache(SearchCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new EntityTtlExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R get(SearchCacheKey key, Supplier<R> loader) {
+        if (ttl(key.entityClass()).isZero()) {
+            return loader.get();
+        }
+        return (R) cache.get(key, ignored -> loader.get());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R getIfPresent(SearchCacheKey key) {
+        if (ttl(key.entityClass()).isZero()) {
+            return null;
+        }
+        return (R) cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(SearchCacheKey key, Object result) {
+        if (!ttl(key.entityClass()).isZero()) {
+            cache.put(key, result);
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass) {
+        cache.asMap().keySet().removeIf(key -> key.entityClass().equals(entityClass));
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public SearchCacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return new SearchCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize());
+    }
+
+    private Duration ttl(Class<?> entityClass) {
+        return ttlByEntity.computeIfAbsent(entityClass, this::resolveTtl);
+    }
+
+    private Duration resolveTtl(Class<?> entityClass) {
+        Duration configured = properties.entities().get(entityClass.getName());
+        if (configured == null) {
+            configured = properties.entities().get(entityClass.getSimpleName());
+        }
+        if (configured != null) {
+            return configured;
+        }
+
+        EnableSearchable annotation = entityClass.getAnnotation(EnableSearchable.class);
+        if (annotation != null && annotation.cacheTtlSeconds() >= 0) {
+            return Duration.ofSeconds(annotation.cacheTtlSeconds());
+        }
+
+        return properties.defaultTtl();
+    }
+
+    /**
+     * Expiration calculée à partir de l'entité de la clé, non prolongée par les lectures
+     */
+    private class EntityTtlExpiry implements Expiry<SearchCacheKey, Object> {
+
+        @Override
+        public long expireAfterCreate(SearchCacheKey key, Object value, long currentTime) {
+            return ttl(key.entityClass()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(SearchCacheKey key, Object value, long currentTime, long currentDuration) {
+            return ttl(key.entityClass()).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(SearchCacheKey key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
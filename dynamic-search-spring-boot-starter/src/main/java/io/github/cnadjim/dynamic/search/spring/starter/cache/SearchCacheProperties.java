@@ -0,0 +1,45 @@
+package io.github.cnadjim.dynamic.search.spring.starter.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration du cache des résultats de recherche (préfixe dynamic-search.cache)
+ *
+ * <pre>
+ * dynamic-search:
+ *   cache:
+ *     enabled: true
+ *     maximum-size: 10000
+ *     default-ttl: 60s
+ *     entities:
+ *       Product: 5m
+ *       Order: 0s          # pas de cache
+ * </pre>
+ *
+ * @param enabled     Active le cache (désactivé par défaut)
+ * @param maximumSize Nombre maximal d'entrées, toutes entités confondues
+ * @param defaultTtl  Durée de vie par défaut d'une entrée
+ * @param entities    Durée de vie par entité (nom simple ou qualifié), prime sur @EnableSearchable(cacheTtlSeconds)
+ */
+@ConfigurationProperties("dynamic-search.cache")
+public record SearchCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("60s") Duration defaultTtl,
+        Map<String, Duration> entities
+) {
+
+    public SearchCacheProperties {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be positive or zero");
+        }
+        if (defaultTtl.isNegative()) {
+            throw new IllegalArgumentException("defaultTtl must be positive or zero");
+        }
+        entities = entities == null ? Map.of() : Map.copyOf(entities);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.cnadjim.dynamic.search.spring.starter.discovery;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Configuration de la découverte des entités @EnableSearchable (préfixe dynamic-search.discovery)
+ *
+ * <pre>
+ * dynamic-search:
+ *   discovery:
+ *     base-packages:
+ *       - com.acme.catalog
+ *       - com.acme.billing
+ * </pre>
+ *
+ * @param basePackages Packages scannés en l'absence d'index de compilation
+ *                     (par défaut : packages de l'application, ceux de @SpringBootApplication)
+ */
+@ConfigurationProperties("dynamic-search.discovery")
+public record SearchDiscoveryProperties(
+        List<String> basePackages
+) {
+
+    public SearchDiscoveryProperties {
+        basePackages = basePackages == null ? List.of() : List.copyOf(basePackages);
+    }
+}
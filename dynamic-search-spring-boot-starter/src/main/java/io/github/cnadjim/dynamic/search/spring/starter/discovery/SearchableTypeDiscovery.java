@@ -0,0 +1,163 @@
+package io.github.cnadjim.dynamic.search.spring.starter.discovery;
+
+import io.github.cnadjim.dynamic.search.annotation.EnableSearchable;
+import io.github.cnadjim.dynamic.search.metadata.FilterMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Découverte des classes @EnableSearchable, partagée par tous les starters et exécutée une seule fois
+ * <p>
+ * Sources, par ordre de préférence :
+ * 1. Index écrit à la compilation par dynamic-search-annotation-processor (aucun scan)
+ * 2. Scan des packages de base (dynamic-search.discovery.base-packages, ou packages de l'application)
+ * <p>
+ * Les starters complètent ce résultat avec les types déjà connus de leur backend
+ * (Metamodel JPA, MappingContext MongoDB / Elasticsearch), voir {@link #searchable(Collection)}.
+ */
+@Slf4j
+public class SearchableTypeDiscovery {
+
+    private final ClassLoader classLoader;
+    private final List<String> basePackages;
+
+    /**
+     * Classes découvertes, calculées au premier appel
+     */
+    private volatile Set<Class<?>> searchableTypes;
+
+    /**
+     * @param classLoader  ClassLoader de l'application
+     * @param basePackages Packages scannés en l'absence d'index (liste vide : aucun scan)
+     */
+    public SearchableTypeDiscovery(ClassLoader classLoader, List<String> basePackages) {
+        this.classLoader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+        this.basePackages = List.copyOf(basePackages);
+    }
+
+    /**
+     * @return Toutes les classes @EnableSearchable découvertes
+     */
+    public Set<Class<?>> searchableTypes() {
+        Set<Class<?>> types = searchableTypes;
+        if (types == null) {
+            synchronized (this) {
+                types = searchableTypes;
+                if (types == null) {
+                    types = discover();
+                    searchableTypes = types;
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * @param storeAnnotation Annotation du backend (@Entity, @Document...)
+     * @return Les classes @EnableSearchable portant également l'annotation du backend
+     */
+    public Set<Class<?>> searchableTypes(Class<? extends Annotation> storeAnnotation) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type : searchableTypes()) {
+            if (type.isAnnotationPresent(storeAnnotation)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Filtre les types gérés par un backend pour ne garder que les classes @EnableSearchable
+     *
+     * @param managedTypes Types connus du backend (Metamodel, MappingContext)
+     */
+    public static Set<Class<?>> searchable(Collection<? extends Class<?>> managedTypes) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type : managedTypes) {
+            if (type != null && type.isAnnotationPresent(EnableSearchable.class)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private Set<Class<?>> discover() {
+        long start = System.nanoTime();
+        Set<String> typeNames = readIndex();
+        String source = "compile-time index";
+
+        if (typeNames.isEmpty()) {
+            typeNames = scan();
+            source = "scan of " + basePackages;
+        }
+
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String typeName : typeNames) {
+            try {
+                types.add(ClassUtils.forName(typeName, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Failed to load @EnableSearchable class: {}", typeName, e);
+            }
+        }
+
+        log.info("🔍 Discovered {} @EnableSearchable classes from {} in {} ms", types.size(), source, (System.nanoTime() - start) / 1_000_000);
+        return Set.copyOf(types);
+    }
+
+    /**
+     * Lit les index de compilation de tous les jars du classpath
+     */
+    private Set<String> readIndex() {
+        Set<String> typeNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(FilterMetadata.INDEX_RESOURCE);
+            while (indexes.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(typeNames::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + FilterMetadata.INDEX_RESOURCE, e);
+        }
+        return typeNames;
+    }
+
+    private Set<String> scan() {
+        Set<String> typeNames = new LinkedHashSet<>();
+        if (basePackages.isEmpty()) {
+            log.warn("No compile-time index and no base package for @EnableSearchable discovery, set dynamic-search.discovery.base-packages");
+            return typeNames;
+        }
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(EnableSearchable.class));
+
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                typeNames.add(candidate.getBeanClassName());
+            }
+        }
+        return typeNames;
+    }
+}
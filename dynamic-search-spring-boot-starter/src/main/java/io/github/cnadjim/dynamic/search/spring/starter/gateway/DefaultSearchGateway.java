@@ -1,17 +1,25 @@
 package io.github.cnadjim.dynamic.search.spring.starter.gateway;
 
+import io.github.cnadjim.dynamic.search.model.GlobalSearchResult;
 import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 import io.github.cnadjim.dynamic.search.port.in.GetAvailableFiltersUseCase;
 import io.github.cnadjim.dynamic.search.port.in.GetFieldTypeUseCase;
 import io.github.cnadjim.dynamic.search.port.in.SearchUseCase;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
 import io.github.cnadjim.dynamic.search.spring.starter.mapper.SearchRequestMapper;
+import io.github.cnadjim.dynamic.search.spring.starter.request.GlobalSearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.response.FilterDescriptorResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implémentation par défaut du SearchGateway
@@ -22,6 +30,8 @@ import java.util.stream.Collectors;
  * - Convertit automatiquement les DTOs REST en objets du domaine
  * - Déduit automatiquement les fieldType via GetFieldTypeUseCase
  * - Convertit les résultats du domaine en DTOs REST
+ * - Mesure la conversion des requêtes (phase MAPPING) lorsque des SearchMetrics sont fournies,
+ *   et délimite les requêtes synchrones (racine des traces)
  */
 @Slf4j
 public class DefaultSearchGateway implements SearchGateway {
@@ -29,11 +39,23 @@ public class DefaultSearchGateway implements SearchGateway {
     private final SearchUseCase searchUseCase;
     private final GetAvailableFiltersUseCase getAvailableFiltersUseCase;
     private final GetFieldTypeUseCase getFieldTypeUseCase;
+    private final SearchMetrics searchMetrics;
 
     public DefaultSearchGateway(
             SearchUseCase searchUseCase,
             GetAvailableFiltersUseCase getAvailableFiltersUseCase,
             GetFieldTypeUseCase getFieldTypeUseCase) {
+        this(searchUseCase, getAvailableFiltersUseCase, getFieldTypeUseCase, null);
+    }
+
+    /**
+     * @param searchMetrics Mesures des recherches (null : pas de mesure)
+     */
+    public DefaultSearchGateway(
+            SearchUseCase searchUseCase,
+            GetAvailableFiltersUseCase getAvailableFiltersUseCase,
+            GetFieldTypeUseCase getFieldTypeUseCase,
+            SearchMetrics searchMetrics) {
         if (searchUseCase == null) {
             throw new IllegalArgumentException("SearchUseCase cannot be null");
         }
@@ -47,6 +69,7 @@ public class DefaultSearchGateway implements SearchGateway {
         this.searchUseCase = searchUseCase;
         this.getAvailableFiltersUseCase = getAvailableFiltersUseCase;
         this.getFieldTypeUseCase = getFieldTypeUseCase;
+        this.searchMetrics = SearchMetrics.orNone(searchMetrics);
     }
 
     @Override
@@ -64,11 +87,13 @@ public class DefaultSearchGateway implements SearchGateway {
                 request.getFilters().size(),
                 request.getSorts().size());
 
-        // Conversion de la requête REST en critères du domaine avec déduction automatique des fieldType
-        SearchCriteria criteria = SearchRequestMapper.toDomain(request, entityClass, getFieldTypeUseCase);
+        SearchResult<T> result = searchMetrics.observeRequest("search", entityClass, () -> {
+            // Conversion de la requête REST en critères du domaine avec déduction automatique des fieldType
+            SearchCriteria criteria = toDomain(request, entityClass);
 
-        // Exécution de la recherche
-        SearchResult<T> result = searchUseCase.search(criteria, entityClass);
+            // Exécution de la recherche
+            return searchUseCase.search(criteria, entityClass);
+        });
 
         log.debug("Found {} results out of {} total for {}",
                 result.content().size(),
@@ -78,6 +103,115 @@ public class DefaultSearchGateway implements SearchGateway {
         return result;
     }
 
+    @Override
+    public <T> List<SearchResult<T>> multiSearch(List<SearchRequest> requests, Class<T> entityClass) {
+        // Validation des paramètres
+        if (requests == null || requests.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("SearchRequest list and its elements cannot be null");
+        }
+        if (entityClass == null) {
+            throw new IllegalArgumentException("Entity class cannot be null");
+        }
+
+        log.debug("Multi-searching {} with {} requests", entityClass.getSimpleName(), requests.size());
+
+        return searchMetrics.observeRequest("multiSearch", entityClass, () -> {
+            List<SearchCriteria> criteriaList = requests.stream()
+                    .map(request -> toDomain(request, entityClass))
+                    .toList();
+
+            return searchUseCase.multiSearch(criteriaList, entityClass);
+        });
+    }
+
+    @Override
+    public GlobalSearchResult globalSearch(GlobalSearchRequest request) {
+        // Validation des paramètres
+        if (request == null || request.fullText() == null) {
+            throw new IllegalArgumentException("GlobalSearchRequest and its full-text query cannot be null");
+        }
+
+        GlobalSearchResult result = searchUseCase.globalSearch(SearchRequestMapper.toDomain(request));
+
+        if (result.partial()) {
+            log.warn("Partial global search for '{}': timed out {}, failed {}",
+                    request.fullText().query(),
+                    result.timedOutEntities().stream().map(Class::getSimpleName).toList(),
+                    result.failedEntities().stream().map(Class::getSimpleName).toList());
+        }
+
+        log.debug("Global search found {} results across {} entities", result.hits().size(), result.searchedEntities().size());
+
+        return result;
+    }
+
+    @Override
+    public <T> CompletableFuture<SearchResult<T>> searchAsync(SearchRequest request, Class<T> entityClass) {
+        // Validation des paramètres
+        if (request == null) {
+            throw new IllegalArgumentException("SearchRequest cannot be null");
+        }
+        if (entityClass == null) {
+            throw new IllegalArgumentException("Entity class cannot be null");
+        }
+
+        log.debug("Searching asynchronously for {} with {} filters and {} sorts",
+                entityClass.getSimpleName(),
+                request.getFilters().size(),
+                request.getSorts().size());
+
+        SearchCriteria criteria = toDomain(request, entityClass);
+
+        return searchUseCase.searchAsync(criteria, entityClass);
+    }
+
+    @Override
+    public <T> SearchResult<Map<String, Object>> searchProjection(SearchRequest request, Class<T> entityClass) {
+        // Validation des paramètres
+        if (request == null) {
+            throw new IllegalArgumentException("SearchRequest cannot be null");
+        }
+        if (entityClass == null) {
+            throw new IllegalArgumentException("Entity class cannot be null");
+        }
+
+        log.debug("Searching projection {} of {} with {} filters",
+                request.getFields(),
+                entityClass.getSimpleName(),
+                request.getFilters().size());
+
+        return searchMetrics.observeRequest("projection", entityClass,
+                () -> searchUseCase.searchProjection(toDomain(request, entityClass), entityClass));
+    }
+
+    @Override
+    public <T> Stream<T> stream(SearchRequest request, Class<T> entityClass) {
+        // Validation des paramètres
+        if (request == null) {
+            throw new IllegalArgumentException("SearchRequest cannot be null");
+        }
+        if (entityClass == null) {
+            throw new IllegalArgumentException("Entity class cannot be null");
+        }
+
+        log.debug("Streaming {} with {} filters and {} sorts",
+                entityClass.getSimpleName(),
+                request.getFilters().size(),
+                request.getSorts().size());
+
+        SearchCriteria criteria = toDomain(request, entityClass);
+
+        return searchUseCase.stream(criteria, entityClass);
+    }
+
+    /**
+     * Conversion de la requête REST en critères du domaine avec déduction automatique des fieldType
+     */
+    private SearchCriteria toDomain(SearchRequest request, Class<?> entityClass) {
+        return searchMetrics.timePhase(SearchPhase.MAPPING, entityClass,
+                () -> SearchRequestMapper.toDomain(request, entityClass, getFieldTypeUseCase));
+    }
+
     @Override
     public <T> List<FilterDescriptorResponse> getAvailableFilters(Class<T> entityClass) {
         // Validation des paramètres
@@ -1,10 +1,15 @@
 package io.github.cnadjim.dynamic.search.spring.starter.gateway;
 
+import io.github.cnadjim.dynamic.search.model.GlobalSearchResult;
+import io.github.cnadjim.dynamic.search.spring.starter.request.GlobalSearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.response.FilterDescriptorResponse;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Gateway unifié pour les opérations de recherche dynamique
@@ -49,6 +54,73 @@ public interface SearchGateway {
      */
     <T> SearchResult<T> search(SearchRequest request, Class<T> entityClass);
 
+    /**
+     * Effectue un lot de recherches sur une même entité (tableau de bord de recherches enregistrées)
+     * Les requêtes sont regroupées par le backend : _msearch pour Elasticsearch, une agrégation $facet
+     * pour MongoDB, une seule transaction (une connexion) pour JPA
+     *
+     * @param requests Requêtes de recherche
+     * @param entityClass Classe de l'entité à rechercher
+     * @param <T> Type de l'entité
+     * @return Un résultat par requête, dans le même ordre
+     * @throws IllegalArgumentException si la liste, l'une des requêtes ou la classe est null
+     */
+    <T> List<SearchResult<T>> multiSearch(List<SearchRequest> requests, Class<T> entityClass);
+
+    /**
+     * Effectue une recherche full-text sur toutes les entités enregistrées (JPA, MongoDB, Elasticsearch)
+     * Les entités sont interrogées en parallèle, les meilleurs résultats de chacune sont fusionnés par rang.
+     * Une entité trop lente ou en erreur est listée dans le résultat, qui est alors partiel.
+     *
+     * @param request Requête contenant le texte recherché, la taille et le délai par entité
+     * @return Résultats fusionnés et entités manquantes
+     * @throws IllegalArgumentException si la requête ou son texte est null
+     */
+    GlobalSearchResult globalSearch(GlobalSearchRequest request);
+
+    /**
+     * Effectue une recherche dynamique sans bloquer l'appelant
+     * Permet de lancer en parallèle les recherches de plusieurs entités puis de les combiner :
+     * <pre>
+     * {@code
+     * CompletableFuture<SearchResult<Product>> products = searchGateway.searchAsync(productRequest, Product.class);
+     * CompletableFuture<SearchResult<Order>> orders = searchGateway.searchAsync(orderRequest, Order.class);
+     * CompletableFuture.allOf(products, orders).join();
+     * }
+     * </pre>
+     *
+     * @param request Requête de recherche contenant filtres, tris et pagination
+     * @param entityClass Classe de l'entité à rechercher
+     * @param <T> Type de l'entité
+     * @return Future du résultat de recherche paginé
+     * @throws IllegalArgumentException si la requête ou la classe est null
+     */
+    <T> CompletableFuture<SearchResult<T>> searchAsync(SearchRequest request, Class<T> entityClass);
+
+    /**
+     * Effectue une recherche en ne retournant que les champs listés dans request.fields
+     * Les entités ne sont pas hydratées : chaque backend ne lit que les colonnes / propriétés demandées
+     *
+     * @param request Requête de recherche contenant filtres, tris, pagination et champs projetés
+     * @param entityClass Classe de l'entité à rechercher
+     * @param <T> Type de l'entité
+     * @return Résultat de recherche paginé, chaque ligne étant une map champ -> valeur
+     * @throws IllegalArgumentException si la requête ou la classe est null, ou si un champ est inconnu
+     */
+    <T> SearchResult<Map<String, Object>> searchProjection(SearchRequest request, Class<T> entityClass);
+
+    /**
+     * Parcourt l'ensemble des résultats d'une recherche, sans pagination (export, traitement par lots)
+     * La taille de page de la requête sert de taille de lot pour le curseur natif du moteur
+     *
+     * @param request Requête de recherche contenant filtres et tris
+     * @param entityClass Classe de l'entité à rechercher
+     * @param <T> Type de l'entité
+     * @return Flux paresseux des entités, à fermer après usage (try-with-resources)
+     * @throws IllegalArgumentException si la requête ou la classe est null
+     */
+    <T> Stream<T> stream(SearchRequest request, Class<T> entityClass);
+
     /**
      * Récupère les filtres disponibles pour une entité
      * Permet la découverte dynamique des champs filtrables et leurs opérateurs
@@ -1,12 +1,18 @@
 package io.github.cnadjim.dynamic.search.spring.starter.mapper;
 
+import io.github.cnadjim.dynamic.search.model.CountMode;
+import io.github.cnadjim.dynamic.search.model.CountResult;
+import io.github.cnadjim.dynamic.search.model.PageCriteria;
 import io.github.cnadjim.dynamic.search.model.SearchResult;
 import io.github.cnadjim.dynamic.search.model.SortCriteria;
 import io.github.cnadjim.dynamic.search.model.SortDirection;
+import io.github.cnadjim.dynamic.search.spring.starter.util.KeysetCursorCodec;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -59,9 +65,91 @@ public final class PageToSearchResultMapper {
                 .first(page.isFirst())
                 .last(page.isLast())
                 .empty(page.isEmpty())
+                .countMode(CountMode.EXACT)
                 .build();
     }
 
+    /**
+     * Convertit une Slice Spring Data (lue sans COUNT) en SearchResult du domaine
+     * Le total provient de la stratégie de comptage demandée ; lorsque la dernière page est atteinte,
+     * le total exact se déduit de la position courante et remplace le nombre plafonné ou estimé
+     *
+     * @param slice La tranche Spring Data à convertir
+     * @param count Résultat du comptage obtenu par l'adaptateur
+     * @param <T>   Type du contenu
+     * @return SearchResult contenant le même contenu que la tranche
+     */
+    public static <T> SearchResult<T> toSearchResult(Slice<T> slice, CountResult count) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        long reached = offset + slice.getNumberOfElements();
+
+        if (count.mode() != CountMode.EXACT && !slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            count = CountResult.exact(reached);
+        } else if (count.mode() == CountMode.CAPPED && slice.hasContent() && count.totalElements() < reached + (slice.hasNext() ? 1 : 0)) {
+            count = CountResult.capped(reached + (slice.hasNext() ? 1 : 0));
+        }
+
+        List<SortCriteria> sorts = slice.getSort()
+                .stream()
+                .map(PageToSearchResultMapper::toSortCriteria)
+                .collect(Collectors.toList());
+
+        return SearchResult.<T>builder()
+                .content(slice.getContent())
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .totalElements(count.totalElements())
+                .totalPages(totalPages(count, slice.getSize()))
+                .sorts(sorts)
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .empty(slice.isEmpty())
+                .countMode(count.mode())
+                .build();
+    }
+
+    /**
+     * Construit un SearchResult pour une page obtenue en pagination keyset
+     * Le contenu doit avoir été lu avec une ligne supplémentaire (size + 1) pour détecter la présence d'une page suivante
+     *
+     * @param rows          Lignes lues (au plus size + 1)
+     * @param page          Critères de pagination demandés
+     * @param count         Résultat du comptage des éléments correspondant aux filtres
+     * @param keysetSorts   Tris effectifs, identifiant de départage inclus
+     * @param <T>           Type du contenu
+     * @return SearchResult contenant la page et le curseur de la page suivante
+     */
+    public static <T> SearchResult<T> toKeysetSearchResult(List<T> rows, PageCriteria page, CountResult count, List<SortCriteria> keysetSorts) {
+        int pageSize = Objects.requireNonNullElse(page.size(), 100);
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? KeysetCursorCodec.encode(content.getLast(), keysetSorts) : null;
+
+        return SearchResult.<T>builder()
+                .content(content)
+                .pageNumber(Objects.requireNonNullElse(page.number(), 0))
+                .pageSize(pageSize)
+                .totalElements(count.totalElements())
+                .totalPages(totalPages(count, pageSize))
+                .sorts(keysetSorts)
+                .first(!page.hasCursor())
+                .last(!hasNext)
+                .empty(content.isEmpty())
+                .nextCursor(nextCursor)
+                .countMode(count.mode())
+                .build();
+    }
+
+    /**
+     * Calcule le nombre de pages à partir du comptage (-1 si aucun comptage n'a été effectué)
+     */
+    private static int totalPages(CountResult count, int pageSize) {
+        if (!count.isCounted()) {
+            return -1;
+        }
+        return pageSize == 0 ? 1 : (int) Math.ceil((double) count.totalElements() / pageSize);
+    }
+
     /**
      * Convertit un Sort.Order Spring Data en SortCriteria du domaine
      */
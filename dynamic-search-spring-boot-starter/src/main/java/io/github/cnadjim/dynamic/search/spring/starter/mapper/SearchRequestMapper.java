@@ -2,12 +2,15 @@ package io.github.cnadjim.dynamic.search.spring.starter.mapper;
 
 import io.github.cnadjim.dynamic.search.model.*;
 import io.github.cnadjim.dynamic.search.port.in.GetFieldTypeUseCase;
+import io.github.cnadjim.dynamic.search.spring.starter.request.FacetRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.FilterRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.FullTextRequest;
+import io.github.cnadjim.dynamic.search.spring.starter.request.GlobalSearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.PageRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.SearchRequest;
 import io.github.cnadjim.dynamic.search.spring.starter.request.SortRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -54,18 +57,37 @@ public final class SearchRequestMapper {
                 .sorts(sorts)
                 .fullTextCriteria(fullTextCriteria)
                 .pageCriteria(pageCriteria)
+                .fields(request.getFields())
+                .facets(request.getFacets().stream().map(SearchRequestMapper::toFacetCriteria).collect(Collectors.toList()))
                 .build();
     }
 
+    /**
+     * Convertit une GlobalSearchRequest REST en GlobalSearchCriteria du domaine
+     *
+     * @param request GlobalSearchRequest provenant du client
+     * @return GlobalSearchCriteria du domaine
+     */
+    public static GlobalSearchCriteria toDomain(GlobalSearchRequest request) {
+        return GlobalSearchCriteria.builder()
+                .fullText(toFullTextCriteria(request.fullText()))
+                .size(request.size())
+                .timeout(request.timeoutMs() != null ? Duration.ofMillis(request.timeoutMs()) : null)
+                .build();
+    }
 
     private static PageCriteria toDomain(PageRequest request) {
-        return new PageCriteria(request.number(), request.size());
+        PageMode mode = request.mode() != null ? request.mode().toDomain() : PageMode.OFFSET;
+        CountMode countMode = request.countMode() != null ? request.countMode().toDomain() : CountMode.EXACT;
+        return new PageCriteria(request.number(), request.size(), mode, request.cursor(), countMode, request.countLimit());
     }
 
     private static FilterCriteria toFilterCriteria(FilterRequest request, Class<?> entityClass, GetFieldTypeUseCase getFieldTypeUseCase) {
         // Résolution du type de champ via le use case
-        FieldType resolvedFieldType = getFieldTypeUseCase.findFieldTypeByKey(request.key(), entityClass)
-                .orElse(FieldType.STRING);
+        FieldType resolvedFieldType = getFieldTypeUseCase.resolveFieldType(request.key(), entityClass);
+        if (resolvedFieldType == null) {
+            resolvedFieldType = FieldType.STRING;
+        }
 
         return FilterCriteria.builder()
                 .key(request.key())
@@ -84,6 +106,13 @@ public final class SearchRequestMapper {
                 .build();
     }
 
+    private static FacetCriteria toFacetCriteria(FacetRequest request) {
+        return FacetCriteria.builder()
+                .key(request.key())
+                .size(request.size())
+                .build();
+    }
+
     private static FullTextCriteria toFullTextCriteria(FullTextRequest request) {
         if (request == null) {
             return null;
@@ -0,0 +1,161 @@
+package io.github.cnadjim.dynamic.search.spring.starter.metrics;
+
+import io.github.cnadjim.dynamic.search.model.EntityDescriptor;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterOperator;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+import io.github.cnadjim.dynamic.search.port.out.EntityDescriptorStorage;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Mesures des recherches publiées dans un MeterRegistry Micrometer
+ * <p>
+ * - dynamic.search (timer) : recherche complète, étiquetée par entity, backend, operation, filters, sorts et exception
+ * - dynamic.search.phase (timer) : phase d'une recherche (mapping, query, fetch, count, facets), étiquetée par entity, backend et phase
+ * - dynamic.search.filter.operator (compteur) : filtres reçus, étiquetés par entity et operator
+ * <p>
+ * Le backend est celui de l'adaptateur enregistré pour l'entité. Les nombres de filtres et de tris sont bornés
+ * par la validation des requêtes, la cardinalité des étiquettes reste donc limitée.
+ */
+public class MicrometerSearchMetrics implements SearchMetrics {
+
+    public static final String SEARCH_METRIC = "dynamic.search";
+    public static final String PHASE_METRIC = "dynamic.search.phase";
+    public static final String OPERATOR_METRIC = "dynamic.search.filter.operator";
+
+    private static final String UNKNOWN_BACKEND = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final EntityDescriptorStorage entityDescriptorStorage;
+
+    /**
+     * Étiquettes entity / backend par entité enregistrée (évite de résoudre le descripteur à chaque mesure)
+     */
+    private final Map<Class<?>, Tags> entityTags = new ConcurrentHashMap<>();
+
+    /**
+     * Timers de phase par entité, indexés par SearchPhase.ordinal()
+     */
+    private final Map<Class<?>, Timer[]> phaseTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Compteurs d'opérateurs par entité, indexés par FilterOperator.ordinal()
+     */
+    private final Map<Class<?>, Counter[]> operatorCounters = new ConcurrentHashMap<>();
+
+    public MicrometerSearchMetrics(MeterRegistry meterRegistry, EntityDescriptorStorage entityDescriptorStorage) {
+        this.meterRegistry = meterRegistry;
+        this.entityDescriptorStorage = entityDescriptorStorage;
+    }
+
+    @Override
+    public <R> R timeSearch(String operation, Class<?> entityClass, List<SearchCriteria> criteria, Supplier<R> search) {
+        int filters = 0;
+        int sorts = 0;
+        for (SearchCriteria searchCriteria : criteria) {
+            filters += searchCriteria.filters().size();
+            sorts += searchCriteria.sorts().size();
+            countOperators(entityClass, searchCriteria.filters());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return search.get();
+        } catch (RuntimeException | Error throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            sample.stop(Timer.builder(SEARCH_METRIC)
+                    .description("Durée des recherches dynamiques")
+                    .tags(tags(entityClass))
+                    .tag("operation", operation)
+                    .tag("filters", Integer.toString(filters))
+                    .tag("sorts", Integer.toString(sorts))
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public <R> R timePhase(SearchPhase phase, Class<?> entityClass, Supplier<R> action) {
+        Timer[] timers = phaseTimers.get(entityClass);
+        if (timers == null) {
+            timers = registered(entityClass) ? phaseTimers.computeIfAbsent(entityClass, this::phaseTimers) : phaseTimers(entityClass);
+        }
+        return timers[phase.ordinal()].record(action);
+    }
+
+    private void countOperators(Class<?> entityClass, List<FilterCriteria> filters) {
+        if (filters.isEmpty()) {
+            return;
+        }
+        Counter[] counters = operatorCounters.get(entityClass);
+        if (counters == null) {
+            counters = registered(entityClass) ? operatorCounters.computeIfAbsent(entityClass, this::operatorCounters) : operatorCounters(entityClass);
+        }
+        for (FilterCriteria filter : filters) {
+            if (filter.operator() != null) {
+                counters[filter.operator().ordinal()].increment();
+            }
+        }
+    }
+
+    private Timer[] phaseTimers(Class<?> entityClass) {
+        SearchPhase[] phases = SearchPhase.values();
+        Timer[] timers = new Timer[phases.length];
+        for (SearchPhase phase : phases) {
+            timers[phase.ordinal()] = Timer.builder(PHASE_METRIC)
+                    .description("Durée des phases des recherches dynamiques")
+                    .tags(tags(entityClass))
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+
+    private Counter[] operatorCounters(Class<?> entityClass) {
+        FilterOperator[] operators = FilterOperator.values();
+        Counter[] counters = new Counter[operators.length];
+        for (FilterOperator operator : operators) {
+            counters[operator.ordinal()] = Counter.builder(OPERATOR_METRIC)
+                    .description("Nombre de filtres reçus par opérateur")
+                    .tag("entity", entityClass.getSimpleName())
+                    .tag("operator", operator.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+        return counters;
+    }
+
+    /**
+     * Étiquettes entity / backend ; mises en cache uniquement une fois l'entité enregistrée
+     */
+    private Tags tags(Class<?> entityClass) {
+        Tags tags = entityTags.get(entityClass);
+        if (tags != null) {
+            return tags;
+        }
+
+        EntityDescriptor<?> entityDescriptor = entityDescriptorStorage.findByIdOrNull(entityClass);
+        if (entityDescriptor == null) {
+            return Tags.of("entity", entityClass.getSimpleName(), "backend", UNKNOWN_BACKEND);
+        }
+        return entityTags.computeIfAbsent(entityClass,
+                ignored -> Tags.of("entity", entityClass.getSimpleName(), "backend", entityDescriptor.entityRepository().backend()));
+    }
+
+    private boolean registered(Class<?> entityClass) {
+        return entityTags.containsKey(entityClass) || entityDescriptorStorage.findByIdOrNull(entityClass) != null;
+    }
+}
@@ -0,0 +1,189 @@
+package io.github.cnadjim.dynamic.search.spring.starter.metrics;
+
+import io.github.cnadjim.dynamic.search.model.EntityDescriptor;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+import io.github.cnadjim.dynamic.search.model.SearchShape;
+import io.github.cnadjim.dynamic.search.port.out.EntityDescriptorStorage;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Traces des recherches via Micrometer Observation (spans OpenTelemetry / Brave avec micrometer-tracing),
+ * décorant un SearchMetrics (Micrometer ou aucun)
+ * <p>
+ * Arbre des observations d'une recherche :
+ * <pre>
+ * dynamic.search.request              (SearchGateway : conversion + recherche)
+ * ├── dynamic.search.request.phase    phase=mapping
+ * └── dynamic.search.execution        (SearchService, une par entité)
+ *     ├── dynamic.search.request.phase  phase=query
+ *     ├── dynamic.search.request.phase  phase=fetch
+ *     └── dynamic.search.request.phase  phase=count
+ * </pre>
+ * Étiquettes de faible cardinalité : entity, backend, operation, phase.
+ * Étiquettes de forte cardinalité (spans uniquement) : dynamic.search.shape (empreinte de la forme de la recherche)
+ * et db.query.text (requêtes natives signalées par l'adaptateur, portées par l'observation en cours lors du signalement :
+ * fetch et count avec JPA, dont les prédicats sont construits à l'exécution, execution pour les autres backends).
+ * <p>
+ * Les noms diffèrent des timers de MicrometerSearchMetrics : les timers dérivés des observations ne
+ * portent pas les mêmes étiquettes et ne doivent pas partager leur nom.
+ */
+public class ObservationSearchMetrics implements SearchMetrics {
+
+    public static final String REQUEST_OBSERVATION = "dynamic.search.request";
+    public static final String EXECUTION_OBSERVATION = "dynamic.search.execution";
+    public static final String PHASE_OBSERVATION = "dynamic.search.request.phase";
+
+    public static final String SHAPE_KEY = "dynamic.search.shape";
+    public static final String QUERY_KEY = "db.query.text";
+
+    private static final String UNKNOWN_BACKEND = "unknown";
+
+    /**
+     * Clé du contexte d'observation sous laquelle sont conservées les requêtes natives en attente de rendu
+     */
+    private static final Class<PendingQueries> PENDING_QUERIES = PendingQueries.class;
+
+    private final SearchMetrics delegate;
+    private final ObservationRegistry observationRegistry;
+    private final EntityDescriptorStorage entityDescriptorStorage;
+
+    /**
+     * Backend par entité enregistrée
+     */
+    private final Map<Class<?>, String> backends = new ConcurrentHashMap<>();
+
+    public ObservationSearchMetrics(SearchMetrics delegate, ObservationRegistry observationRegistry, EntityDescriptorStorage entityDescriptorStorage) {
+        this.delegate = SearchMetrics.orNone(delegate);
+        this.observationRegistry = observationRegistry;
+        this.entityDescriptorStorage = entityDescriptorStorage;
+    }
+
+    /**
+     * Ajoute les traces aux mesures fournies, si un ObservationRegistry est disponible
+     * Ses handlers pouvant être enregistrés après la création des mesures, seul le registre NOOP est écarté ici ;
+     * un registre sans handler produit des observations NOOP sans surcoût notable
+     *
+     * @param delegate                Mesures décorées (null pour aucune mesure)
+     * @param observationRegistry     Registre des observations (null pour aucune trace)
+     * @param entityDescriptorStorage Descripteurs des entités, pour l'étiquette backend
+     * @return Mesures tracées, ou les mesures fournies sans registre
+     */
+    public static SearchMetrics decorate(SearchMetrics delegate, ObservationRegistry observationRegistry, EntityDescriptorStorage entityDescriptorStorage) {
+        return observationRegistry == null || observationRegistry == ObservationRegistry.NOOP
+                ? SearchMetrics.orNone(delegate)
+                : new ObservationSearchMetrics(delegate, observationRegistry, entityDescriptorStorage);
+    }
+
+    @Override
+    public <R> R observeRequest(String operation, Class<?> entityClass, Supplier<R> request) {
+        Observation observation = Observation.createNotStarted(REQUEST_OBSERVATION, observationRegistry)
+                .contextualName("dynamic-search " + operation + " " + entityClass.getSimpleName())
+                .lowCardinalityKeyValue("entity", entityClass.getSimpleName())
+                .lowCardinalityKeyValue("operation", operation);
+        return observe(observation, () -> delegate.observeRequest(operation, entityClass, request));
+    }
+
+    @Override
+    public <R> R timeSearch(String operation, Class<?> entityClass, List<SearchCriteria> criteria, Supplier<R> search) {
+        String backend = backend(entityClass);
+        Observation observation = Observation.createNotStarted(EXECUTION_OBSERVATION, observationRegistry)
+                .contextualName(backend + " " + operation + " " + entityClass.getSimpleName())
+                .lowCardinalityKeyValue("entity", entityClass.getSimpleName())
+                .lowCardinalityKeyValue("backend", backend)
+                .lowCardinalityKeyValue("operation", operation)
+                .highCardinalityKeyValue(SHAPE_KEY, SearchShape.of(operation, entityClass, criteria).fingerprint());
+        return observe(observation, () -> delegate.timeSearch(operation, entityClass, criteria, search));
+    }
+
+    @Override
+    public <R> R timePhase(SearchPhase phase, Class<?> entityClass, Supplier<R> action) {
+        String phaseName = phase.name().toLowerCase(Locale.ROOT);
+        Observation observation = Observation.createNotStarted(PHASE_OBSERVATION, observationRegistry)
+                .contextualName(phaseName + " " + entityClass.getSimpleName())
+                .lowCardinalityKeyValue("entity", entityClass.getSimpleName())
+                .lowCardinalityKeyValue("backend", backend(entityClass))
+                .lowCardinalityKeyValue("phase", phaseName);
+        return observe(observation, () -> delegate.timePhase(phase, entityClass, action));
+    }
+
+    /**
+     * Rattache la requête à l'observation courante ; elle est rendue à la fin de cette observation,
+     * une fois complétée par l'adaptateur (clause where JPA, tri et limite MongoDB...)
+     */
+    @Override
+    public void nativeQuery(Supplier<String> description) {
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null && !current.isNoop()) {
+            Observation.Context context = current.getContext();
+            PendingQueries pending = context.get(PENDING_QUERIES);
+            if (pending == null) {
+                pending = new PendingQueries();
+                context.put(PENDING_QUERIES, pending);
+            }
+            pending.add(description);
+        }
+        delegate.nativeQuery(description);
+    }
+
+    private static <R> R observe(Observation observation, Supplier<R> action) {
+        observation.start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            return action.get();
+        } catch (RuntimeException | Error throwable) {
+            observation.error(throwable);
+            throw throwable;
+        } finally {
+            PendingQueries pending = observation.getContext().get(PENDING_QUERIES);
+            if (pending != null) {
+                observation.highCardinalityKeyValue(QUERY_KEY, pending.render());
+            }
+            observation.stop();
+        }
+    }
+
+    private String backend(Class<?> entityClass) {
+        String backend = backends.get(entityClass);
+        if (backend != null) {
+            return backend;
+        }
+
+        EntityDescriptor<?> entityDescriptor = entityDescriptorStorage.findByIdOrNull(entityClass);
+        if (entityDescriptor == null) {
+            return UNKNOWN_BACKEND;
+        }
+        return backends.computeIfAbsent(entityClass, ignored -> entityDescriptor.entityRepository().backend());
+    }
+
+    /**
+     * Requêtes natives signalées pendant une observation
+     */
+    private static final class PendingQueries {
+        private final List<Supplier<String>> queries = new ArrayList<>(2);
+
+        void add(Supplier<String> description) {
+            queries.add(description);
+        }
+
+        String render() {
+            List<String> rendered = new ArrayList<>(queries.size());
+            for (Supplier<String> query : queries) {
+                try {
+                    rendered.add(query.get());
+                } catch (RuntimeException exception) {
+                    rendered.add("<unavailable: " + exception.getClass().getSimpleName() + ">");
+                }
+            }
+            return String.join("; ", rendered);
+        }
+    }
+}
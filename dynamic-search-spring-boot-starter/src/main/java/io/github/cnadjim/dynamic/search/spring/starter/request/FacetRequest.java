@@ -0,0 +1,38 @@
+package io.github.cnadjim.dynamic.search.spring.starter.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import java.io.Serializable;
+
+/**
+ * DTO REST - Facette demandée par le client
+ * Record Java immuable pour le décompte des valeurs d'un champ
+ * Utilise la convention camelCase pour les propriétés JSON
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Facette : décompte par valeur d'un champ sous les filtres courants")
+public record FacetRequest(
+
+        @Schema(
+                description = "Nom du champ à agréger",
+                example = "name",
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        @NotBlank(message = "La clé de la facette ne peut pas être vide")
+        String key,
+
+        @Schema(
+                description = "Nombre maximum de valeurs retournées (les plus fréquentes)",
+                example = "10",
+                defaultValue = "10"
+        )
+        @Min(value = 1, message = "La taille de la facette doit être supérieure ou égale à 1")
+        @Max(value = 1000, message = "La taille de la facette ne peut pas dépasser 1000")
+        Integer size
+
+) implements Serializable {
+}
@@ -0,0 +1,48 @@
+package io.github.cnadjim.dynamic.search.spring.starter.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * DTO REST - Requête de recherche globale sur toutes les entités
+ * Record Java immuable, utilise la convention camelCase pour les propriétés JSON
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "Recherche full-text sur toutes les entités enregistrées, résultats fusionnés par pertinence")
+public record GlobalSearchRequest(
+
+        @Schema(
+                description = "Critère de recherche full-text",
+                implementation = FullTextRequest.class,
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        @NotNull(message = "La requête full-text est obligatoire")
+        @Valid
+        FullTextRequest fullText,
+
+        @Schema(
+                description = "Nombre de résultats retournés (et lus au plus par entité)",
+                example = "20",
+                defaultValue = "20"
+        )
+        @Min(value = 1, message = "La taille doit être supérieure ou égale à 1")
+        @Max(value = 100, message = "La taille ne peut pas dépasser 100")
+        Integer size,
+
+        @Schema(
+                description = "Délai accordé à chaque entité en millisecondes, au-delà le résultat est partiel",
+                example = "2000",
+                defaultValue = "2000"
+        )
+        @Min(value = 1, message = "Le délai doit être supérieur ou égal à 1 ms")
+        @Max(value = 60000, message = "Le délai ne peut pas dépasser 60000 ms")
+        Long timeoutMs
+
+) implements Serializable {
+}
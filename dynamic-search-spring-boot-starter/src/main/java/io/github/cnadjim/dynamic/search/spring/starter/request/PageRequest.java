@@ -3,8 +3,11 @@ package io.github.cnadjim.dynamic.search.spring.starter.request;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.github.cnadjim.dynamic.search.spring.starter.response.CountModeResponse;
+import io.github.cnadjim.dynamic.search.spring.starter.response.PageModeResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 
 import java.io.Serializable;
 
@@ -31,7 +34,36 @@ public record PageRequest(
                 defaultValue = "20"
         )
         @Min(value = 1, message = "La taille de number doit être supérieure ou égale à 1")
-        Integer size
+        Integer size,
+
+        @Schema(
+                description = "Mode de pagination : offset (numéro de page) ou keyset (curseur)",
+                example = "offset",
+                defaultValue = "offset"
+        )
+        PageModeResponse mode,
+
+        @Schema(
+                description = "Curseur opaque retourné par la page précédente (mode keyset uniquement)",
+                example = "AQIAAAAAAAAAKg"
+        )
+        @Size(max = 4096, message = "Le curseur ne peut pas dépasser 4096 caractères")
+        String cursor,
+
+        @Schema(
+                description = "Stratégie de comptage du total : exact, capped (plafonné), estimated (statistiques du moteur) ou none",
+                example = "exact",
+                defaultValue = "exact"
+        )
+        CountModeResponse countMode,
+
+        @Schema(
+                description = "Limite du comptage pour les stratégies capped et estimated",
+                example = "10000",
+                defaultValue = "10000"
+        )
+        @Min(value = 1, message = "La limite de comptage doit être supérieure ou égale à 1")
+        Integer countLimit
 
 ) implements Serializable {
 
@@ -39,7 +71,14 @@ public record PageRequest(
      * Constructeur par défaut avec valeurs prédéfinies
      */
     public PageRequest() {
-        this(0, 20);
+        this(0, 20, PageModeResponse.OFFSET, null, CountModeResponse.EXACT, null);
+    }
+
+    /**
+     * Constructeur de compatibilité pour la pagination par décalage
+     */
+    public PageRequest(Integer number, Integer size) {
+        this(number, size, PageModeResponse.OFFSET, null, CountModeResponse.EXACT, null);
     }
 
 }
@@ -47,10 +47,32 @@ public record SearchRequest(
                 implementation = PageRequest.class
         )
         @Valid
-        PageRequest page
+        PageRequest page,
+
+        @Schema(
+                description = "Champs à retourner (projection). Vide : entité complète",
+                example = "[\"name\", \"version\"]"
+        )
+        @Size(max = 100, message = "Le nombre maximum de champs projetés est de 100")
+        List<String> fields,
+
+        @Schema(
+                description = "Facettes à calculer : décompte par valeur des champs demandés sous les filtres courants",
+                example = "[{\"key\": \"name\", \"size\": 10}]"
+        )
+        @Valid
+        @Size(max = 20, message = "Le nombre maximum de facettes est de 20")
+        List<FacetRequest> facets
 
 ) implements Serializable {
 
+    /**
+     * Constructeur de compatibilité sans projection ni facette
+     */
+    public SearchRequest(List<FilterRequest> filters, List<SortRequest> sorts, FullTextRequest fullText, PageRequest page) {
+        this(filters, sorts, fullText, page, null, null);
+    }
+
     /**
      * Getter pour les filtres (garantit une liste non-null)
      */
@@ -72,6 +94,20 @@ public record SearchRequest(
         return page != null ? page : new PageRequest();
     }
 
+    /**
+     * Getter pour les champs projetés (garantit une liste non-null)
+     */
+    public List<String> getFields() {
+        return fields != null ? fields : new ArrayList<>();
+    }
+
+    /**
+     * Getter pour les facettes (garantit une liste non-null)
+     */
+    public List<FacetRequest> getFacets() {
+        return facets != null ? facets : new ArrayList<>();
+    }
+
     /**
      * Getter pour le full-text (peut être null)
      */
@@ -0,0 +1,44 @@
+package io.github.cnadjim.dynamic.search.spring.starter.response;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.github.cnadjim.dynamic.search.model.CountMode;
+
+/**
+ * DTO REST - Enum pour les stratégies de comptage
+ * Abstraction de l'enum du domaine pour la couche API REST
+ * Sérialisé en lowercase dans les réponses JSON
+ */
+public enum CountModeResponse {
+    EXACT("exact"),
+    CAPPED("capped"),
+    ESTIMATED("estimated"),
+    NONE("none");
+
+    private final String value;
+
+    CountModeResponse(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Utilisé par Jackson pour la sérialisation JSON (en lowercase)
+     */
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Convertit le DTO vers l'enum du domaine
+     */
+    public CountMode toDomain() {
+        return CountMode.valueOf(this.name());
+    }
+
+    /**
+     * Crée un DTO depuis l'enum du domaine
+     */
+    public static CountModeResponse fromDomain(CountMode mode) {
+        return CountModeResponse.valueOf(mode.name());
+    }
+}
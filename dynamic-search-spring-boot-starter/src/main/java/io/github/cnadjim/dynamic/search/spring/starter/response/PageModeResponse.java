@@ -0,0 +1,42 @@
+package io.github.cnadjim.dynamic.search.spring.starter.response;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import io.github.cnadjim.dynamic.search.model.PageMode;
+
+/**
+ * DTO REST - Enum pour les modes de pagination
+ * Abstraction de l'enum du domaine pour la couche API REST
+ * Sérialisé en lowercase dans les réponses JSON
+ */
+public enum PageModeResponse {
+    OFFSET("offset"),
+    KEYSET("keyset");
+
+    private final String value;
+
+    PageModeResponse(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Utilisé par Jackson pour la sérialisation JSON (en lowercase)
+     */
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Convertit le DTO vers l'enum du domaine
+     */
+    public PageMode toDomain() {
+        return PageMode.valueOf(this.name());
+    }
+
+    /**
+     * Crée un DTO depuis l'enum du domaine
+     */
+    public static PageModeResponse fromDomain(PageMode mode) {
+        return PageModeResponse.valueOf(mode.name());
+    }
+}
@@ -0,0 +1,251 @@
+package io.github.cnadjim.dynamic.search.spring.starter.slowlog;
+
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+import io.github.cnadjim.dynamic.search.model.SearchShape;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Journal des recherches lentes, décorant un SearchMetrics (Micrometer ou aucun)
+ * <p>
+ * - Seules les recherches dont la durée atteint le seuil sont journalisées, avec leurs requêtes natives
+ * - Les recherches sont regroupées par forme (SearchShape : champs et opérateurs, sans les valeurs)
+ * - Échantillonnage par forme : au plus samplesPerPeriod entrées par période, les suivantes sont comptées
+ *   et leur nombre est rapporté avec la prochaine entrée de la même forme
+ * - Écriture asynchrone : les entrées passent par une file bornée vidée par un thread dédié,
+ *   une file pleine abandonne l'entrée au lieu de ralentir la recherche
+ * <p>
+ * Les entrées sont écrites en WARN sur le logger dynamic-search.slow.
+ */
+@Slf4j(topic = "dynamic-search.slow")
+public class SlowSearchLog implements SearchMetrics, AutoCloseable {
+
+    private static final int MAXIMUM_QUERIES = 16;
+
+    private static final ThreadLocal<SearchContext> CURRENT = new ThreadLocal<>();
+
+    private final SearchMetrics delegate;
+    private final long thresholdNanos;
+    private final int samplesPerPeriod;
+    private final long samplingPeriodNanos;
+    private final int maximumShapes;
+
+    /**
+     * Fenêtre d'échantillonnage par forme de recherche
+     */
+    private final Map<SearchShape, ShapeWindow> windows = new ConcurrentHashMap<>();
+
+    private final BlockingQueue<String> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SlowSearchLog(SearchMetrics delegate, SlowSearchLogProperties properties) {
+        this.delegate = SearchMetrics.orNone(delegate);
+        this.thresholdNanos = properties.threshold().toNanos();
+        this.samplesPerPeriod = properties.samplesPerPeriod();
+        this.samplingPeriodNanos = properties.samplingPeriod().toNanos();
+        this.maximumShapes = properties.maximumShapes();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.writer = Thread.ofPlatform()
+                .name("dynamic-search-slow-log")
+                .daemon()
+                .start(this::drain);
+    }
+
+    /**
+     * Ajoute le journal des recherches lentes aux mesures fournies, s'il est activé
+     *
+     * @param delegate   Mesures décorées (null pour aucune mesure)
+     * @param properties Configuration du journal
+     * @return Mesures journalisant les recherches lentes, ou les mesures fournies si le journal est désactivé
+     */
+    public static SearchMetrics decorate(SearchMetrics delegate, SlowSearchLogProperties properties) {
+        return properties.enabled() ? new SlowSearchLog(delegate, properties) : SearchMetrics.orNone(delegate);
+    }
+
+    @Override
+    public <R> R observeRequest(String operation, Class<?> entityClass, Supplier<R> request) {
+        return delegate.observeRequest(operation, entityClass, request);
+    }
+
+    @Override
+    public <R> R timeSearch(String operation, Class<?> entityClass, List<SearchCriteria> criteria, Supplier<R> search) {
+        SearchContext previous = CURRENT.get();
+        SearchContext context = new SearchContext();
+        CURRENT.set(context);
+
+        long start = System.nanoTime();
+        try {
+            return delegate.timeSearch(operation, entityClass, criteria, search);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+            if (elapsed >= thresholdNanos) {
+                record(SearchShape.of(operation, entityClass, criteria), elapsed, context);
+            }
+        }
+    }
+
+    @Override
+    public <R> R timePhase(SearchPhase phase, Class<?> entityClass, Supplier<R> action) {
+        return delegate.timePhase(phase, entityClass, action);
+    }
+
+    @Override
+    public void nativeQuery(Supplier<String> description) {
+        SearchContext context = CURRENT.get();
+        if (context != null) {
+            context.add(description);
+        }
+        delegate.nativeQuery(description);
+    }
+
+    /**
+     * Nombre d'entrées abandonnées faute de place dans la file depuis le démarrage
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Arrête le thread d'écriture après avoir écrit les entrées en attente
+     */
+    @Override
+    public void close() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(SearchShape shape, long elapsedNanos, SearchContext context) {
+        ShapeWindow window = windows.get(shape);
+        if (window == null) {
+            if (windows.size() >= maximumShapes) {
+                windows.clear();
+            }
+            window = windows.computeIfAbsent(shape, ignored -> new ShapeWindow());
+        }
+
+        long suppressed = window.acquire(System.nanoTime(), samplesPerPeriod, samplingPeriodNanos);
+        if (suppressed < 0) {
+            return;
+        }
+
+        // Les requêtes sont rendues sur le thread de la recherche, tant que leur contexte (session, requête) est valide
+        if (!queue.offer(format(shape, elapsedNanos, suppressed, context))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private String format(SearchShape shape, long elapsedNanos, long suppressed, SearchContext context) {
+        StringBuilder entry = new StringBuilder()
+                .append("Slow search ").append(shape.entityClass().getSimpleName()).append('.').append(shape.operation())
+                .append(" took ").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(" ms")
+                .append(" (threshold ").append(TimeUnit.NANOSECONDS.toMillis(thresholdNanos)).append(" ms)")
+                .append(" shape=").append(shape.fingerprint())
+                .append(" suppressed=").append(suppressed)
+                .append(" dropped=").append(dropped.get());
+
+        for (String criteria : shape.criteria()) {
+            entry.append(System.lineSeparator()).append("  shape: ").append(criteria);
+        }
+        for (Supplier<String> query : context.queries()) {
+            entry.append(System.lineSeparator()).append("  query: ").append(render(query));
+        }
+        return entry.toString();
+    }
+
+    private static String render(Supplier<String> query) {
+        try {
+            return query.get();
+        } catch (RuntimeException exception) {
+            return "<unavailable: " + exception.getClass().getSimpleName() + ">";
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                String entry = running ? queue.take() : queue.poll();
+                if (entry != null) {
+                    log.warn("{}", entry);
+                }
+            } catch (InterruptedException exception) {
+                // close() : les entrées restantes sont écrites avant l'arrêt
+            } catch (RuntimeException exception) {
+                log.debug("Cannot write slow search entry", exception);
+            }
+        }
+    }
+
+    /**
+     * Requêtes natives signalées pendant une recherche
+     */
+    private static final class SearchContext {
+        private List<Supplier<String>> queries;
+
+        void add(Supplier<String> description) {
+            if (queries == null) {
+                queries = new ArrayList<>(2);
+            }
+            if (queries.size() < MAXIMUM_QUERIES) {
+                queries.add(description);
+            }
+        }
+
+        List<Supplier<String>> queries() {
+            return queries != null ? queries : List.of();
+        }
+    }
+
+    /**
+     * Quota d'entrées d'une forme sur la période courante
+     */
+    private static final class ShapeWindow {
+        private long start;
+        private int count;
+        private long suppressed;
+        private boolean started;
+
+        /**
+         * Réserve une entrée dans la période courante
+         *
+         * @return Nombre d'entrées supprimées depuis la dernière entrée écrite, ou -1 si le quota est atteint
+         */
+        synchronized long acquire(long now, int samples, long period) {
+            if (!started || now - start >= period) {
+                started = true;
+                start = now;
+                count = 0;
+            }
+            if (count >= samples) {
+                suppressed++;
+                return -1;
+            }
+            count++;
+            long skipped = suppressed;
+            suppressed = 0;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.cnadjim.dynamic.search.spring.starter.slowlog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration du journal des recherches lentes (préfixe dynamic-search.slow-log)
+ *
+ * <pre>
+ * dynamic-search:
+ *   slow-log:
+ *     enabled: true
+ *     threshold: 500ms
+ *     samples-per-period: 1
+ *     sampling-period: 1m
+ *     queue-capacity: 1000
+ *     maximum-shapes: 10000
+ * </pre>
+ *
+ * @param enabled          Active le journal (activé par défaut)
+ * @param threshold        Durée à partir de laquelle une recherche est considérée lente
+ * @param samplesPerPeriod Nombre de recherches lentes journalisées par forme de requête et par période
+ * @param samplingPeriod   Période d'échantillonnage ; les recherches lentes au-delà du quota sont seulement comptées
+ * @param queueCapacity    Nombre maximal d'entrées en attente d'écriture ; au-delà, les entrées sont abandonnées et comptées
+ * @param maximumShapes    Nombre maximal de formes suivies pour l'échantillonnage ; le suivi est réinitialisé au-delà
+ */
+@ConfigurationProperties("dynamic-search.slow-log")
+public record SlowSearchLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("500ms") Duration threshold,
+        @DefaultValue("1") int samplesPerPeriod,
+        @DefaultValue("1m") Duration samplingPeriod,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("10000") int maximumShapes
+) {
+
+    public SlowSearchLogProperties {
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("threshold must be positive or zero");
+        }
+        if (samplesPerPeriod < 1) {
+            throw new IllegalArgumentException("samplesPerPeriod must be greater than or equal to 1");
+        }
+        if (samplingPeriod.isNegative()) {
+            throw new IllegalArgumentException("samplingPeriod must be positive or zero");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be greater than or equal to 1");
+        }
+        if (maximumShapes < 1) {
+            throw new IllegalArgumentException("maximumShapes must be greater than or equal to 1");
+        }
+    }
+}
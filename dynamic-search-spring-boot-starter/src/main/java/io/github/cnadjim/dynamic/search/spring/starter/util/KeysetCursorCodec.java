@@ -0,0 +1,274 @@
+package io.github.cnadjim.dynamic.search.spring.starter.util;
+
+import io.github.cnadjim.dynamic.search.metadata.EntityFieldReader;
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import org.bson.types.ObjectId;
+import org.springframework.util.ClassUtils;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Codec des curseurs de pagination keyset
+ * <p>
+ * Un curseur encode, pour la dernière ligne d'une page, la valeur de chaque clé de tri
+ * (identifiant technique inclus comme départage) sous forme binaire typée puis Base64 URL.
+ * Le type Java de chaque valeur est conservé afin que les adaptateurs puissent construire
+ * des prédicats de seek comparant des valeurs du même type que la colonne.
+ * Au décodage, chaque valeur est vérifiée contre le type du champ de tri : un curseur altéré
+ * ou réutilisé avec d'autres tris est rejeté par une IllegalArgumentException.
+ * <p>
+ * Utilitaire partagé entre les différentes implémentations (JPA, MongoDB)
+ */
+public final class KeysetCursorCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte SHORT = 4;
+    private static final byte BYTE = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte BIG_DECIMAL = 8;
+    private static final byte BIG_INTEGER = 9;
+    private static final byte BOOLEAN = 10;
+    private static final byte LOCAL_DATE = 11;
+    private static final byte LOCAL_DATE_TIME = 12;
+    private static final byte INSTANT = 13;
+    private static final byte UUID_VALUE = 14;
+    private static final byte DATE = 15;
+    private static final byte SQL_DATE = 16;
+    private static final byte TIMESTAMP = 17;
+    private static final byte ENUM = 18;
+    private static final byte OBJECT_ID = 19;
+
+    /**
+     * Identifiants MongoDB ObjectId encodables (BSON présent sur le classpath)
+     */
+    private static final boolean OBJECT_ID_PRESENT = ClassUtils.isPresent("org.bson.types.ObjectId", KeysetCursorCodec.class.getClassLoader());
+
+    private KeysetCursorCodec() {
+        // Classe utilitaire - constructeur privé
+    }
+
+    /**
+     * Ajoute l'identifiant comme dernière clé de tri s'il n'est pas déjà présent
+     * Garantit un ordre total, indispensable pour que le seek ne saute ni ne répète de lignes
+     *
+     * @param sorts Tris demandés par le client
+     * @param idKey Nom du champ identifiant (peut être null si inconnu)
+     * @return Tris effectifs utilisés pour la pagination keyset
+     */
+    public static List<SortCriteria> withTieBreaker(List<SortCriteria> sorts, String idKey) {
+        List<SortCriteria> keysetSorts = new ArrayList<>(sorts);
+        if (idKey != null && keysetSorts.stream().noneMatch(sort -> idKey.equals(sort.key()))) {
+            keysetSorts.add(new SortCriteria(idKey, SortDirection.ASC));
+        }
+        return keysetSorts;
+    }
+
+    /**
+     * Construit le curseur de continuation à partir de la dernière ligne d'une page
+     *
+     * @param lastRow     Dernière ligne de la page (entité ou ligne projetée)
+     * @param keysetSorts Tris effectifs (voir {@link #withTieBreaker(List, String)})
+     * @return Curseur opaque
+     */
+    public static String encode(Object lastRow, List<SortCriteria> keysetSorts) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(keysetSorts.size());
+            for (SortCriteria sort : keysetSorts) {
+                writeValue(out, EntityFieldReader.readValue(lastRow, sort.key()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Décode un curseur en liste de valeurs typées, dans l'ordre des clés de tri
+     *
+     * @param cursor      Curseur opaque reçu du client
+     * @param entityClass Classe de l'entité, dont les champs donnent le type attendu de chaque valeur
+     * @param keysetSorts Tris effectifs (voir {@link #withTieBreaker(List, String)})
+     * @return Valeurs de la dernière ligne de la page précédente
+     * @throws IllegalArgumentException si le curseur est invalide ou ne correspond pas aux tris demandés
+     */
+    public static List<Object> decode(String cursor, Class<?> entityClass, List<SortCriteria> keysetSorts) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported keyset cursor version");
+            }
+
+            int size = in.readUnsignedByte();
+            if (size != keysetSorts.size()) {
+                throw new IllegalArgumentException("Keyset cursor does not match the requested sorts");
+            }
+
+            List<Object> values = new ArrayList<>(size);
+            for (SortCriteria sort : keysetSorts) {
+                Class<?> expectedType = EntityFieldReader.fieldType(entityClass, sort.key());
+                Object value = readValue(in, expectedType);
+                if (value != null && expectedType != null && !ClassUtils.resolvePrimitiveIfNecessary(expectedType).isInstance(value)) {
+                    throw new IllegalArgumentException("Keyset cursor value does not match the type of sort key " + sort.key());
+                }
+                values.add(value);
+            }
+            return values;
+        } catch (IOException | RuntimeException e) {
+            // Curseur tronqué, altéré (date hors limites, nombre invalide...) ou construit pour d'autres tris
+            throw new IllegalArgumentException("Invalid keyset cursor: " + cursor, e);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case null -> out.writeByte(NULL);
+            case String s -> {
+                out.writeByte(STRING);
+                out.writeUTF(s);
+            }
+            case Integer i -> {
+                out.writeByte(INTEGER);
+                out.writeInt(i);
+            }
+            case Long l -> {
+                out.writeByte(LONG);
+                out.writeLong(l);
+            }
+            case Short s -> {
+                out.writeByte(SHORT);
+                out.writeShort(s);
+            }
+            case Byte b -> {
+                out.writeByte(BYTE);
+                out.writeByte(b);
+            }
+            case Double d -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble(d);
+            }
+            case Float f -> {
+                out.writeByte(FLOAT);
+                out.writeFloat(f);
+            }
+            case BigDecimal bd -> {
+                out.writeByte(BIG_DECIMAL);
+                out.writeUTF(bd.toString());
+            }
+            case BigInteger bi -> {
+                out.writeByte(BIG_INTEGER);
+                out.writeUTF(bi.toString());
+            }
+            case Boolean b -> {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean(b);
+            }
+            case LocalDate date -> {
+                out.writeByte(LOCAL_DATE);
+                out.writeLong(date.toEpochDay());
+            }
+            case LocalDateTime dateTime -> {
+                out.writeByte(LOCAL_DATE_TIME);
+                out.writeLong(dateTime.toLocalDate().toEpochDay());
+                out.writeLong(dateTime.toLocalTime().toNanoOfDay());
+            }
+            case Instant instant -> {
+                out.writeByte(INSTANT);
+                out.writeLong(instant.getEpochSecond());
+                out.writeInt(instant.getNano());
+            }
+            case UUID uuid -> {
+                out.writeByte(UUID_VALUE);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            }
+            case Timestamp timestamp -> {
+                out.writeByte(TIMESTAMP);
+                out.writeLong(timestamp.getTime());
+                out.writeInt(timestamp.getNanos());
+            }
+            case java.sql.Date date -> {
+                out.writeByte(SQL_DATE);
+                out.writeLong(date.getTime());
+            }
+            case Date date -> {
+                out.writeByte(DATE);
+                out.writeLong(date.getTime());
+            }
+            case Enum<?> constant -> {
+                out.writeByte(ENUM);
+                out.writeUTF(constant.name());
+            }
+            case Object id when OBJECT_ID_PRESENT && id instanceof ObjectId objectId -> {
+                out.writeByte(OBJECT_ID);
+                out.write(objectId.toByteArray());
+            }
+            default -> throw new IllegalArgumentException("Unsupported keyset sort key type: " + value.getClass().getName());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(DataInputStream in, Class<?> expectedType) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> in.readUTF();
+            case INTEGER -> in.readInt();
+            case LONG -> in.readLong();
+            case SHORT -> in.readShort();
+            case BYTE -> in.readByte();
+            case DOUBLE -> in.readDouble();
+            case FLOAT -> in.readFloat();
+            case BIG_DECIMAL -> new BigDecimal(in.readUTF());
+            case BIG_INTEGER -> new BigInteger(in.readUTF());
+            case BOOLEAN -> in.readBoolean();
+            case LOCAL_DATE -> LocalDate.ofEpochDay(in.readLong());
+            case LOCAL_DATE_TIME -> LocalDate.ofEpochDay(in.readLong()).atStartOfDay().plusNanos(in.readLong());
+            case INSTANT -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+            case UUID_VALUE -> new UUID(in.readLong(), in.readLong());
+            case DATE -> new Date(in.readLong());
+            case SQL_DATE -> new java.sql.Date(in.readLong());
+            case TIMESTAMP -> {
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                yield timestamp;
+            }
+            case ENUM -> {
+                // Seul le nom est encodé : la constante est résolue dans l'enum du champ de tri
+                String name = in.readUTF();
+                if (expectedType == null || !expectedType.isEnum()) {
+                    throw new IllegalArgumentException("Keyset cursor enum value on a non-enum sort key");
+                }
+                yield Enum.valueOf((Class) expectedType, name);
+            }
+            case OBJECT_ID -> {
+                if (!OBJECT_ID_PRESENT) {
+                    throw new IllegalArgumentException("Keyset cursor ObjectId value without BSON on the classpath");
+                }
+                byte[] bytes = new byte[12];
+                in.readFully(bytes);
+                yield new ObjectId(bytes);
+            }
+            default -> throw new IllegalArgumentException("Unknown keyset value type: " + type);
+        };
+    }
+
+}
@@ -0,0 +1,153 @@
+package io.github.cnadjim.dynamic.search.spring.starter.metrics;
+
+import io.github.cnadjim.dynamic.search.annotation.Searchable;
+import io.github.cnadjim.dynamic.search.model.FieldType;
+import io.github.cnadjim.dynamic.search.model.FilterCriteria;
+import io.github.cnadjim.dynamic.search.model.FilterOperator;
+import io.github.cnadjim.dynamic.search.model.PageCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchCriteria;
+import io.github.cnadjim.dynamic.search.model.SearchPhase;
+import io.github.cnadjim.dynamic.search.model.SearchResult;
+import io.github.cnadjim.dynamic.search.model.SearchShape;
+import io.github.cnadjim.dynamic.search.port.out.EntityRepository;
+import io.github.cnadjim.dynamic.search.port.out.SearchMetrics;
+import io.github.cnadjim.dynamic.search.port.stub.InMemoryEntityDescriptorStorage;
+import io.github.cnadjim.dynamic.search.service.SearchService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import org.assertj.core.api.ThrowingConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics.EXECUTION_OBSERVATION;
+import static io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics.PHASE_OBSERVATION;
+import static io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics.QUERY_KEY;
+import static io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics.REQUEST_OBSERVATION;
+import static io.github.cnadjim.dynamic.search.spring.starter.metrics.ObservationSearchMetrics.SHAPE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Arbre des observations d'une recherche : requête -> exécution -> phases QUERY / FETCH / COUNT
+ */
+class ObservationSearchMetricsTest {
+
+    private static final String SQL = "select p from Product p where p.name = ?1";
+
+    private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+    private final InMemoryEntityDescriptorStorage entityDescriptorStorage = new InMemoryEntityDescriptorStorage();
+
+    private SearchMetrics searchMetrics;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchMetrics = ObservationSearchMetrics.decorate(null, observationRegistry, entityDescriptorStorage);
+        searchService = SearchService.builder(entityDescriptorStorage)
+                .searchExecutor(Runnable::run)
+                .searchMetrics(searchMetrics)
+                .build();
+        searchService.registerEntity(Product.class, new PhasedRepository(searchMetrics));
+    }
+
+    @Test
+    void shouldNestPhasesUnderExecutionUnderRequest() {
+        SearchCriteria criteria = criteria();
+
+        searchMetrics.observeRequest("search", Product.class, () -> searchService.search(criteria, Product.class));
+
+        assertThat(observationRegistry)
+                .hasNumberOfObservationsWithNameEqualTo(REQUEST_OBSERVATION, 1)
+                .hasNumberOfObservationsWithNameEqualTo(EXECUTION_OBSERVATION, 1)
+                .hasNumberOfObservationsWithNameEqualTo(PHASE_OBSERVATION, 3);
+
+        assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo(REQUEST_OBSERVATION).that()
+                .doesNotHaveParentObservation()
+                .hasLowCardinalityKeyValue("operation", "search");
+
+        assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo(EXECUTION_OBSERVATION).that()
+                .hasParentObservationContextMatching(parent -> REQUEST_OBSERVATION.equals(parent.getName()))
+                .hasLowCardinalityKeyValue("backend", "test")
+                .hasHighCardinalityKeyValue(SHAPE_KEY, SearchShape.of("search", Product.class, List.of(criteria)).fingerprint());
+
+        List<String> phases = new ArrayList<>();
+        Predicate<Observation.ContextView> childOfExecution = parent -> EXECUTION_OBSERVATION.equals(parent.getName());
+        ThrowingConsumer<Observation.Context> recordPhase = context -> phases.add(context.getLowCardinalityKeyValue("phase").getValue());
+        assertThat(observationRegistry).forAllObservationsWithNameEqualTo(PHASE_OBSERVATION, phase -> phase
+                .hasParentObservationContextMatching(childOfExecution)
+                .satisfies(recordPhase));
+        assertThat(phases).containsExactly("query", "fetch", "count");
+    }
+
+    @Test
+    void shouldTagNativeQueryOnTheObservationReportingIt() {
+        searchService.search(criteria(), Product.class);
+
+        assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo(EXECUTION_OBSERVATION).that()
+                .doesNotHaveParentObservation()
+                .doesNotHaveHighCardinalityKeyValue(QUERY_KEY, SQL);
+
+        ThrowingConsumer<Observation.Context> queryOnFetchOnly = context -> {
+            String phaseName = context.getLowCardinalityKeyValue("phase").getValue();
+            if (phaseName.equals("fetch")) {
+                assertThat(context.getHighCardinalityKeyValue(QUERY_KEY).getValue()).isEqualTo(SQL);
+            } else {
+                assertThat(context.getHighCardinalityKeyValue(QUERY_KEY)).isNull();
+            }
+        };
+        assertThat(observationRegistry).forAllObservationsWithNameEqualTo(PHASE_OBSERVATION, phase -> phase.satisfies(queryOnFetchOnly));
+    }
+
+    private static SearchCriteria criteria() {
+        return SearchCriteria.builder()
+                .filters(List.of(FilterCriteria.builder()
+                        .key("name")
+                        .operator(FilterOperator.EQUALS)
+                        .fieldType(FieldType.STRING)
+                        .value("laptop")
+                        .build()))
+                .pageCriteria(new PageCriteria(0, 10))
+                .build();
+    }
+
+    static class Product {
+        @Searchable(type = FieldType.STRING)
+        private String name;
+    }
+
+    /**
+     * Adaptateur exécutant les phases comme les adaptateurs réels : construction, lecture (requête native signalée), comptage
+     */
+    private record PhasedRepository(SearchMetrics searchMetrics) implements EntityRepository<Product> {
+
+        @Override
+        public String backend() {
+            return "test";
+        }
+
+        @Override
+        public SearchResult<Product> findByCriteria(SearchCriteria criteria) {
+            searchMetrics.timePhase(SearchPhase.QUERY, Product.class, () -> SQL);
+            List<Product> content = searchMetrics.timePhase(SearchPhase.FETCH, Product.class, () -> {
+                searchMetrics.nativeQuery(() -> SQL);
+                return List.of(new Product());
+            });
+            long total = searchMetrics.timePhase(SearchPhase.COUNT, Product.class, () -> 1L);
+
+            return SearchResult.<Product>builder()
+                    .content(content)
+                    .pageSize(10)
+                    .totalElements(total)
+                    .totalPages(1)
+                    .first(true)
+                    .last(true)
+                    .build();
+        }
+    }
+}
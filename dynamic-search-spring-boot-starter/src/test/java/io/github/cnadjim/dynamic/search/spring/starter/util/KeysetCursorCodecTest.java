@@ -0,0 +1,70 @@
+package io.github.cnadjim.dynamic.search.spring.starter.util;
+
+import io.github.cnadjim.dynamic.search.model.SortCriteria;
+import io.github.cnadjim.dynamic.search.model.SortDirection;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Aller-retour des valeurs de tri dans un curseur keyset et rejet des curseurs invalides
+ */
+class KeysetCursorCodecTest {
+
+    private static final List<SortCriteria> SORTS = List.of(
+            new SortCriteria("status", SortDirection.ASC),
+            new SortCriteria("createdAt", SortDirection.DESC),
+            new SortCriteria("updatedAt", SortDirection.ASC),
+            new SortCriteria("id", SortDirection.ASC));
+
+    @Test
+    void shouldRoundTripDatesEnumsAndObjectIds() {
+        Timestamp updatedAt = Timestamp.valueOf("2024-03-01 10:15:30.123456789");
+        Order order = new Order(Status.SHIPPED, new Date(1_700_000_000_123L), updatedAt, new ObjectId(), LocalDate.of(2024, 3, 1));
+
+        List<Object> values = KeysetCursorCodec.decode(KeysetCursorCodec.encode(order, SORTS), Order.class, SORTS);
+
+        assertThat(values).containsExactly(order.status, order.createdAt, updatedAt, order.id);
+        assertThat(((Timestamp) values.get(2)).getNanos()).isEqualTo(123456789);
+    }
+
+    @Test
+    void shouldRejectCursorReusedWithOtherSortsOfTheSameArity() {
+        Order order = new Order(Status.NEW, new Date(), null, new ObjectId(), LocalDate.now());
+        String cursor = KeysetCursorCodec.encode(order, SORTS);
+
+        List<SortCriteria> otherSorts = List.of(
+                new SortCriteria("day", SortDirection.ASC),
+                new SortCriteria("createdAt", SortDirection.DESC),
+                new SortCriteria("updatedAt", SortDirection.ASC),
+                new SortCriteria("id", SortDirection.ASC));
+
+        assertThatThrownBy(() -> KeysetCursorCodec.decode(cursor, Order.class, otherSorts))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        // Version 1, une clé, LocalDate hors de l'intervalle supporté
+        byte[] bytes = {1, 1, 11, 127, -1, -1, -1, -1, -1, -1, -1};
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThatThrownBy(() -> KeysetCursorCodec.decode(cursor, Order.class, List.of(new SortCriteria("day", SortDirection.ASC))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursorCodec.decode("AQE", Order.class, List.of(new SortCriteria("day", SortDirection.ASC))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    enum Status {NEW, SHIPPED}
+
+    record Order(Status status, Date createdAt, Timestamp updatedAt, ObjectId id, LocalDate day) {
+    }
+}